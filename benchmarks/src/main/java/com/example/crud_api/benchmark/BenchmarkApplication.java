@@ -0,0 +1,120 @@
+package com.example.crud_api.benchmark;
+
+import com.example.crud_api.CrudApiApplication;
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentProjectionLoader;
+import com.example.crud_api.student.StudentRepository;
+import com.example.crud_api.student.counts.StudentCountService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts the application for benchmarks in one of its storage modes:
+ * <ul>
+ *     <li>{@code h2} - the default in-memory H2 database</li>
+ *     <li>{@code persistent} - the {@code persistent} profile, an H2 file in a scratch directory</li>
+ *     <li>{@code memory} - the {@code memory} profile, with its write-ahead log in a scratch directory</li>
+ * </ul>
+ * The context runs without a web server and with statement logging off, so benchmarks measure
+ * the service and storage layers rather than console output.
+ */
+public final class BenchmarkApplication {
+
+    public static final String H2 = "h2";
+    public static final String PERSISTENT = "persistent";
+    public static final String MEMORY = "memory";
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String storage, Path directory) {
+        return start(storage, directory, Map.of());
+    }
+
+    /**
+     * @param directory scratch directory for the database file or write-ahead log
+     * @param properties additional properties, overriding the defaults set here
+     */
+    public static ConfigurableApplicationContext start(String storage, Path directory, Map<String, Object> properties) {
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("spring.main.banner-mode", "off");
+        defaults.put("spring.jpa.show-sql", "false");
+        defaults.put("logging.level.root", "warn");
+        defaults.put("logging.level.org.hibernate.stat", "warn");
+        defaults.put("logging.level.org.hibernate.type", "warn");
+        // Keep background jobs from running into the measurements
+        defaults.put("student.archive.enabled", "false");
+        defaults.put("student.readiness.interval", "PT1H");
+        defaults.put("student.hibernate-metrics.refresh-interval", "PT1H");
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CrudApiApplication.class)
+                .web(WebApplicationType.NONE);
+        switch (storage) {
+            case H2 -> {
+                // application.properties as is
+            }
+            case PERSISTENT -> {
+                builder.profiles(PERSISTENT);
+                defaults.put("student.storage.path", directory.resolve("studentdb").toString());
+            }
+            case MEMORY -> {
+                builder.profiles(MEMORY);
+                defaults.put("student.memory.wal.path", directory.resolve("student-wal").toString());
+            }
+            default -> throw new IllegalArgumentException("Unknown storage mode: " + storage);
+        }
+        defaults.putAll(properties);
+        // As command line arguments, so they take precedence over application.properties
+        String[] args = defaults.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return builder.run(args);
+    }
+
+    /**
+     * Saves {@code count} generated students, numbered from {@code first}, and returns their IDs.
+     * <p>
+     * The students are saved in one batch through the repository, which publishes no change
+     * events, so the projections and counts are then rebuilt from the roster as they are at
+     * startup.
+     */
+    public static long[] seed(ConfigurableApplicationContext context, int first, int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int n = first; n < first + count; n++) {
+            students.add(student(n));
+        }
+        long[] ids = context.getBean(StudentRepository.class).saveAll(students).stream()
+                .mapToLong(Student::getId)
+                .toArray();
+        context.getBean(StudentProjectionLoader.class).load();
+        context.getBean(StudentCountService.class).reconcile();
+        return ids;
+    }
+
+    /**
+     * A valid student whose passport number and email are unique for each {@code n} below ten million.
+     */
+    public static Student student(int n) {
+        return new Student("Benchmark Student " + n, String.format("X%07d", n), 18 + n % 40,
+                "student" + n + "@benchmark.example.com", LocalDateTime.of(2024, 9, 1, 9, 0), 2024 + n % 7);
+    }
+
+    public static void delete(Path directory) {
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
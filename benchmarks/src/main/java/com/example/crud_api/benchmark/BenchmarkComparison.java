@@ -0,0 +1,116 @@
+package com.example.crud_api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files ({@code -rf json}), typically from two commits.
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <current.json> [threshold-percent]}
+ * <p>
+ * Every benchmark and parameter combination present in both files is listed with both scores
+ * and the relative change. A change is only called a regression or an improvement when it
+ * exceeds the threshold (default 5%) and the two error intervals don't overlap; anything
+ * else is noise.
+ */
+public final class BenchmarkComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 5.0;
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold-percent]");
+            return;
+        }
+        Map<String, JsonNode> baseline = read(Path.of(args[0]));
+        Map<String, JsonNode> current = read(Path.of(args[1]));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        int regressions = 0;
+        int improvements = 0;
+        System.out.printf(Locale.ROOT, "%-90s %22s %22s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "%-90s %22s %22s%n", entry.getKey(), "-", score(entry.getValue()));
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            double oldScore = before.path("primaryMetric").path("score").asDouble();
+            double newScore = after.path("primaryMetric").path("score").asDouble();
+            double change = oldScore == 0 ? 0 : (newScore - oldScore) / oldScore * 100;
+            String verdict = "";
+            if (Math.abs(change) > threshold && !overlap(before, after)) {
+                // Throughput is better when higher; every other mode measures time
+                boolean better = after.path("mode").asText().equals("thrpt") ? change > 0 : change < 0;
+                verdict = better ? "  improvement" : "  REGRESSION";
+                if (better) {
+                    improvements++;
+                } else {
+                    regressions++;
+                }
+            }
+            System.out.printf(Locale.ROOT, "%-90s %22s %22s %+8.1f%%%s%n",
+                    entry.getKey(), score(before), score(after), change, verdict);
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf(Locale.ROOT, "%-90s %22s %22s%n", key, score(baseline.get(key)), "-");
+            }
+        }
+        System.out.printf(Locale.ROOT, "%n%d regressions, %d improvements (threshold %.1f%%)%n",
+                regressions, improvements, threshold);
+    }
+
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            results.put(key(result), result);
+        }
+        return results;
+    }
+
+    /** Benchmark method without the package, followed by its parameters, e.g. {@code StudentJsonBenchmark.encode format=cbor}. */
+    private static String key(JsonNode result) {
+        String benchmark = result.path("benchmark").asText();
+        int method = benchmark.lastIndexOf('.');
+        int type = method > 0 ? benchmark.lastIndexOf('.', method - 1) : -1;
+        StringBuilder key = new StringBuilder(benchmark.substring(type + 1));
+        Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+        while (params.hasNext()) {
+            Map.Entry<String, JsonNode> param = params.next();
+            key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+        }
+        return key.toString();
+    }
+
+    private static String score(JsonNode result) {
+        JsonNode metric = result.path("primaryMetric");
+        return String.format(Locale.ROOT, "%.3f +- %.3f %s", metric.path("score").asDouble(),
+                errorOf(metric), metric.path("scoreUnit").asText());
+    }
+
+    private static boolean overlap(JsonNode before, JsonNode after) {
+        JsonNode a = before.path("primaryMetric");
+        JsonNode b = after.path("primaryMetric");
+        double aScore = a.path("score").asDouble();
+        double bScore = b.path("score").asDouble();
+        return Math.abs(aScore - bScore) <= errorOf(a) + errorOf(b);
+    }
+
+    // JMH writes "NaN" when there were too few iterations to estimate the error
+    private static double errorOf(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
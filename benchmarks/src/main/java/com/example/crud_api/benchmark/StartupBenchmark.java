@@ -0,0 +1,80 @@
+package com.example.crud_api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time until the application context is ready, per storage mode, opening an existing store of
+ * {@code datasetSize} students. The {@code h2} mode starts from the seed data every time, so
+ * its dataset size makes no difference; it is the baseline. In the {@code memory} mode the
+ * write-ahead log written during setup is replayed.
+ * <p>
+ * Each fork warms up on a few starts first; the first start of a JVM is not what this measures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(2)
+public class StartupBenchmark {
+
+    // The log doesn't need to be forced while the store is seeded
+    private static final Map<String, Object> SEED_PROPERTIES = Map.of("student.memory.wal.durability", "OS");
+
+    @Param({BenchmarkApplication.H2, BenchmarkApplication.PERSISTENT, BenchmarkApplication.MEMORY})
+    public String storage;
+
+    @Param({"1000", "100000"})
+    public int datasetSize;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void seed() throws IOException {
+        directory = Files.createTempDirectory("crud-api-startup-benchmark");
+        if (!storage.equals(BenchmarkApplication.H2)) {
+            try (ConfigurableApplicationContext seeding = BenchmarkApplication.start(storage, directory, SEED_PROPERTIES)) {
+                BenchmarkApplication.seed(seeding, 0, datasetSize);
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() {
+        BenchmarkApplication.delete(directory);
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext start() {
+        context = BenchmarkApplication.start(storage, directory);
+        return context;
+    }
+}
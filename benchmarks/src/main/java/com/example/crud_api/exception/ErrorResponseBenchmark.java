@@ -0,0 +1,63 @@
+package com.example.crud_api.exception;
+
+import com.example.crud_api.student.StudentNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The error paths of the API: raising the exception, building the {@link ErrorResponse} the way
+ * {@link GlobalExceptionHandler} does, and writing it as JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private static final List<String> FIELD_ERRORS = List.of(
+            "name: Name must be between 2 and 100 characters",
+            "passportNumber: Passport number must be in format: one letter followed by 7 digits (e.g., A1234567)",
+            "age: Student must be at least 16 years old",
+            "email: Please provide a valid email address",
+            "graduationYear: Graduation year must be between 2020 and 2030");
+
+    private final ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Benchmark
+    public ErrorResponse notFoundResponse() {
+        StudentNotFoundException ex = new StudentNotFoundException("Student not found with id: 12345");
+        return new ErrorResponse(HttpStatus.NOT_FOUND.value(), "Not Found", ex.getMessage(), "/api/v1/students/12345");
+    }
+
+    @Benchmark
+    public byte[] notFoundJson() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(notFoundResponse());
+    }
+
+    @Benchmark
+    public byte[] validationFailedJson() throws JsonProcessingException {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), "Validation Failed",
+                "Invalid input data", "/api/v1/students");
+        errorResponse.setDetails(FIELD_ERRORS);
+        return mapper.writeValueAsBytes(errorResponse);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.benchmark.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A running application per storage mode, seeded with {@code datasetSize} generated students.
+ */
+@State(Scope.Benchmark)
+public class StudentApplicationState {
+
+    @Param({BenchmarkApplication.H2, BenchmarkApplication.PERSISTENT, BenchmarkApplication.MEMORY})
+    public String storage;
+
+    @Param({"1000", "100000"})
+    public int datasetSize;
+
+    StudentService studentService;
+    StudentRepository studentRepository;
+    long[] ids;
+
+    private ConfigurableApplicationContext context;
+    private Path directory;
+    private AtomicInteger nextStudent;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        directory = Files.createTempDirectory("crud-api-benchmark");
+        context = BenchmarkApplication.start(storage, directory);
+        studentService = context.getBean(StudentService.class);
+        studentRepository = context.getBean(StudentRepository.class);
+        ids = BenchmarkApplication.seed(context, 0, datasetSize);
+        nextStudent = new AtomicInteger(datasetSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+        BenchmarkApplication.delete(directory);
+    }
+
+    /** A seeded student, chosen uniformly. */
+    long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    /** A seeded student number, chosen uniformly; see {@link BenchmarkApplication#student(int)}. */
+    int randomStudent() {
+        return ThreadLocalRandom.current().nextInt(datasetSize);
+    }
+
+    /** A student that has not been saved yet. */
+    Student newStudent() {
+        return BenchmarkApplication.student(nextStudent.getAndIncrement());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.benchmark.BenchmarkApplication;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding student rosters in each wire format, with {@link StudentJsonCodec}
+ * and with reflective Jackson bean serialization.
+ * <p>
+ * The mappers are configured like the application's (ISO timestamps, the JSR-310 module). The
+ * encoded size of each roster is printed during setup, since JMH only reports times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentJsonBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"codec", "reflective"})
+    public String serializer;
+
+    @Param({"1", "100"})
+    public int students;
+
+    private ObjectMapper mapper;
+    private JavaType rosterType;
+    private List<Student> roster;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .factory(factory(format));
+        if (serializer.equals("codec")) {
+            builder.serializerByType(Student.class, new StudentJsonCodec.Serializer())
+                    .deserializerByType(Student.class, new StudentJsonCodec.Deserializer());
+        }
+        mapper = builder.build();
+        rosterType = mapper.getTypeFactory().constructCollectionType(List.class, Student.class);
+
+        roster = new ArrayList<>(students);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 9, 1, 9, 0, 12, 345_678_000);
+        for (int n = 0; n < students; n++) {
+            Student student = BenchmarkApplication.student(n);
+            student.setId(10_000L + n);
+            student.setStatus(StudentStatus.ACTIVE);
+            student.setCreatedAt(createdAt);
+            student.setUpdatedAt(createdAt.plusDays(n));
+            student.setVersion((long) n % 3);
+            roster.add(student);
+        }
+        encoded = mapper.writeValueAsBytes(roster);
+        System.out.printf("%n%s/%s: %d students encode to %d bytes%n", format, serializer, students, encoded.length);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public List<Student> decode() throws IOException {
+        return mapper.readValue(encoded, rosterType);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.benchmark.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StudentRepository} finders, comparing the JPA repository over H2 (in memory and file
+ * backed) with {@code InMemoryStudentRepository}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentRepositoryBenchmark {
+
+    @Benchmark
+    public Optional<Student> findById(StudentApplicationState state) {
+        return state.studentRepository.findById(state.randomId());
+    }
+
+    @Benchmark
+    public Optional<Student> findByPassportNumber(StudentApplicationState state) {
+        return state.studentRepository.findByPassportNumber(
+                BenchmarkApplication.student(state.randomStudent()).getPassportNumber());
+    }
+
+    @Benchmark
+    public Optional<Student> findByEmail(StudentApplicationState state) {
+        return state.studentRepository.findByEmail(BenchmarkApplication.student(state.randomStudent()).getEmail());
+    }
+
+    @Benchmark
+    public boolean existsByPassportNumber(StudentApplicationState state) {
+        return state.studentRepository.existsByPassportNumber(
+                BenchmarkApplication.student(state.randomStudent()).getPassportNumber());
+    }
+
+    @Benchmark
+    public List<Student> findByGraduationYear(StudentApplicationState state) {
+        return state.studentRepository.findByGraduationYear(2024 + ThreadLocalRandom.current().nextInt(7));
+    }
+
+    @Benchmark
+    public List<Student> findByStatus(StudentApplicationState state) {
+        return state.studentRepository.findByStatus(StudentStatus.SUSPENDED);
+    }
+}
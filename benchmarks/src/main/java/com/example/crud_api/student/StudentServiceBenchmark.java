@@ -0,0 +1,68 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.benchmark.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StudentService} operations end to end: storage, change events, history, counts and caches,
+ * as the API drives them.
+ * <p>
+ * Writes return the dataset to its seeded size (a create is followed by its delete, a suspend by
+ * an activate), so every iteration measures the same amount of data.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentServiceBenchmark {
+
+    @Benchmark
+    public Optional<Student> findById(StudentApplicationState state) {
+        return state.studentService.findStudentById(state.randomId());
+    }
+
+    @Benchmark
+    public Optional<Student> findMissingId(StudentApplicationState state) {
+        long max = state.ids[state.ids.length - 1];
+        return state.studentService.findStudentById(max + 1 + ThreadLocalRandom.current().nextInt(1000));
+    }
+
+    @Benchmark
+    public List<Student> findActiveStudents(StudentApplicationState state) {
+        return state.studentService.findActiveStudents();
+    }
+
+    @Benchmark
+    public Student createAndDelete(StudentApplicationState state) {
+        Student created = state.studentService.createStudent(state.newStudent());
+        state.studentService.deleteStudent(created.getId());
+        return created;
+    }
+
+    @Benchmark
+    public Student update(StudentApplicationState state) {
+        int n = state.randomStudent();
+        Student data = BenchmarkApplication.student(n);
+        data.setName("Renamed Student " + n + " " + ThreadLocalRandom.current().nextInt());
+        return state.studentService.updateStudent(state.ids[n], data);
+    }
+
+    @Benchmark
+    public Student suspendAndActivate(StudentApplicationState state) {
+        long id = state.randomId();
+        state.studentService.suspendStudent(id);
+        return state.studentService.activateStudent(id);
+    }
+}
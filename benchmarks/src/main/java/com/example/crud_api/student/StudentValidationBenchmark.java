@@ -0,0 +1,81 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.benchmark.BenchmarkApplication;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating a request body with {@link StudentValidator} and with the Bean Validation engine
+ * behind Spring's adapter, which is what {@code @Valid} used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentValidationBenchmark {
+
+    @Param({"studentValidator", "beanValidation"})
+    public String validator;
+
+    /** {@code valid}, {@code invalid} (every field wrong) or {@code quotedEmail} (an email outside the fast path). */
+    @Param({"valid", "invalid", "quotedEmail"})
+    public String input;
+
+    private ValidatorFactory validatorFactory;
+    private Validator studentValidator;
+    private Student student;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        studentValidator = validator.equals("studentValidator")
+                ? new StudentValidator()
+                : new SpringValidatorAdapter(validatorFactory.getValidator());
+        student = BenchmarkApplication.student(42);
+        switch (input) {
+            case "valid" -> { }
+            case "invalid" -> {
+                student.setName("X");
+                student.setPassportNumber("123");
+                student.setAge(12);
+                student.setEmail("not-an-email");
+                student.setGraduationYear(2050);
+            }
+            case "quotedEmail" -> student.setEmail("\"john doe\"@example.com");
+            default -> throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Errors validate() {
+        Errors errors = new BeanPropertyBindingResult(student, "student");
+        studentValidator.validate(student, errors);
+        return errors;
+    }
+}
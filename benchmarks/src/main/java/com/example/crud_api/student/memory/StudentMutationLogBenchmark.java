@@ -0,0 +1,83 @@
+package com.example.crud_api.student.memory;
+
+import com.example.crud_api.benchmark.BenchmarkApplication;
+import com.example.crud_api.student.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Committing one write to the {@link FileStudentMutationLog} in each durability mode: staging
+ * the entry and waiting until it is as durable as the mode promises.
+ * <p>
+ * Run with several threads ({@code -t 8}) to see concurrent commits share a flush.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentMutationLogBenchmark {
+
+    private static final int RECORDS = 1024;
+
+    @Param({"FSYNC_PER_COMMIT", "FSYNC_INTERVAL", "OS"})
+    public WalDurability durability;
+
+    private Path directory;
+    private StudentMutationLog mutationLog;
+    private StudentRecord[] records;
+
+    @Setup(Level.Trial)
+    public void open() throws IOException {
+        directory = Files.createTempDirectory("crud-api-wal-benchmark");
+        mutationLog = new FileStudentMutationLog(directory, durability, Duration.ofMillis(50));
+        // Recovery opens the first segment
+        new InMemoryStudentRepository(RECORDS, mutationLog);
+
+        records = new StudentRecord[RECORDS];
+        long micros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        for (int n = 0; n < RECORDS; n++) {
+            Student student = BenchmarkApplication.student(n);
+            records[n] = StudentRecord.of(student, n + 1, 0, micros, micros);
+        }
+    }
+
+    /** Drops the log written by the previous iteration, which would otherwise grow for the whole run. */
+    @Setup(Level.Iteration)
+    public void truncate() {
+        mutationLog.writeSnapshot(mutationLog.rotate(), List.of(), 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        mutationLog.close();
+        BenchmarkApplication.delete(directory);
+    }
+
+    @Benchmark
+    public long commitPut() {
+        long sequence = mutationLog.logPut(records[ThreadLocalRandom.current().nextInt(RECORDS)]);
+        mutationLog.awaitDurable(sequence);
+        return sequence;
+    }
+}
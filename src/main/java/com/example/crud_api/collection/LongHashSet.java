@@ -0,0 +1,158 @@
+package com.example.crud_api.collection;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Open-addressing hash set of primitive {@code long} values, with the same layout and
+ * deletion strategy as {@link LongIntHashMap}. Not thread-safe.
+ */
+public final class LongHashSet {
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private int resizeAt;
+    private boolean hasZero;
+
+    public LongHashSet() {
+        this(8);
+    }
+
+    public LongHashSet(int expectedSize) {
+        allocate(LongIntHashMap.capacityFor(expectedSize));
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) {
+            return hasZero;
+        }
+        int slot = LongIntHashMap.slot(value, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the value was not already present
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+        int slot = LongIntHashMap.slot(value, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if the value was present
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            if (!hasZero) {
+                return false;
+            }
+            hasZero = false;
+            size--;
+            return true;
+        }
+        int slot = LongIntHashMap.slot(value, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (hasZero) {
+            action.accept(0);
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size];
+        int i = 0;
+        if (hasZero) {
+            result[i++] = 0;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    private void shiftBack(int freed) {
+        int current = freed;
+        while (true) {
+            current = (current + 1) & mask;
+            long key = keys[current];
+            if (key == 0) {
+                break;
+            }
+            int home = LongIntHashMap.slot(key, mask);
+            if (((current - home) & mask) >= ((current - freed) & mask)) {
+                keys[freed] = key;
+                freed = current;
+            }
+        }
+        keys[freed] = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        allocate(newCapacity);
+        for (long key : oldKeys) {
+            if (key != 0) {
+                int slot = LongIntHashMap.slot(key, mask);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity >>> 1;
+    }
+}
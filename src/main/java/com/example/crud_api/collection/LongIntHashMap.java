@@ -0,0 +1,185 @@
+package com.example.crud_api.collection;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to {@code int} values.
+ * <p>
+ * Uses linear probing with backward-shift deletion, so there are no tombstones and
+ * lookups stay short after many removals. Key {@code 0} is stored out of line because
+ * it marks empty slots. Not thread-safe.
+ */
+public final class LongIntHashMap {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final int missingValue;
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    /**
+     * @param expectedSize number of entries to size the table for
+     * @param missingValue value returned by {@link #get} and {@link #remove} for absent keys
+     */
+    public LongIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int get(long key) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : missingValue;
+        }
+        long[] keys = this.keys;
+        int mask = this.mask;
+        int slot = slot(key, mask);
+        // Bounded so a racy optimistic read over a table being modified can't spin forever
+        for (int probes = 0; probes <= mask; probes++) {
+            long existing = keys[slot];
+            if (existing == key) {
+                return values[slot];
+            }
+            if (existing == 0) {
+                return missingValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != missingValue;
+    }
+
+    /**
+     * @return the previous value, or the missing value if the key was absent
+     */
+    public int put(long key, int value) {
+        if (key == 0) {
+            int previous = hasZeroKey ? zeroValue : missingValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int slot = slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return missingValue;
+    }
+
+    /**
+     * @return the removed value, or the missing value if the key was absent
+     */
+    public int remove(long key) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                return missingValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        int slot = slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                int removed = values[slot];
+                shiftBack(slot);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    // Moves following entries of the probe chain into the freed slot
+    private void shiftBack(int freed) {
+        int current = freed;
+        while (true) {
+            current = (current + 1) & mask;
+            long key = keys[current];
+            if (key == 0) {
+                break;
+            }
+            int home = slot(key, mask);
+            // Entry can move if its home slot is not cyclically in (freed, current]
+            if (((current - home) & mask) >= ((current - freed) & mask)) {
+                keys[freed] = key;
+                values[freed] = values[current];
+                freed = current;
+            }
+        }
+        keys[freed] = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key, mask);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity >>> 1;
+    }
+
+    static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity >>> 1 <= expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
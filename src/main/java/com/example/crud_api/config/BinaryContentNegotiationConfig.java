@@ -0,0 +1,34 @@
+package com.example.crud_api.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary encodings of the JSON API for service-to-service consumers.
+ * <p>
+ * Requests and responses can use {@code application/cbor} or {@code application/x-jackson-smile}
+ * instead of JSON, selected with the usual {@code Accept} and {@code Content-Type} headers.
+ * Both carry the same documents as JSON, without the text encoding of numbers and timestamps
+ * (Smile also writes repeated field names once). JSON stays the default.
+ * <p>
+ * The mappers are built from Boot's {@link Jackson2ObjectMapperBuilder}, so {@code spring.jackson.*}
+ * settings and registered modules apply to every encoding alike.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryContentNegotiationConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.crud_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Database initialization for the file-backed "persistent" profile.
+ * <p>
+ * The schema script is idempotent and always applied, so tables added in later
+ * releases are created on an existing database. The seed data is only applied
+ * when the student table is empty, which keeps restarts of a populated database fast.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("persistent")
+public class PersistentStorageConfig {
+
+    @Bean
+    public DataSourceScriptDatabaseInitializer persistentStorageInitializer(
+            DataSource dataSource,
+            @Value("${student.storage.seed-data:true}") boolean seedData) {
+
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setMode(DatabaseInitializationMode.ALWAYS);
+        settings.setSchemaLocations(List.of("classpath:schema.sql"));
+        if (seedData && isStudentTableEmpty(dataSource)) {
+            settings.setDataLocations(List.of("classpath:data.sql"));
+        }
+        return new DataSourceScriptDatabaseInitializer(dataSource, settings);
+    }
+
+    static boolean isStudentTableEmpty(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Integer tables = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.tables where upper(table_name) = 'STUDENT'",
+                Integer.class);
+        if (tables == null || tables == 0) {
+            return true;
+        }
+        Boolean hasRows = jdbcTemplate.queryForObject(
+                "select exists(select 1 from student)", Boolean.class);
+        return !Boolean.TRUE.equals(hasRows);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.crud_api.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the cached {@link ReadinessProbe} sample as the {@code databaseReadiness} health
+ * contributor, which is part of the actuator readiness group.
+ */
+@Component
+public class DatabaseReadinessHealthIndicator implements HealthIndicator {
+
+    static final Status DEGRADED = new Status("DEGRADED", "Serving, but slower or closer to saturation than allowed");
+
+    private final ReadinessProbe readinessProbe;
+
+    public DatabaseReadinessHealthIndicator(ReadinessProbe readinessProbe) {
+        this.readinessProbe = readinessProbe;
+    }
+
+    @Override
+    public Health health() {
+        ReadinessSample sample = readinessProbe.current();
+        Status status = switch (sample.status()) {
+            case UP -> Status.UP;
+            case DEGRADED -> DEGRADED;
+            case DOWN -> Status.DOWN;
+        };
+        Health.Builder health = Health.status(status)
+                .withDetail("checkedAt", sample.checkedAt())
+                .withDetail("activeConnections", sample.activeConnections())
+                .withDetail("maxConnections", sample.maxConnections())
+                .withDetail("pendingThreads", sample.pendingThreads())
+                .withDetail("reasons", sample.reasons());
+        if (sample.probeMillis() != null) {
+            health.withDetail("probeMillis", sample.probeMillis());
+        }
+        if (sample.p99Millis() != null) {
+            health.withDetail("p99Millis", sample.p99Millis());
+        }
+        return health.build();
+    }
+}
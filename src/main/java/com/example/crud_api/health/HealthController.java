@@ -1,8 +1,11 @@
 package com.example.crud_api.health;
 
+import com.example.crud_api.observability.EndpointLatencies;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -16,28 +19,47 @@ import java.util.Map;
 @Tag(name = "Health Check", description = "API health and status endpoints")
 public class HealthController {
 
+    private final EndpointLatencies endpointLatencies;
+    private final ReadinessProbe readinessProbe;
+
+    public HealthController(EndpointLatencies endpointLatencies, ReadinessProbe readinessProbe) {
+        this.endpointLatencies = endpointLatencies;
+        this.readinessProbe = readinessProbe;
+    }
+
     @GetMapping("/health")
     @Operation(
             summary = "API Health Check",
-            description = "Returns the current status and timestamp of the API"
-    )
-    @ApiResponse(
-            responseCode = "200",
-            description = "API is healthy and running"
+            description = "Returns the readiness of the API (UP, DEGRADED or DOWN) from the latest background "
+                    + "check of the database and connection pool"
     )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "API is up or degraded and can take traffic"
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "API is down and should not receive traffic"
+            )
+    })
     public ResponseEntity<Map<String, Object>> health() {
-        return ResponseEntity.ok(Map.of(
-                "status", "UP",
+        ReadinessSample readiness = readinessProbe.current();
+        HttpStatus httpStatus = readiness.status() == ReadinessStatus.DOWN ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.OK;
+        return ResponseEntity.status(httpStatus).body(Map.of(
+                "status", readiness.status(),
                 "timestamp", LocalDateTime.now(),
                 "version", "1.0.0",
-                "service", "Student Management API"
+                "service", "Student Management API",
+                "readiness", readiness
         ));
     }
 
     @GetMapping("/info")
     @Operation(
             summary = "API Information",
-            description = "Returns information about the API including available endpoints"
+            description = "Returns information about the API including available endpoints, "
+                    + "with recent latency percentiles, error rates and SLO burn rates"
     )
     @ApiResponse(
             responseCode = "200",
@@ -49,7 +71,8 @@ public class HealthController {
                 "description", "CRUD API for managing student records",
                 "version", "1.0.0",
                 "swagger-ui", "http://localhost:8080/swagger-ui.html",
-                "api-docs", "http://localhost:8080/api-docs"
+                "api-docs", "http://localhost:8080/api-docs",
+                "latency", endpointLatencies.report()
         ));
     }
 }
\ No newline at end of file
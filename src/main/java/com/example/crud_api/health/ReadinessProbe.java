@@ -0,0 +1,152 @@
+package com.example.crud_api.health;
+
+import com.example.crud_api.observability.EndpointLatencies;
+import com.example.crud_api.observability.LatencyReport;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Background readiness check: a probe query, connection pool saturation and the recent API
+ * p99 latency, sampled on a schedule and compared with {@link ReadinessThresholds}.
+ * <p>
+ * Health checks only read the cached {@link ReadinessSample}, so heavy polling by load
+ * balancers costs nothing. The probe is skipped while the pool has no idle connection: it
+ * would only queue behind the requests it is meant to protect, and saturation is reported
+ * from the pool figures instead. A sample older than three intervals, e.g. because a probe
+ * hangs, is reported as DOWN.
+ */
+@Component
+public class ReadinessProbe {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadinessProbe.class);
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final EndpointLatencies endpointLatencies;
+    private final String probeQuery;
+    private final int probeTimeoutSeconds;
+    private final Duration maxAge;
+    private final ReadinessThresholds thresholds;
+    private volatile ReadinessSample sample;
+
+    public ReadinessProbe(DataSource dataSource,
+                          EndpointLatencies endpointLatencies,
+                          @Value("${student.readiness.interval:PT5S}") Duration interval,
+                          @Value("${student.readiness.probe-query:select 1}") String probeQuery,
+                          @Value("${student.readiness.probe-timeout:PT2S}") Duration probeTimeout,
+                          @Value("${student.readiness.probe-degraded-threshold:PT0.1S}") Duration probeDegraded,
+                          @Value("${student.readiness.probe-down-threshold:PT1S}") Duration probeDown,
+                          @Value("${student.readiness.pool-usage-degraded:0.9}") double poolUsageDegraded,
+                          @Value("${student.readiness.pending-degraded:1}") int pendingDegraded,
+                          @Value("${student.readiness.pending-down:10}") int pendingDown,
+                          @Value("${student.readiness.p99-degraded-threshold:PT0.5S}") Duration p99Degraded) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.endpointLatencies = endpointLatencies;
+        this.probeQuery = probeQuery;
+        this.probeTimeoutSeconds = (int) Math.max(1, probeTimeout.toSeconds());
+        this.maxAge = interval.multipliedBy(3);
+        this.thresholds = new ReadinessThresholds(
+                probeDegraded, probeDown, poolUsageDegraded, pendingDegraded, pendingDown, p99Degraded);
+    }
+
+    /**
+     * @return the latest sample; only the very first call runs a check itself
+     */
+    public ReadinessSample current() {
+        ReadinessSample current = sample;
+        if (current == null) {
+            return refresh();
+        }
+        if (current.checkedAt().plus(maxAge).isBefore(Instant.now())) {
+            List<String> reasons = new ArrayList<>(current.reasons());
+            reasons.add("last check is older than " + maxAge);
+            return new ReadinessSample(ReadinessStatus.DOWN, current.checkedAt(), current.probeMillis(),
+                    current.activeConnections(), current.maxConnections(), current.pendingThreads(),
+                    current.p99Millis(), List.copyOf(reasons));
+        }
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${student.readiness.interval:PT5S}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    synchronized ReadinessSample refresh() {
+        HikariPoolMXBean pool = pool();
+        int active = pool == null ? -1 : pool.getActiveConnections();
+        int idle = pool == null ? -1 : pool.getIdleConnections();
+        int pending = pool == null ? -1 : pool.getThreadsAwaitingConnection();
+        int max = maxPoolSize();
+
+        long probeNanos = idle == 0 && max > 0 && active >= max ? -2 : probe();
+        LatencyReport.Summary latency = endpointLatencies.overall();
+        Double p99Millis = latency.requests() == 0 ? null : latency.p99Ms();
+        long p99Nanos = p99Millis == null ? -1 : (long) (p99Millis * 1_000_000);
+
+        List<String> reasons = new ArrayList<>();
+        ReadinessStatus status = thresholds.evaluate(probeNanos, active, max, pending, p99Nanos, reasons);
+        ReadinessSample next = new ReadinessSample(status, Instant.now(),
+                probeNanos < 0 ? null : probeNanos / 1e6, active, max, pending, p99Millis, List.copyOf(reasons));
+        if (sample != null && sample.status() != status) {
+            log.warn("Readiness changed from {} to {}: {}", sample.status(), status, reasons);
+        }
+        this.sample = next;
+        return next;
+    }
+
+    private long probe() {
+        long startedAt = System.nanoTime();
+        try {
+            jdbcTemplate.execute((StatementCallback<Void>) statement -> {
+                statement.setQueryTimeout(probeTimeoutSeconds);
+                try {
+                    statement.execute(probeQuery);
+                } finally {
+                    // H2 applies a statement's timeout to its whole session: clear it before the
+                    // connection goes back to the pool, or it would cancel unrelated long statements
+                    statement.setQueryTimeout(0);
+                }
+                return null;
+            });
+            return System.nanoTime() - startedAt;
+        } catch (DataAccessException e) {
+            log.warn("Readiness probe failed: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    private HikariPoolMXBean pool() {
+        HikariDataSource hikari = hikari();
+        return hikari == null ? null : hikari.getHikariPoolMXBean();
+    }
+
+    private int maxPoolSize() {
+        HikariDataSource hikari = hikari();
+        return hikari == null ? -1 : hikari.getMaximumPoolSize();
+    }
+
+    private HikariDataSource hikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
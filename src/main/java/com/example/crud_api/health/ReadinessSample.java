@@ -0,0 +1,26 @@
+package com.example.crud_api.health;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One background readiness check.
+ *
+ * @param probeMillis       time taken by the probe query, or {@code null} if it failed or was skipped
+ * @param activeConnections connections in use, or -1 if the pool can't be inspected
+ * @param maxConnections    pool size limit, or -1 if the pool can't be inspected
+ * @param pendingThreads    threads waiting for a connection, or -1 if the pool can't be inspected
+ * @param p99Millis         recent p99 latency of the API, or {@code null} without traffic
+ * @param reasons           why the status is not UP
+ */
+public record ReadinessSample(
+        ReadinessStatus status,
+        Instant checkedAt,
+        Double probeMillis,
+        int activeConnections,
+        int maxConnections,
+        int pendingThreads,
+        Double p99Millis,
+        List<String> reasons
+) {
+}
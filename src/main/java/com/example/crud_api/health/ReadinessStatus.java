@@ -0,0 +1,15 @@
+package com.example.crud_api.health;
+
+/**
+ * Readiness of this node to take traffic, worst last.
+ */
+public enum ReadinessStatus {
+    UP,
+    /** Serving, but slower or closer to saturation than the thresholds allow. */
+    DEGRADED,
+    DOWN;
+
+    ReadinessStatus worst(ReadinessStatus other) {
+        return other.ordinal() > ordinal() ? other : this;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.crud_api.health;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Limits at which a node is reported DEGRADED or DOWN.
+ *
+ * @param poolUsageDegraded share of the pool in use at which the node is degraded
+ * @param p99Degraded       recent API p99 latency above which the node is degraded
+ */
+record ReadinessThresholds(
+        Duration probeDegraded,
+        Duration probeDown,
+        double poolUsageDegraded,
+        int pendingDegraded,
+        int pendingDown,
+        Duration p99Degraded
+) {
+
+    /**
+     * @param probeNanos probe query time, or -1 if the probe failed, or -2 if it was skipped
+     * @param active     connections in use; the pool figures are -1 if unknown
+     * @param p99Nanos   recent p99 latency, or -1 without traffic
+     * @param reasons    receives why the status is not UP
+     */
+    ReadinessStatus evaluate(long probeNanos, int active, int max, int pending, long p99Nanos, List<String> reasons) {
+        ReadinessStatus status = ReadinessStatus.UP;
+        if (probeNanos == -1) {
+            reasons.add("database probe failed");
+            status = ReadinessStatus.DOWN;
+        } else if (probeNanos == -2) {
+            reasons.add("database probe skipped: no idle connection");
+        } else if (probeNanos > probeDown.toNanos()) {
+            reasons.add("database probe took longer than " + probeDown);
+            status = ReadinessStatus.DOWN;
+        } else if (probeNanos > probeDegraded.toNanos()) {
+            reasons.add("database probe took longer than " + probeDegraded);
+            status = ReadinessStatus.DEGRADED;
+        }
+
+        if (pending >= pendingDown) {
+            reasons.add(pending + " threads waiting for a connection");
+            status = status.worst(ReadinessStatus.DOWN);
+        } else if (pending >= pendingDegraded) {
+            reasons.add(pending + " threads waiting for a connection");
+            status = status.worst(ReadinessStatus.DEGRADED);
+        }
+        if (max > 0 && (double) active / max >= poolUsageDegraded) {
+            reasons.add(active + " of " + max + " connections in use");
+            status = status.worst(ReadinessStatus.DEGRADED);
+        }
+
+        if (p99Nanos > p99Degraded.toNanos()) {
+            reasons.add("API p99 latency above " + p99Degraded);
+            status = status.worst(ReadinessStatus.DEGRADED);
+        }
+        return status;
+    }
+}
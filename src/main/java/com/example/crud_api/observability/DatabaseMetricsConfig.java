@@ -0,0 +1,39 @@
+package com.example.crud_api.observability;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Statement timings with the slow-statement log and actuator endpoint, and Hibernate
+ * statistics published as metrics. Statements are timed by the data source wrapper
+ * registered in {@link QueryAccountingConfig}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DatabaseMetricsConfig {
+
+    // Static: the data source post-processor looks this bean up before regular beans exist
+    @Bean
+    public static StatementTimings statementTimings(
+            @Value("${student.slow-statement.threshold:PT0.2S}") Duration slowThreshold,
+            @Value("${student.slow-statement.max-statements:500}") int maxStatements) {
+        return new StatementTimings(slowThreshold, maxStatements);
+    }
+
+    @Bean
+    public SlowStatementsEndpoint slowStatementsEndpoint(StatementTimings statementTimings) {
+        return new SlowStatementsEndpoint(statementTimings);
+    }
+
+    @Bean
+    public HibernateStatisticsMetrics hibernateStatisticsMetrics(
+            EntityManagerFactory entityManagerFactory,
+            @Value("${student.hibernate-metrics.max-queries:200}") int maxQueries) {
+        return new HibernateStatisticsMetrics(
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics(), maxQueries);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.crud_api.observability;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process latency and error tracking per API endpoint, with SLO burn rates, so degradation
+ * is visible on {@code /api/v1/info} and {@code /actuator/latency} without an external
+ * metrics stack.
+ * <p>
+ * Each endpoint has a {@link RollingLatencyRecorder} covering {@code windows} windows of
+ * {@code window} each. The number of endpoints is bounded; beyond it, requests are pooled
+ * under {@value #OTHER_ENDPOINTS}.
+ */
+public class EndpointLatencies {
+
+    static final String OTHER_ENDPOINTS = "OTHER";
+
+    private final long windowNanos;
+    private final int windows;
+    private final int maxEndpoints;
+    private final SloPolicy slo;
+    private final RollingLatencyRecorder overall;
+    private final ConcurrentHashMap<String, RollingLatencyRecorder> endpoints = new ConcurrentHashMap<>();
+
+    public EndpointLatencies(Duration window, int windows, int maxEndpoints, SloPolicy slo) {
+        if (window.isNegative() || window.isZero() || windows < 1) {
+            throw new IllegalArgumentException("window and windows must be positive");
+        }
+        this.windowNanos = window.toNanos();
+        this.windows = windows;
+        this.maxEndpoints = maxEndpoints;
+        this.slo = slo;
+        this.overall = new RollingLatencyRecorder(windowNanos, windows);
+    }
+
+    public void record(String endpoint, long nanos, boolean error) {
+        long now = System.nanoTime();
+        overall.record(nanos, error, now);
+        RollingLatencyRecorder recorder = endpoints.get(endpoint);
+        if (recorder == null) {
+            String key = endpoints.size() < maxEndpoints ? endpoint : OTHER_ENDPOINTS;
+            recorder = endpoints.computeIfAbsent(key, k -> new RollingLatencyRecorder(windowNanos, windows));
+        }
+        recorder.record(nanos, error, now);
+    }
+
+    public LatencyReport report() {
+        long now = System.nanoTime();
+        Map<String, LatencyReport.Summary> summaries = new TreeMap<>();
+        endpoints.forEach((endpoint, recorder) -> summaries.put(endpoint, summarize(recorder, now)));
+        return new LatencyReport(
+                Duration.ofNanos(windowNanos * windows),
+                Duration.ofNanos(windowNanos),
+                slo,
+                summarize(overall, now),
+                summaries);
+    }
+
+    /**
+     * @return the statistics of all endpoints together, without building the full report
+     */
+    public LatencyReport.Summary overall() {
+        return summarize(overall, System.nanoTime());
+    }
+
+    private LatencyReport.Summary summarize(RollingLatencyRecorder recorder, long now) {
+        LatencySnapshot snapshot = recorder.snapshot(now, false);
+        long requests = snapshot.requests();
+        return new LatencyReport.Summary(
+                requests,
+                snapshot.errors(),
+                requests == 0 ? null : (double) snapshot.errors() / requests,
+                millis(snapshot.valueAtQuantile(0.50)),
+                millis(snapshot.valueAtQuantile(0.95)),
+                millis(snapshot.valueAtQuantile(0.99)),
+                millis(snapshot.valueAtQuantile(0.999)),
+                millis(snapshot.max()),
+                slo.burnRate(snapshot),
+                slo.burnRate(recorder.snapshot(now, true)));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.crud_api.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the latency and outcome of each API request in {@link EndpointLatencies}, keyed by
+ * method and URI pattern. Server errors (5xx, or an exception escaping the chain) count
+ * against availability; client errors don't.
+ */
+public class EndpointLatencyFilter extends OncePerRequestFilter {
+
+    private final EndpointLatencies endpointLatencies;
+
+    public EndpointLatencyFilter(EndpointLatencies endpointLatencies) {
+        this.endpointLatencies = endpointLatencies;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = request.getMethod() + " " + (pattern == null ? "UNKNOWN" : pattern);
+            endpointLatencies.record(endpoint, System.nanoTime() - startedAt, failed);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.crud_api.observability;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Flight recording control through actuator.
+ */
+@Configuration(proxyBeanMethods = false)
+public class FlightRecordingConfig {
+
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(
+            @Value("${student.jfr.dump-directory:${java.io.tmpdir}/student-jfr}") Path dumpDirectory,
+            @Value("${student.jfr.max-age:PT30M}") Duration maxAge) {
+        return new FlightRecordingEndpoint(dumpDirectory, maxAge);
+    }
+}
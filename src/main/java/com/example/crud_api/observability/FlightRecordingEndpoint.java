@@ -0,0 +1,140 @@
+package com.example.crud_api.observability;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/flightrecording}) controlling one Java Flight Recorder
+ * recording, so production can be profiled without attaching an agent.
+ * <ul>
+ *   <li>{@code GET} - state of the current recording</li>
+ *   <li>{@code POST /start?profile=student} - starts a recording</li>
+ *   <li>{@code POST /dump} - writes what has been recorded so far to a file</li>
+ *   <li>{@code POST /stop} - stops the recording and writes it to a file</li>
+ * </ul>
+ * Profiles are the JDK's {@code default} and {@code profile} settings, and {@value #STUDENT_PROFILE}:
+ * the JDK defaults plus every student event, including cache lookups.
+ */
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    static final String STUDENT_PROFILE = "student";
+
+    private static final List<String> STUDENT_EVENTS = List.of(
+            StudentOperationEvent.NAME, StudentCacheEvent.NAME, StudentBatchEvent.NAME);
+
+    private final Path dumpDirectory;
+    private final Duration maxAge;
+    private Recording recording;
+    private String profile;
+    private Path lastDump;
+
+    public FlightRecordingEndpoint(Path dumpDirectory, Duration maxAge) {
+        this.dumpDirectory = dumpDirectory;
+        this.maxAge = maxAge;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        boolean running = recording != null && recording.getState() == RecordingState.RUNNING;
+        status.put("state", running ? "RUNNING" : "STOPPED");
+        if (running) {
+            status.put("profile", profile);
+            status.put("startTime", recording.getStartTime());
+            status.put("maxAge", maxAge);
+        }
+        if (lastDump != null) {
+            status.put("lastDump", lastDump.toString());
+        }
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> control(@Selector String action, @Nullable String profile) {
+        switch (action) {
+            case "start" -> start(profile == null ? STUDENT_PROFILE : profile);
+            case "dump" -> lastDump = dump(requireRunning());
+            case "stop" -> {
+                Recording running = requireRunning();
+                running.stop();
+                lastDump = dump(running);
+                running.close();
+                recording = null;
+            }
+            default -> throw new InvalidEndpointRequestException(
+                    "Unknown action " + action, "action must be start, dump or stop");
+        }
+        return status();
+    }
+
+    private void start(String profile) {
+        if (recording != null) {
+            throw new InvalidEndpointRequestException(
+                    "A recording is already running", "stop the current recording first");
+        }
+        Recording started = new Recording(settings(profile));
+        started.setName("crud-api-" + profile);
+        started.setToDisk(true);
+        started.setMaxAge(maxAge);
+        started.start();
+        this.recording = started;
+        this.profile = profile;
+    }
+
+    static Map<String, String> settings(String profile) {
+        String base = STUDENT_PROFILE.equals(profile) ? "default" : profile;
+        Map<String, String> settings;
+        try {
+            settings = new HashMap<>(Configuration.getConfiguration(base).getSettings());
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException(
+                    "Unknown profile " + profile, "profile must be default, profile or " + STUDENT_PROFILE);
+        }
+        if (STUDENT_PROFILE.equals(profile)) {
+            for (String event : STUDENT_EVENTS) {
+                settings.put(event + "#enabled", "true");
+                settings.put(event + "#threshold", "0 ms");
+            }
+        }
+        return settings;
+    }
+
+    private Recording requireRunning() {
+        if (recording == null) {
+            throw new InvalidEndpointRequestException("No recording is running", "start a recording first");
+        }
+        return recording;
+    }
+
+    private Path dump(Recording source) {
+        try {
+            Files.createDirectories(dumpDirectory);
+            Path file = dumpDirectory.resolve(
+                    source.getName() + "-" + Instant.now().toString().replace(':', '-') + ".jfr");
+            source.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
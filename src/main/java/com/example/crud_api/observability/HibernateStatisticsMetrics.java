@@ -0,0 +1,154 @@
+package com.example.crud_api.observability;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes Hibernate {@link Statistics} as Micrometer meters.
+ * <p>
+ * Session-factory totals (entity loads and fetches, flushes, cache hits and misses, query
+ * execution counts and maximum time) are bound once. Per-query meters, tagged with the
+ * query normalized by {@link SqlNormalizer}, are added as Hibernate sees new queries; queries
+ * that only differ in their literals share one set of meters. The number of distinct query
+ * tags is bounded by {@code student.hibernate-metrics.max-queries}.
+ */
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+    private final int maxQueries;
+    private final Set<String> seenQueries = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<String>> queriesByTag = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    public HibernateStatisticsMetrics(Statistics statistics, int maxQueries) {
+        this.statistics = statistics;
+        this.maxQueries = maxQueries;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "hibernate.sessions.open", "Sessions opened", Statistics::getSessionOpenCount);
+        counter(registry, "hibernate.flushes", "Session flushes", Statistics::getFlushCount);
+        counter(registry, "hibernate.statements.prepared", "JDBC statements prepared", Statistics::getPrepareStatementCount);
+        counter(registry, "hibernate.entities.loads", "Entities loaded", Statistics::getEntityLoadCount);
+        counter(registry, "hibernate.entities.fetches", "Entities fetched by a separate select", Statistics::getEntityFetchCount);
+        counter(registry, "hibernate.entities.inserts", "Entities inserted", Statistics::getEntityInsertCount);
+        counter(registry, "hibernate.entities.updates", "Entities updated", Statistics::getEntityUpdateCount);
+        counter(registry, "hibernate.entities.deletes", "Entities deleted", Statistics::getEntityDeleteCount);
+        counter(registry, "hibernate.queries.executions", "Queries executed", Statistics::getQueryExecutionCount);
+        TimeGauge.builder("hibernate.queries.executions.max", statistics, TimeUnit.MILLISECONDS,
+                        Statistics::getQueryExecutionMaxTime)
+                .description("Slowest query execution since startup")
+                .register(registry);
+
+        cache(registry, "second-level",
+                Statistics::getSecondLevelCacheHitCount, Statistics::getSecondLevelCacheMissCount);
+        cache(registry, "query", Statistics::getQueryCacheHitCount, Statistics::getQueryCacheMissCount);
+
+        this.registry = registry;
+        refreshQueryMeters();
+    }
+
+    /**
+     * Registers meters for the queries Hibernate has executed since the last refresh.
+     */
+    @Scheduled(initialDelayString = "${student.hibernate-metrics.refresh-interval:PT30S}",
+            fixedDelayString = "${student.hibernate-metrics.refresh-interval:PT30S}")
+    public void refreshQueryMeters() {
+        MeterRegistry registry = this.registry;
+        if (registry == null) {
+            return;
+        }
+        for (String query : statistics.getQueries()) {
+            if (!seenQueries.add(query)) {
+                continue;
+            }
+            String tag = SqlNormalizer.normalize(query);
+            Set<String> queries = queriesByTag.get(tag);
+            if (queries == null) {
+                if (queriesByTag.size() >= maxQueries) {
+                    continue;
+                }
+                queries = ConcurrentHashMap.newKeySet();
+                queriesByTag.put(tag, queries);
+                register(registry, tag, queries);
+            }
+            queries.add(query);
+        }
+    }
+
+    private void register(MeterRegistry registry, String tag, Set<String> queries) {
+        Tags tags = Tags.of("query", tag);
+        FunctionTimer.builder("hibernate.query.executions", queries,
+                        q -> sum(q, QueryStatistics::getExecutionCount),
+                        q -> sum(q, QueryStatistics::getExecutionTotalTime),
+                        TimeUnit.MILLISECONDS)
+                .description("Executions of the query")
+                .tags(tags)
+                .register(registry);
+        TimeGauge.builder("hibernate.query.executions.max", queries, TimeUnit.MILLISECONDS,
+                        q -> max(q, QueryStatistics::getExecutionMaxTime))
+                .description("Slowest execution of the query since startup")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("hibernate.query.rows", queries, q -> sum(q, QueryStatistics::getExecutionRowCount))
+                .description("Rows returned by the query")
+                .tags(tags)
+                .register(registry);
+    }
+
+    private long sum(Set<String> queries, ToLongFunction<QueryStatistics> value) {
+        long sum = 0;
+        for (String query : queries) {
+            sum += value.applyAsLong(statistics.getQueryStatistics(query));
+        }
+        return sum;
+    }
+
+    private long max(Set<String> queries, ToLongFunction<QueryStatistics> value) {
+        long max = 0;
+        for (String query : queries) {
+            max = Math.max(max, value.applyAsLong(statistics.getQueryStatistics(query)));
+        }
+        return max;
+    }
+
+    private void counter(MeterRegistry registry, String name, String description, ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value)
+                .description(description)
+                .register(registry);
+    }
+
+    private void cache(MeterRegistry registry, String cache,
+                       ToLongFunction<Statistics> hits, ToLongFunction<Statistics> misses) {
+        FunctionCounter.builder("hibernate.cache.requests", statistics, s -> hits.applyAsLong(s))
+                .tags("cache", cache, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.requests", statistics, s -> misses.applyAsLong(s))
+                .tags("cache", cache, "result", "miss")
+                .register(registry);
+        Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> {
+                    long hit = hits.applyAsLong(s);
+                    long total = hit + misses.applyAsLong(s);
+                    return total == 0 ? Double.NaN : (double) hit / total;
+                })
+                .description("Share of cache lookups that were hits")
+                .tags("cache", cache)
+                .register(registry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.crud_api.observability;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * In-process latency histograms and SLO tracking for API requests.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LatencyConfig {
+
+    @Bean
+    public EndpointLatencies endpointLatencies(
+            @Value("${student.latency.window:PT10S}") Duration window,
+            @Value("${student.latency.windows:6}") int windows,
+            @Value("${student.latency.max-endpoints:64}") int maxEndpoints,
+            @Value("${student.slo.latency-threshold:PT0.3S}") Duration latencyThreshold,
+            @Value("${student.slo.latency-objective:0.99}") double latencyObjective,
+            @Value("${student.slo.availability-objective:0.999}") double availabilityObjective) {
+        return new EndpointLatencies(window, windows, maxEndpoints,
+                new SloPolicy(latencyThreshold, latencyObjective, availabilityObjective));
+    }
+
+    @Bean
+    public FilterRegistrationBean<EndpointLatencyFilter> endpointLatencyFilter(EndpointLatencies endpointLatencies) {
+        FilterRegistrationBean<EndpointLatencyFilter> registration = new FilterRegistrationBean<>(
+                new EndpointLatencyFilter(endpointLatencies));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    @Bean
+    public LatencyEndpoint latencyEndpoint(EndpointLatencies endpointLatencies) {
+        return new LatencyEndpoint(endpointLatencies);
+    }
+}
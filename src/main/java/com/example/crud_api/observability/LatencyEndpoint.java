@@ -0,0 +1,22 @@
+package com.example.crud_api.observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint ({@code /actuator/latency}) with the {@link LatencyReport} of the API.
+ */
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+    private final EndpointLatencies endpointLatencies;
+
+    public LatencyEndpoint(EndpointLatencies endpointLatencies) {
+        this.endpointLatencies = endpointLatencies;
+    }
+
+    @ReadOperation
+    public LatencyReport latency() {
+        return endpointLatencies.report();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.crud_api.observability;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Latency percentiles, error rates and SLO burn rates over the rolling period of
+ * {@link EndpointLatencies}, overall and per endpoint ({@code "GET /api/v1/students/{id}"}).
+ *
+ * @param period       the rolling period the statistics cover
+ * @param recentPeriod the most recent part of it, used for the short-window burn rates
+ */
+public record LatencyReport(
+        Duration period,
+        Duration recentPeriod,
+        SloPolicy slo,
+        Summary overall,
+        Map<String, Summary> endpoints
+) {
+
+    /**
+     * Statistics of one set of requests. Latencies are in milliseconds, to within about 3%;
+     * rates are {@code null} without requests.
+     */
+    public record Summary(
+            long requests,
+            long errors,
+            Double errorRate,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs,
+            SloPolicy.SloBurnRate burnRate,
+            SloPolicy.SloBurnRate recentBurnRate
+    ) {
+    }
+}
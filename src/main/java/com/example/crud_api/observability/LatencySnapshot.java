@@ -0,0 +1,70 @@
+package com.example.crud_api.observability;
+
+/**
+ * Merged histogram counts of a {@link RollingLatencyRecorder}, with the statistics derived
+ * from them. Latencies are in microseconds.
+ */
+final class LatencySnapshot {
+
+    private final long[] counts;
+    private final long requests;
+    private final long errors;
+    private final long max;
+
+    LatencySnapshot(long[] counts, long requests, long errors, long max) {
+        this.counts = counts;
+        this.requests = requests;
+        this.errors = errors;
+        this.max = max;
+    }
+
+    long requests() {
+        return requests;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    long max() {
+        return max;
+    }
+
+    /**
+     * @return the smallest bucket bound at or below which {@code quantile} of the requests fall,
+     *         capped at the maximum; 0 without requests
+     */
+    long valueAtQuantile(double quantile) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @return the share of requests slower than {@code thresholdMicros}, to within bucket precision
+     */
+    double fractionAbove(long thresholdMicros) {
+        long total = 0;
+        long above = 0;
+        for (int i = 0; i < counts.length; i++) {
+            total += counts[i];
+            if (LatencyHistogram.lowestValue(i) > thresholdMicros) {
+                above += counts[i];
+            }
+        }
+        return total == 0 ? 0 : (double) above / total;
+    }
+}
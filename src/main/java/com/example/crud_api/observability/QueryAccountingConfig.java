@@ -0,0 +1,62 @@
+package com.example.crud_api.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Wires per-request query accounting: the counting data source, the Hibernate hooks and the
+ * filter that binds a {@link QueryContext} to each API request. The data source wrapper also
+ * feeds the {@link StatementTimings} from {@link DatabaseMetricsConfig}.
+ * Disabled with {@code student.query-accounting.enabled=false}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "student.query-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryAccountingConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor(
+            ObjectProvider<StatementTimings> statementTimings) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource, statementTimings.getIfAvailable());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryAccountingHibernateProperties() {
+        QueryAccountingHibernateHooks hooks = new QueryAccountingHibernateHooks();
+        return properties -> {
+            properties.put(AvailableSettings.INTERCEPTOR, hooks);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryAccountingHibernateHooks.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryAccountingFilter> queryAccountingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${student.query-accounting.header:true}") boolean exposeHeaders,
+            @Value("${student.query-accounting.statement-budget:10}") int statementBudget) {
+
+        FilterRegistrationBean<QueryAccountingFilter> registration = new FilterRegistrationBean<>(
+                new QueryAccountingFilter(meterRegistry, exposeHeaders, statementBudget));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
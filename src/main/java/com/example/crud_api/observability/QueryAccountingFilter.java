@@ -0,0 +1,110 @@
+package com.example.crud_api.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Accounts the database work of each API request.
+ * <p>
+ * A {@link QueryContext} is bound to the request thread for the duration of the request.
+ * Afterwards its totals are recorded as metrics tagged with the method and URI pattern, and
+ * requests executing more statements than the configured budget are logged as warnings, so
+ * N+1 patterns show up as soon as they are introduced. When enabled, the totals are also
+ * returned in the {@value #QUERY_COUNT_HEADER} and {@value #QUERY_STATS_HEADER} headers.
+ */
+public class QueryAccountingFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_STATS_HEADER = "X-Query-Stats";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryAccountingFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeaders;
+    private final int statementBudget;
+
+    /**
+     * @param statementBudget statements a request may execute before it is reported; 0 disables the check
+     */
+    public QueryAccountingFilter(MeterRegistry meterRegistry, boolean exposeHeaders, int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeaders = exposeHeaders;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryContext context = QueryContext.begin(exposeHeaders);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryContext.end();
+            // Responses with a body got their headers from QueryAccountingResponseAdvice before committing
+            if (exposeHeaders && !response.isCommitted()) {
+                writeHeaders(context, response::setHeader);
+            }
+            record(request, context);
+        }
+    }
+
+    static void writeHeaders(QueryContext context, BiConsumer<String, String> headers) {
+        headers.accept(QUERY_COUNT_HEADER, Integer.toString(context.statements()));
+        headers.accept(QUERY_STATS_HEADER, String.format(Locale.ROOT, "statements=%d;rows=%d;entities=%d;flushMs=%.3f",
+                context.statements(), context.rows(), context.entitiesLoaded(), context.flushNanos() / 1e6));
+    }
+
+    private void record(HttpServletRequest request, QueryContext context) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("JDBC statements executed per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(context.statements());
+        DistributionSummary.builder("http.server.requests.rows")
+                .description("Result set rows read per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(context.rows());
+        DistributionSummary.builder("http.server.requests.entities")
+                .description("Hibernate entities loaded per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(context.entitiesLoaded());
+        Timer.builder("http.server.requests.flush")
+                .description("Time spent flushing Hibernate sessions per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(context.flushNanos(), TimeUnit.NANOSECONDS);
+
+        if (statementBudget > 0 && context.statements() > statementBudget) {
+            Counter.builder("http.server.requests.statement.budget.exceeded")
+                    .description("Requests that executed more statements than the budget")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} executed {} statements, over the budget of {} (rows={}, entities={})",
+                    request.getMethod(), uri, context.statements(), statementBudget,
+                    context.rows(), context.entitiesLoaded());
+        }
+    }
+}
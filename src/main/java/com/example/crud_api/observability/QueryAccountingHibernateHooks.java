@@ -0,0 +1,38 @@
+package com.example.crud_api.observability;
+
+import org.hibernate.Interceptor;
+import org.hibernate.SessionEventListener;
+import org.hibernate.type.Type;
+
+/**
+ * Adds Hibernate's share of the work to the current {@link QueryContext}: entities loaded
+ * (as an {@link Interceptor}) and time spent flushing (as a {@link SessionEventListener}).
+ * Statements are counted at the JDBC level by {@link QueryCountingDataSource}.
+ */
+public class QueryAccountingHibernateHooks implements Interceptor, SessionEventListener {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        QueryContext context = QueryContext.current();
+        if (context != null) {
+            context.entityLoaded();
+        }
+        return false;
+    }
+
+    @Override
+    public void flushStart() {
+        QueryContext context = QueryContext.current();
+        if (context != null) {
+            context.flushStarted();
+        }
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        QueryContext context = QueryContext.current();
+        if (context != null) {
+            context.flushEnded();
+        }
+    }
+}
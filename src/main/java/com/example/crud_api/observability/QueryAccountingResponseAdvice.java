@@ -0,0 +1,35 @@
+package com.example.crud_api.observability;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the query accounting headers just before a response body is written.
+ * <p>
+ * Writing the body commits the response, after which {@link QueryAccountingFilter} can no
+ * longer set headers. The totals at this point cover all database work done by the handler.
+ */
+@ControllerAdvice
+public class QueryAccountingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryContext context = QueryContext.current();
+        if (context != null && context.exposeHeaders()) {
+            QueryAccountingFilter.writeHeaders(context, response.getHeaders()::set);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.crud_api.observability;
+
+/**
+ * Database work done on behalf of one HTTP request.
+ * <p>
+ * {@link QueryAccountingFilter} binds a context to the request thread; the JDBC and Hibernate
+ * hooks add to the context bound to the calling thread, if any. A context is only touched by
+ * its own thread, so the counters are plain fields.
+ */
+public final class QueryContext {
+
+    private static final ThreadLocal<QueryContext> CURRENT = new ThreadLocal<>();
+
+    private final boolean exposeHeaders;
+    private int statements;
+    private long rows;
+    private int entitiesLoaded;
+    private long flushNanos;
+    private long flushStartedAt;
+
+    private QueryContext(boolean exposeHeaders) {
+        this.exposeHeaders = exposeHeaders;
+    }
+
+    static QueryContext begin(boolean exposeHeaders) {
+        QueryContext context = new QueryContext(exposeHeaders);
+        CURRENT.set(context);
+        return context;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the context of the request being served by this thread, or {@code null}
+     */
+    public static QueryContext current() {
+        return CURRENT.get();
+    }
+
+    void statementExecuted() {
+        statements++;
+    }
+
+    void rowFetched() {
+        rows++;
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    void flushStarted() {
+        flushStartedAt = System.nanoTime();
+    }
+
+    void flushEnded() {
+        if (flushStartedAt != 0) {
+            flushNanos += System.nanoTime() - flushStartedAt;
+            flushStartedAt = 0;
+        }
+    }
+
+    /** Whether the totals are returned to the client as response headers. */
+    public boolean exposeHeaders() {
+        return exposeHeaders;
+    }
+
+    /** JDBC statements executed; a batch counts once. */
+    public int statements() {
+        return statements;
+    }
+
+    /** Result set rows read. */
+    public long rows() {
+        return rows;
+    }
+
+    /** Entities loaded by Hibernate. */
+    public int entitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    /** Time spent flushing Hibernate sessions. */
+    public long flushNanos() {
+        return flushNanos;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.crud_api.observability;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Counts the statements executed and rows read through a data source for the current
+ * {@link QueryContext}, and times every statement into {@link StatementTimings} and the db
+ * phase of the current {@link ServerTiming}.
+ * <p>
+ * Connections are wrapped in proxies down to their statements and result sets. Without
+ * statement timings, only connections obtained while a request is being accounted or timed
+ * are wrapped, and all others (startup scans, scheduled jobs) are returned as they are. Covering
+ * JDBC rather than Hibernate includes the {@code JdbcTemplate} queries as well.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private final StatementTimings statementTimings;
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        this(targetDataSource, null);
+    }
+
+    /**
+     * @param statementTimings receives the execution time of every statement; may be {@code null}
+     */
+    public QueryCountingDataSource(DataSource targetDataSource, StatementTimings statementTimings) {
+        super(targetDataSource);
+        this.statementTimings = statementTimings;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        if (statementTimings == null && QueryContext.current() == null && ServerTiming.current() == null) {
+            return connection;
+        }
+        return proxy(Connection.class, new ConnectionHandler(connection, statementTimings));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            // Identity semantics: Hibernate keeps statements and result sets in hash maps
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            long startedAt = System.nanoTime();
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return intercept(proxy, method, args, result, startedAt);
+        }
+
+        abstract Object intercept(Object proxy, Method method, Object[] args, Object result, long startedAt);
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+
+        private final StatementTimings statementTimings;
+
+        ConnectionHandler(Connection target, StatementTimings statementTimings) {
+            super(target);
+            this.statementTimings = statementTimings;
+        }
+
+        @Override
+        Object intercept(Object proxy, Method method, Object[] args, Object result, long startedAt) {
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                // prepareStatement/prepareCall carry their SQL; plain statements get it on execute
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return QueryCountingDataSource.proxy(method.getReturnType(),
+                        new StatementHandler(statement, proxy, sql, statementTimings));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        private final Object connection;
+        private final String sql;
+        private final StatementTimings statementTimings;
+
+        StatementHandler(Statement target, Object connection, String sql, StatementTimings statementTimings) {
+            super(target);
+            this.connection = connection;
+            this.sql = sql;
+            this.statementTimings = statementTimings;
+        }
+
+        @Override
+        Object intercept(Object proxy, Method method, Object[] args, Object result, long startedAt) {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                long elapsed = System.nanoTime() - startedAt;
+                if (statementTimings != null) {
+                    String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                    statementTimings.record(executed, elapsed);
+                }
+                ServerTiming timing = ServerTiming.current();
+                if (timing != null) {
+                    timing.statementExecuted(elapsed);
+                }
+                QueryContext context = QueryContext.current();
+                if (context != null) {
+                    context.statementExecuted();
+                }
+            } else if (name.equals("getConnection")) {
+                return connection;
+            }
+            if (result instanceof ResultSet resultSet) {
+                return QueryCountingDataSource.proxy(ResultSet.class, new ResultSetHandler(resultSet, proxy));
+            }
+            return result;
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        private final Object statement;
+
+        ResultSetHandler(ResultSet target, Object statement) {
+            super(target);
+            this.statement = statement;
+        }
+
+        @Override
+        Object intercept(Object proxy, Method method, Object[] args, Object result, long startedAt) {
+            String name = method.getName();
+            if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                QueryContext context = QueryContext.current();
+                if (context != null) {
+                    context.rowFetched();
+                }
+            } else if (name.equals("getStatement")) {
+                return statement;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.crud_api.observability;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencies and errors over a rolling period, kept as a ring of {@link LatencyHistogram}
+ * windows. Memory is fixed and recording is lock-free: the first request of a new window
+ * clears the oldest one. A request recorded concurrently with that clearing may be lost,
+ * which is accepted for monitoring purposes.
+ */
+final class RollingLatencyRecorder {
+
+    private final long windowNanos;
+    private final Window[] windows;
+
+    RollingLatencyRecorder(long windowNanos, int windowCount) {
+        this.windowNanos = windowNanos;
+        this.windows = new Window[windowCount];
+        for (int i = 0; i < windowCount; i++) {
+            windows[i] = new Window();
+        }
+    }
+
+    void record(long nanos, boolean error, long now) {
+        long epoch = Math.floorDiv(now, windowNanos);
+        Window window = windows[(int) Math.floorMod(epoch, (long) windows.length)];
+        window.roll(epoch);
+        window.histogram.record(nanos / 1_000);
+        window.requests.incrementAndGet();
+        if (error) {
+            window.errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * @param recentOnly only the window containing {@code now}, instead of the whole period
+     */
+    LatencySnapshot snapshot(long now, boolean recentOnly) {
+        long epoch = Math.floorDiv(now, windowNanos);
+        long oldest = recentOnly ? epoch : epoch - windows.length + 1;
+        long[] counts = new long[LatencyHistogram.BUCKETS];
+        long requests = 0;
+        long errors = 0;
+        long max = 0;
+        for (Window window : windows) {
+            long windowEpoch = window.epoch.get();
+            if (windowEpoch >= oldest && windowEpoch <= epoch) {
+                max = Math.max(max, window.histogram.addTo(counts));
+                requests += window.requests.get();
+                errors += window.errors.get();
+            }
+        }
+        return new LatencySnapshot(counts, requests, errors, max);
+    }
+
+    private static final class Window {
+
+        final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final AtomicLong requests = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+
+        void roll(long newEpoch) {
+            long current = epoch.get();
+            if (current < newEpoch && epoch.compareAndSet(current, newEpoch)) {
+                histogram.reset();
+                requests.set(0);
+                errors.set(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.crud_api.observability;
+
+/**
+ * Phase timings of one HTTP request, reported in the {@code Server-Timing} header.
+ * <p>
+ * {@link ServerTimingFilter} activates the context of the request thread. Instances are
+ * pooled per thread and reset for each request, so timing a request allocates nothing.
+ * All timestamps come from {@link System#nanoTime()}, except the queueing time, which can
+ * only be derived from the wall-clock {@code X-Request-Start} header set by a proxy.
+ */
+public final class ServerTiming {
+
+    /**
+     * Phases of a request. Together, dispatch, validate, db and app cover the request up to
+     * the moment its response body starts being written.
+     */
+    public enum Phase {
+        /** Waiting in front of the application, as measured by the proxy. */
+        QUEUE("queue"),
+        /** Filters and handler mapping, up to the controller method. */
+        DISPATCH("dispatch"),
+        /** Validating the request body. */
+        VALIDATE("validate"),
+        /** Executing JDBC statements. */
+        DB("db"),
+        /** Everything else in the handler: service logic, Hibernate, transaction management. */
+        APP("app"),
+        /** Writing the response body; only known after the response is committed. */
+        SERIALIZE("serialize"),
+        TOTAL("total");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<ServerTiming> POOL = ThreadLocal.withInitial(ServerTiming::new);
+
+    private boolean active;
+    private boolean exposeHeader;
+    private boolean headerWritten;
+    private long queueNanos;
+    private long startedAt;
+    private long handlerStartedAt;
+    private long writeStartedAt;
+    private long validationNanos;
+    private long dbNanos;
+
+    private ServerTiming() {
+    }
+
+    /**
+     * @param queueNanos time the request spent queued before reaching the application, or -1 if unknown
+     */
+    static ServerTiming begin(boolean exposeHeader, long queueNanos) {
+        ServerTiming timing = POOL.get();
+        timing.active = true;
+        timing.exposeHeader = exposeHeader;
+        timing.headerWritten = false;
+        timing.queueNanos = queueNanos;
+        timing.startedAt = System.nanoTime();
+        timing.handlerStartedAt = 0;
+        timing.writeStartedAt = 0;
+        timing.validationNanos = 0;
+        timing.dbNanos = 0;
+        return timing;
+    }
+
+    static void end() {
+        POOL.get().active = false;
+    }
+
+    /**
+     * @return the timing of the request being served by this thread, or {@code null}
+     */
+    public static ServerTiming current() {
+        ServerTiming timing = POOL.get();
+        return timing.active ? timing : null;
+    }
+
+    void handlerStarted() {
+        handlerStartedAt = System.nanoTime();
+    }
+
+    void writeStarted() {
+        if (writeStartedAt == 0) {
+            writeStartedAt = System.nanoTime();
+        }
+    }
+
+    void validated(long nanos) {
+        validationNanos += nanos;
+    }
+
+    void statementExecuted(long nanos) {
+        dbNanos += nanos;
+    }
+
+    boolean exposeHeader() {
+        return exposeHeader;
+    }
+
+    boolean headerWritten() {
+        return headerWritten;
+    }
+
+    /**
+     * @param now a {@link System#nanoTime()} reading taken after the phases of interest
+     * @return the time spent in the phase, or -1 if the request did not go through it
+     */
+    public long nanos(Phase phase, long now) {
+        long handlerEndedAt = writeStartedAt != 0 ? writeStartedAt : now;
+        return switch (phase) {
+            case QUEUE -> queueNanos;
+            case DISPATCH -> handlerStartedAt != 0 ? handlerStartedAt - startedAt : -1;
+            case VALIDATE -> handlerStartedAt != 0 ? validationNanos : -1;
+            case DB -> dbNanos;
+            case APP -> handlerStartedAt != 0
+                    ? Math.max(0, handlerEndedAt - handlerStartedAt - validationNanos - dbNanos)
+                    : -1;
+            case SERIALIZE -> writeStartedAt != 0 ? now - writeStartedAt : -1;
+            case TOTAL -> now - startedAt;
+        };
+    }
+
+    /**
+     * Formats the {@code Server-Timing} header value, e.g.
+     * {@code dispatch;dur=0.212, validate;dur=0.031, db;dur=1.870, app;dur=0.655, total;dur=2.801}.
+     */
+    String header(long now) {
+        headerWritten = true;
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            // The body is written after the headers, so its time can't be part of them
+            if (phase == Phase.SERIALIZE) {
+                continue;
+            }
+            long nanos = nanos(phase, now);
+            if (nanos < 0) {
+                continue;
+            }
+            if (!header.isEmpty()) {
+                header.append(", ");
+            }
+            long micros = nanos / 1_000;
+            header.append(phase.metricName()).append(";dur=").append(micros / 1_000).append('.');
+            long fraction = micros % 1_000;
+            if (fraction < 100) {
+                header.append('0');
+            }
+            if (fraction < 10) {
+                header.append('0');
+            }
+            header.append(fraction);
+        }
+        return header.toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.crud_api.observability;
+
+import com.example.crud_api.observability.ServerTiming.Phase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the phases of each API request, returns them in the {@value #SERVER_TIMING_HEADER}
+ * header and records them as per-endpoint histograms ({@code http.server.requests.phases},
+ * tagged with method, URI pattern and phase).
+ * <p>
+ * Queueing time is taken from the {@value #REQUEST_START_HEADER} header when a proxy sets it
+ * ({@code t=<epoch seconds, millis or micros>}); the application itself can't see how long a
+ * request waited for a worker thread.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    public static final String REQUEST_START_HEADER = "X-Request-Start";
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeader;
+
+    public ServerTimingFilter(MeterRegistry meterRegistry, boolean exposeHeader) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeader = exposeHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ServerTiming timing = ServerTiming.begin(exposeHeader,
+                queueNanos(request.getHeader(REQUEST_START_HEADER), System.currentTimeMillis()));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long now = System.nanoTime();
+            // Responses with a body got the header from ServerTimingResponseAdvice before committing
+            if (exposeHeader && !timing.headerWritten() && !response.isCommitted()) {
+                response.setHeader(SERVER_TIMING_HEADER, timing.header(now));
+            }
+            record(request, timing, now);
+            ServerTiming.end();
+        }
+    }
+
+    /**
+     * @return nanoseconds between the proxy's timestamp and {@code nowMillis}, or -1 if there is
+     *         no usable timestamp
+     */
+    static long queueNanos(String requestStart, long nowMillis) {
+        if (requestStart == null) {
+            return -1;
+        }
+        String value = requestStart.startsWith("t=") ? requestStart.substring(2) : requestStart;
+        long startMicros;
+        try {
+            if (value.indexOf('.') >= 0) {
+                startMicros = (long) (Double.parseDouble(value) * 1_000_000);
+            } else {
+                long number = Long.parseLong(value);
+                // Seconds, milliseconds or microseconds since the epoch, told apart by magnitude
+                startMicros = number < 100_000_000_000L ? number * 1_000_000
+                        : number < 100_000_000_000_000L ? number * 1_000
+                        : number;
+            }
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        long queuedMicros = nowMillis * 1_000 - startMicros;
+        // Clock skew between the proxy and this host can make the difference negative
+        return queuedMicros < 0 ? -1 : queuedMicros * 1_000;
+    }
+
+    private void record(HttpServletRequest request, ServerTiming timing, long now) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        for (Phase phase : PHASES) {
+            long nanos = timing.nanos(phase, now);
+            if (nanos < 0) {
+                continue;
+            }
+            Timer.builder("http.server.requests.phases")
+                    .description("Time spent in each phase of a request")
+                    .tags("method", request.getMethod(), "uri", uri, "phase", phase.metricName())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.crud_api.observability;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Marks the end of dispatch: the handler has been found and is about to be invoked.
+ */
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            timing.handlerStarted();
+        }
+        return true;
+    }
+}
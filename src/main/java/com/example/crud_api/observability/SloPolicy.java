@@ -0,0 +1,38 @@
+package com.example.crud_api.observability;
+
+import java.time.Duration;
+
+/**
+ * Service level objectives for API requests: {@code latencyObjective} of requests complete
+ * within {@code latencyThreshold}, and {@code availabilityObjective} of requests don't fail
+ * with a server error.
+ * <p>
+ * A burn rate is the rate at which the error budget ({@code 1 - objective}) is being spent:
+ * 1 spends exactly the budget, 10 would exhaust a 30-day budget in 3 days.
+ */
+public record SloPolicy(Duration latencyThreshold, double latencyObjective, double availabilityObjective) {
+
+    public SloPolicy {
+        if (latencyObjective <= 0 || latencyObjective >= 1) {
+            throw new IllegalArgumentException("latencyObjective must be between 0 and 1");
+        }
+        if (availabilityObjective <= 0 || availabilityObjective >= 1) {
+            throw new IllegalArgumentException("availabilityObjective must be between 0 and 1");
+        }
+    }
+
+    SloBurnRate burnRate(LatencySnapshot snapshot) {
+        if (snapshot.requests() == 0) {
+            return new SloBurnRate(null, null);
+        }
+        double slow = snapshot.fractionAbove(latencyThreshold.toNanos() / 1_000);
+        double failed = (double) snapshot.errors() / snapshot.requests();
+        return new SloBurnRate(slow / (1 - latencyObjective), failed / (1 - availabilityObjective));
+    }
+
+    /**
+     * Burn rates of the latency and availability objectives; {@code null} without traffic.
+     */
+    public record SloBurnRate(Double latency, Double availability) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.crud_api.observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint ({@code /actuator/slowstatements}) listing the slowest SQL statements
+ * since startup, by their slowest single execution.
+ */
+@Endpoint(id = "slowstatements")
+public class SlowStatementsEndpoint {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 100;
+
+    private final StatementTimings statementTimings;
+
+    public SlowStatementsEndpoint(StatementTimings statementTimings) {
+        this.statementTimings = statementTimings;
+    }
+
+    @ReadOperation
+    public List<StatementTiming> slowest(@Nullable Integer limit) {
+        int effectiveLimit = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        return statementTimings.slowest(effectiveLimit);
+    }
+}
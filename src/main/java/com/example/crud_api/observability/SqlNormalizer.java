@@ -0,0 +1,74 @@
+package com.example.crud_api.observability;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL and HQL text to a stable shape for use as a metric tag or log line: literals
+ * are replaced with {@code ?}, so no parameter values are ever exposed, whitespace is
+ * collapsed, and {@code IN} lists of any length become {@code (?...)}.
+ */
+final class SqlNormalizer {
+
+    static final int MAX_LENGTH = 512;
+
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+
+    private SqlNormalizer() {
+    }
+
+    static String normalize(String sql) {
+        if (sql == null) {
+            return "(unknown)";
+        }
+        StringBuilder out = new StringBuilder(Math.min(sql.length(), MAX_LENGTH + 16));
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                // String literal; '' is an escaped quote
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                out.append('?');
+            } else if (Character.isDigit(c) && !isIdentifierPart(out)) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!out.isEmpty()) {
+                    out.append(' ');
+                }
+            } else {
+                out.append(c);
+                i++;
+            }
+            if (out.length() > MAX_LENGTH * 2) {
+                break;
+            }
+        }
+        String normalized = PLACEHOLDER_LIST.matcher(out.toString().strip()).replaceAll("(?...)");
+        return normalized.length() > MAX_LENGTH ? normalized.substring(0, MAX_LENGTH) + "..." : normalized;
+    }
+
+    private static boolean isIdentifierPart(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '.' || previous == '?';
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.crud_api.observability;
+
+/**
+ * Execution times of one normalized SQL statement since startup.
+ */
+public record StatementTiming(
+        String statement,
+        long executions,
+        double maxMillis,
+        double meanMillis,
+        double totalMillis
+) {
+}
@@ -0,0 +1,99 @@
+package com.example.crud_api.observability;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution times of the SQL statements run through {@link QueryCountingDataSource}, kept per
+ * normalized statement since startup, plus the slow-statement log.
+ * <p>
+ * Statements are normalized by {@link SqlNormalizer}, so neither the log nor the
+ * {@code slowstatements} actuator endpoint ever shows bound parameters or literals. The number
+ * of distinct statements tracked is bounded; beyond it, timings are pooled under
+ * {@value #OTHER_STATEMENTS}.
+ */
+public class StatementTimings {
+
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    private static final Logger log = LoggerFactory.getLogger(StatementTimings.class);
+
+    private final long slowThresholdNanos;
+    private final int maxStatements;
+    // Hibernate reuses the same SQL strings, so each one is normalized only once
+    private final ConcurrentHashMap<String, String> normalizedSql = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Timing> timings = new ConcurrentHashMap<>();
+
+    /**
+     * @param slowThreshold statements taking at least this long are logged; zero disables the log
+     */
+    public StatementTimings(Duration slowThreshold, int maxStatements) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxStatements = maxStatements;
+    }
+
+    void record(String sql, long nanos) {
+        String statement = normalize(sql);
+        Timing timing = timings.get(statement);
+        if (timing == null) {
+            String key = timings.size() < maxStatements ? statement : OTHER_STATEMENTS;
+            timing = timings.computeIfAbsent(key, k -> new Timing());
+        }
+        timing.record(nanos);
+
+        if (slowThresholdNanos > 0 && nanos >= slowThresholdNanos) {
+            log.warn("Slow statement took {} ms: {}", nanos / 1_000_000, statement);
+        }
+    }
+
+    /**
+     * @return up to {@code limit} statements, slowest single execution first
+     */
+    public List<StatementTiming> slowest(int limit) {
+        return timings.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(StatementTiming::maxMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private String normalize(String sql) {
+        if (sql == null) {
+            return SqlNormalizer.normalize(null);
+        }
+        String normalized = normalizedSql.get(sql);
+        if (normalized == null) {
+            normalized = SqlNormalizer.normalize(sql);
+            if (normalizedSql.size() < maxStatements * 4) {
+                normalizedSql.put(sql, normalized);
+            }
+        }
+        return normalized;
+    }
+
+    private static final class Timing {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            executions.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        StatementTiming snapshot(String statement) {
+            long count = executions.sum();
+            double total = totalNanos.sum() / 1e6;
+            return new StatementTiming(statement, count, maxNanos.get() / 1e6, count == 0 ? 0 : total / count, total);
+        }
+    }
+}
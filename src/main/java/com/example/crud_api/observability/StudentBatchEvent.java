@@ -0,0 +1,49 @@
+package com.example.crud_api.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one chunk of a background job.
+ */
+@Name(StudentBatchEvent.NAME)
+@Label("Student Batch")
+@Category({"Student Service"})
+@Description("One chunk of a background job over students")
+@StackTrace(false)
+public class StudentBatchEvent extends Event {
+
+    public static final String NAME = "com.example.crud_api.StudentBatch";
+
+    @Label("Job")
+    String job;
+
+    @Label("Chunk")
+    @Description("Position of the chunk within its run, starting at 0")
+    int chunk;
+
+    @Label("Rows Affected")
+    int rowsAffected;
+
+    public static StudentBatchEvent start(String job, int chunk) {
+        StudentBatchEvent event = new StudentBatchEvent();
+        if (event.isEnabled()) {
+            event.job = job;
+            event.chunk = chunk;
+        }
+        event.begin();
+        return event;
+    }
+
+    public void finish(int rowsAffected) {
+        end();
+        if (shouldCommit()) {
+            this.rowsAffected = rowsAffected;
+            commit();
+        }
+    }
+}
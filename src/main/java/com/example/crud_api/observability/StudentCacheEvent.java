@@ -0,0 +1,44 @@
+package com.example.crud_api.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one cache lookup. Lookups are frequent, so the event is only
+ * recorded when a recording enables it, such as the {@code student} profile of
+ * {@link FlightRecordingEndpoint}.
+ */
+@Name(StudentCacheEvent.NAME)
+@Label("Student Cache Lookup")
+@Category({"Student Service"})
+@Description("A lookup in one of the student caches")
+@Enabled(false)
+@StackTrace(false)
+public class StudentCacheEvent extends Event {
+
+    public static final String NAME = "com.example.crud_api.StudentCacheLookup";
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Key")
+    long key;
+
+    @Label("Hit")
+    boolean hit;
+
+    public static void lookup(String cache, long key, boolean hit) {
+        StudentCacheEvent event = new StudentCacheEvent();
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.key = key;
+            event.hit = hit;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.crud_api.observability;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Adds the time spent in a {@link Validator} to the validate phase of the current
+ * {@link ServerTiming}.
+ */
+public final class TimedValidator implements Validator {
+
+    private final Validator delegate;
+
+    public TimedValidator(Validator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing == null) {
+            delegate.validate(target, errors);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            delegate.validate(target, errors);
+        } finally {
+            timing.validated(System.nanoTime() - startedAt);
+        }
+    }
+}
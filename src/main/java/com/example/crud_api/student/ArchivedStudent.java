@@ -0,0 +1,66 @@
+package com.example.crud_api.student;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of a student moved to the cold tier ({@code student_archive}).
+ * Rows are written by {@link StudentArchiveRepository#copyToArchive} only.
+ */
+@Entity
+@Immutable
+@Table(name = "student_archive")
+public class ArchivedStudent {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    @Column(name = "passport_number")
+    private String passportNumber;
+
+    private Integer age;
+
+    private String email;
+
+    @Column(name = "enrollment_date")
+    private LocalDateTime enrollmentDate;
+
+    @Column(name = "graduation_year")
+    private Integer graduationYear;
+
+    @Enumerated(EnumType.STRING)
+    private StudentStatus status;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    private Long version;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    protected ArchivedStudent() {}
+
+    public Long getId() { return id; }
+
+    public StudentStatus getStatus() { return status; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+
+    public Student toStudent() {
+        Student student = new Student(name, passportNumber, age, email, enrollmentDate, graduationYear);
+        student.setId(id);
+        student.setStatus(status);
+        student.setCreatedAt(createdAt);
+        student.setUpdatedAt(updatedAt);
+        student.setVersion(version);
+        return student;
+    }
+}
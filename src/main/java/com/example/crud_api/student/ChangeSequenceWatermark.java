@@ -0,0 +1,103 @@
+package com.example.crud_api.student;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+/**
+ * Commit-safe bound of the change log: every entry below it has either committed or rolled back.
+ * <p>
+ * Identity values are handed out when an entry is inserted, not when it commits, so the
+ * transaction holding sequence 10 may commit after the one holding 11. A reader that saw 11
+ * and moved its position past it would never see 10. Appends are therefore registered here
+ * before their insert and released when their transaction completes, and readers only serve
+ * sequences below the lowest one still in flight.
+ * <p>
+ * An append whose sequence is not known yet is bounded by the highest sequence assigned before
+ * it registered: identities only grow, so its own will be larger.
+ */
+class ChangeSequenceWatermark {
+
+    private final LongSupplier latestSequence;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    // Guarded by this
+    private final Map<Long, Append> inFlight = new HashMap<>();
+    private long nextToken;
+    private long highestAssigned = -1;
+
+    /**
+     * @param latestSequence highest sequence in the log, used once to learn about entries written before startup
+     */
+    ChangeSequenceWatermark(LongSupplier latestSequence) {
+        this.latestSequence = latestSequence;
+    }
+
+    /**
+     * Registers an append about to be inserted by the current thread.
+     *
+     * @return token to pass to {@link #assigned} and {@link #finished}
+     */
+    synchronized long begin() {
+        long token = nextToken++;
+        inFlight.put(token, new Append(Thread.currentThread(), highestAssigned + 1));
+        return token;
+    }
+
+    synchronized void assigned(long token, long sequence) {
+        highestAssigned = Math.max(highestAssigned, sequence);
+        Append append = inFlight.get(token);
+        if (append != null) {
+            inFlight.put(token, new Append(append.owner(), sequence));
+        }
+    }
+
+    /**
+     * Releases an append once its transaction has committed or rolled back.
+     */
+    void finished(long token) {
+        synchronized (this) {
+            inFlight.remove(token);
+        }
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * @param reader thread whose own in-flight appends don't hold the bound back, since its transaction
+     *               sees them; {@code null} to wait for every append
+     * @return sequences strictly below this are safe to serve
+     */
+    long current(Thread reader) {
+        boolean known;
+        synchronized (this) {
+            known = highestAssigned >= 0;
+        }
+        if (!known) {
+            long latest = latestSequence.getAsLong();
+            synchronized (this) {
+                highestAssigned = Math.max(highestAssigned, latest);
+            }
+        }
+        synchronized (this) {
+            long watermark = highestAssigned + 1;
+            for (Append append : inFlight.values()) {
+                if (append.owner() != reader) {
+                    watermark = Math.min(watermark, append.lowerBound());
+                }
+            }
+            return watermark;
+        }
+    }
+
+    /**
+     * @param listener called whenever an append is released, on the releasing thread
+     */
+    void onRelease(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    private record Append(Thread owner, long lowerBound) {
+    }
+}
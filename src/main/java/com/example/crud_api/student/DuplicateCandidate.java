@@ -0,0 +1,12 @@
+package com.example.crud_api.student;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * An existing student that may be the same person as another one.
+ *
+ * @param score likelihood of being the same person, from 0 to 1, based on name, email and age
+ */
+@Schema(description = "Possible duplicate of a student")
+public record DuplicateCandidate(Long id, String name, String email, Integer age, double score) {
+}
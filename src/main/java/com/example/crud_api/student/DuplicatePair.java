@@ -0,0 +1,10 @@
+package com.example.crud_api.student;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Two students that may be the same person; {@code firstId} is the lower id.
+ */
+@Schema(description = "Pair of students that may be duplicates")
+public record DuplicatePair(Long firstId, String firstName, Long secondId, String secondName, double score) {
+}
@@ -0,0 +1,58 @@
+package com.example.crud_api.student;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link StudentRoster} over the {@code student} and {@code student_archive} tables, read
+ * with a forward-only cursor so the roster is never held in memory as a whole.
+ */
+@Component
+public class JdbcStudentRoster implements StudentRoster {
+
+    private static final String COLUMNS = "id, name, passport_number, age, email, enrollment_date, graduation_year, status";
+    private static final String SCAN_SQL = "select " + COLUMNS + " from student"
+            + " union all select " + COLUMNS + " from student_archive";
+    private static final String COUNT_SQL = "select status, graduation_year, count(*) as students from ("
+            + "select status, graduation_year from student"
+            + " union all select status, graduation_year from student_archive) roster"
+            + " group by status, graduation_year";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcStudentRoster(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(1000);
+    }
+
+    @Override
+    public void scan(Consumer<Student> consumer) {
+        jdbcTemplate.query(SCAN_SQL, (RowCallbackHandler) rs -> {
+            Timestamp enrollmentDate = rs.getTimestamp("enrollment_date");
+            Student student = new Student(
+                    rs.getString("name"),
+                    rs.getString("passport_number"),
+                    rs.getInt("age"),
+                    rs.getString("email"),
+                    enrollmentDate == null ? null : enrollmentDate.toLocalDateTime(),
+                    rs.getObject("graduation_year", Integer.class));
+            student.setId(rs.getLong("id"));
+            student.setStatus(StudentStatus.valueOf(rs.getString("status")));
+            consumer.accept(student);
+        });
+    }
+
+    @Override
+    public List<StudentCount> countByStatusAndGraduationYear() {
+        return jdbcTemplate.query(COUNT_SQL, (rs, rowNum) -> new StudentCount(
+                StudentStatus.valueOf(rs.getString("status")),
+                rs.getObject("graduation_year", Integer.class),
+                rs.getLong("students")));
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.observability.StudentCacheEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded cache of student ids known not to exist, so repeated lookups of missing ids
+ * (scrapers, clients holding stale links) skip the database.
+ * <p>
+ * The cache is a fixed, direct-mapped table: each id has one slot, and a colliding id simply
+ * replaces it. Lookups and updates are single atomic array accesses without allocation.
+ * <p>
+ * An id stops being missing when a student is created with it. Creations are applied after
+ * commit and bump a generation counter. A lookup reads the generation before querying and
+ * {@link #markMissing} drops the entry if any creation happened since, so a miss observed
+ * before a commit is never cached after the matching invalidation.
+ */
+@Component
+public class MissingStudentCache {
+
+    static final int MIN_CAPACITY = 16;
+
+    // Ids are positive, so 0 marks an empty slot
+    private static final long EMPTY = 0;
+
+    private final AtomicLongArray slots;
+    private final int shift;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public MissingStudentCache(@Value("${student.missing-cache.capacity:4096}") int capacity,
+                               MeterRegistry meterRegistry) {
+        // Rounded up to a power of two
+        int size = Integer.highestOneBit(Math.max(MIN_CAPACITY, capacity) - 1) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.shift = Long.numberOfLeadingZeros(size - 1);
+        this.hits = Counter.builder("student.missing.cache.lookups")
+                .description("Lookups of student ids in the cache of known-missing ids")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("student.missing.cache.lookups")
+                .description("Lookups of student ids in the cache of known-missing ids")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the current generation, to be read before querying for an id
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public boolean isKnownMissing(long id) {
+        boolean hit = id > 0 && slots.get(slot(id)) == id;
+        (hit ? hits : misses).increment();
+        StudentCacheEvent.lookup("missing-ids", id, hit);
+        return hit;
+    }
+
+    /**
+     * Records that a query started at {@code generation} found no student with {@code id}.
+     */
+    public void markMissing(long id, long generation) {
+        if (id <= 0 || generation != this.generation.get()) {
+            return;
+        }
+        int slot = slot(id);
+        slots.set(slot, id);
+        // A creation racing this call may have missed the entry; undo it then
+        if (generation != this.generation.get()) {
+            slots.compareAndSet(slot, id, EMPTY);
+        }
+    }
+
+    public void invalidate(long id) {
+        generation.incrementAndGet();
+        if (id > 0) {
+            slots.compareAndSet(slot(id), id, EMPTY);
+        }
+    }
+
+    /**
+     * Forgets every cached id, for students created outside {@link StudentService}.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, EMPTY);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChange(StudentChangeEvent event) {
+        if (event.type() == StudentChangeType.CREATED && event.studentId() != null) {
+            invalidate(event.studentId());
+        }
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    private int slot(long id) {
+        // Fibonacci hashing: the top bits of the product spread sequential ids
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+}
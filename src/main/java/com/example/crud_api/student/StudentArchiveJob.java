@@ -0,0 +1,57 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.observability.StudentBatchEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background mover that keeps the hot {@code student} table limited to ACTIVE and
+ * SUSPENDED students. Each run drains archivable rows in batches, bounded by
+ * {@code student.archive.max-batches-per-run} so a large backlog can't monopolize the pool.
+ * Rows that clash with an archived passport number or email are skipped and reported.
+ */
+@Component
+@ConditionalOnProperty(name = "student.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class StudentArchiveJob {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentArchiveJob.class);
+
+    private final StudentArchiveService studentArchiveService;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public StudentArchiveJob(StudentArchiveService studentArchiveService,
+                             @Value("${student.archive.batch-size:500}") int batchSize,
+                             @Value("${student.archive.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.studentArchiveService = studentArchiveService;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${student.archive.interval:PT10M}",
+            fixedDelayString = "${student.archive.interval:PT10M}")
+    public void archiveTerminalStudents() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            StudentBatchEvent event = StudentBatchEvent.start("archive", batch);
+            int moved = studentArchiveService.archiveBatch(batchSize);
+            event.finish(moved);
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} graduated/withdrawn students", total);
+        }
+        long conflicts = studentArchiveService.countConflicts();
+        if (conflicts > 0) {
+            log.warn("{} graduated/withdrawn students share a passport number or email with an archived student "
+                    + "and stay in the student table", conflicts);
+        }
+    }
+}
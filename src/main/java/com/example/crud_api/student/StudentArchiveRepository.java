@@ -0,0 +1,56 @@
+package com.example.crud_api.student;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StudentArchiveRepository extends JpaRepository<ArchivedStudent, Long> {
+
+    // Lock the next batch of hot rows in one of the given statuses so they can't change while being moved.
+    // Rows whose passport number or email is already archived would fail the copy, they are left for review.
+    @Query(value = """
+            select id from student s where status in (:statuses)
+            and not exists (select 1 from student_archive a
+                            where a.passport_number = s.passport_number or a.email = s.email)
+            order by id limit :limit for update
+            """, nativeQuery = true)
+    List<Long> lockArchivableIds(@Param("statuses") Collection<String> statuses, @Param("limit") int limit);
+
+    // Hot rows in one of the given statuses that can't be archived because their passport number or email is taken there
+    @Query(value = """
+            select count(*) from student s where status in (:statuses)
+            and exists (select 1 from student_archive a
+                        where a.passport_number = s.passport_number or a.email = s.email)
+            """, nativeQuery = true)
+    long countArchiveConflicts(@Param("statuses") Collection<String> statuses);
+
+    // Copy hot rows into the archive table
+    @Modifying
+    @Query(value = """
+            insert into student_archive (id, name, passport_number, age, email, enrollment_date, graduation_year,
+                                         status, created_at, updated_at, version, archived_at)
+            select id, name, passport_number, age, email, enrollment_date, graduation_year,
+                   status, created_at, updated_at, version, current_timestamp
+            from student where id in (:ids)
+            """, nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    // Remove hot rows that have been copied to the archive
+    @Modifying
+    @Query(value = "delete from student where id in (:ids)", nativeQuery = true)
+    int deleteFromHotTable(@Param("ids") Collection<Long> ids);
+
+    List<ArchivedStudent> findByStatus(StudentStatus status);
+
+    boolean existsByPassportNumber(String passportNumber);
+
+    boolean existsByEmail(String email);
+
+    boolean existsByPassportNumberOrEmail(String passportNumber, String email);
+}
@@ -0,0 +1,48 @@
+package com.example.crud_api.student;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Moves students in a terminal status (GRADUATED, WITHDRAWN) from the hot
+ * {@code student} table to {@code student_archive}, one batch per transaction.
+ */
+@Service
+public class StudentArchiveService {
+
+    static final List<String> ARCHIVABLE_STATUSES = List.of(
+            StudentStatus.GRADUATED.name(),
+            StudentStatus.WITHDRAWN.name()
+    );
+
+    private final StudentArchiveRepository studentArchiveRepository;
+
+    public StudentArchiveService(StudentArchiveRepository studentArchiveRepository) {
+        this.studentArchiveRepository = studentArchiveRepository;
+    }
+
+    /**
+     * Archives up to {@code batchSize} students.
+     *
+     * @return the number of students moved; less than {@code batchSize} once the hot table is drained
+     */
+    @Transactional
+    public int archiveBatch(int batchSize) {
+        List<Long> ids = studentArchiveRepository.lockArchivableIds(ARCHIVABLE_STATUSES, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        studentArchiveRepository.copyToArchive(ids);
+        return studentArchiveRepository.deleteFromHotTable(ids);
+    }
+
+    /**
+     * @return students skipped by {@link #archiveBatch} because their passport number or email is already archived
+     */
+    @Transactional(readOnly = true)
+    public long countConflicts() {
+        return studentArchiveRepository.countArchiveConflicts(ARCHIVABLE_STATUSES);
+    }
+}
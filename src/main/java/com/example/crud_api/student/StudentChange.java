@@ -0,0 +1,77 @@
+package com.example.crud_api.student;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "student_change")
+@Schema(description = "Entry of the student change feed")
+public class StudentChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq")
+    @Schema(description = "Monotonic sequence number, pass the last one seen as 'since'", example = "42")
+    private Long sequence;
+
+    @Column(name = "student_id", nullable = false)
+    @Schema(description = "Identifier of the changed student", example = "1")
+    private Long studentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    @Schema(description = "Kind of change", example = "UPDATED")
+    private StudentChangeType type;
+
+    @Enumerated(EnumType.STRING)
+    @Schema(description = "Status of the student after the change (last status for deletions)", example = "ACTIVE")
+    private StudentStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Status of the student before the change, absent for creations", example = "ACTIVE")
+    private StudentStatus previousStatus;
+
+    // JSON snapshot of the student after the change, null for tombstones
+    private String payload;
+
+    @Column(name = "changed_at", nullable = false)
+    @Schema(description = "Timestamp of the change", example = "2023-09-01T09:00:00")
+    private LocalDateTime changedAt;
+
+    protected StudentChange() {}
+
+    public StudentChange(Long studentId, StudentChangeType type, StudentStatus status,
+                         StudentStatus previousStatus, String payload, LocalDateTime changedAt) {
+        this.studentId = studentId;
+        this.type = type;
+        this.status = status;
+        this.previousStatus = previousStatus;
+        this.payload = payload;
+        this.changedAt = changedAt;
+    }
+
+    public Long getSequence() { return sequence; }
+
+    public Long getStudentId() { return studentId; }
+
+    public StudentChangeType getType() { return type; }
+
+    public StudentStatus getStatus() { return status; }
+
+    public StudentStatus getPreviousStatus() { return previousStatus; }
+
+    @JsonRawValue
+    @JsonProperty("student")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(name = "student", description = "Student after the change, absent for deletions", implementation = Student.class)
+    public String getPayload() { return payload; }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+}
@@ -0,0 +1,442 @@
+package com.example.crud_api.student;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed student changes to Server-Sent Events subscribers.
+ * <p>
+ * Subscribers hold no thread. Each one has a bounded buffer of pending changes,
+ * coalesced by student id so only the latest change per student is kept. A subscriber
+ * with something to send joins a ready queue served by a small fixed pool of
+ * {@code student.stream.dispatch-threads}. Each turn sends at most {@link #MAX_SENDS_PER_TURN}
+ * events, or one replay page, before the subscriber goes back to the end of the queue, so a
+ * long backlog or replay never starves the others. A send blocked for longer than
+ * {@code student.stream.send-timeout} drops the subscriber and frees its thread. When a
+ * slow subscriber's buffer is full, the oldest pending change is dropped and the subscriber
+ * gets an {@code overflow} event. The event data is the last sequence it received; the client
+ * can use it to catch up through {@code GET /api/v1/students/changes}.
+ * Reconnecting clients resume from {@code Last-Event-ID}, replayed from the change log.
+ * <p>
+ * Heartbeats are only sent to subscribers that received nothing since the previous tick,
+ * through the same ready queue.
+ * <p>
+ * Transactions may commit out of sequence order, so committed changes are held back
+ * until every earlier sequence has committed or rolled back, and released in order.
+ */
+@Component
+public class StudentChangeBroadcaster implements DisposableBean {
+
+    static final String OVERFLOW_EVENT = "overflow";
+    static final int MAX_SENDS_PER_TURN = 64;
+    static final int REPLAY_PAGE_SIZE = 100;
+    // A reconnect further behind than this is told to catch up through the change feed
+    private static final int MAX_REPLAY_PAGES = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(StudentChangeBroadcaster.class);
+
+    private final StudentChangeLog studentChangeLog;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final ExecutorService dispatcher;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    // Subscriptions with something to send, each at most once
+    private final BlockingQueue<Subscription> ready = new LinkedBlockingQueue<>();
+    private volatile boolean stopped;
+
+    // Committed changes waiting for earlier sequences; guarded by itself
+    private final NavigableMap<Long, StreamedChange> unreleased = new TreeMap<>();
+
+    @Autowired
+    public StudentChangeBroadcaster(StudentChangeLog studentChangeLog,
+                                    ObjectMapper objectMapper,
+                                    @Value("${student.stream.buffer-size:256}") int bufferSize,
+                                    @Value("${student.stream.timeout:PT30M}") Duration timeout,
+                                    @Value("${student.stream.send-timeout:PT10S}") Duration sendTimeout,
+                                    @Value("${student.stream.dispatch-threads:4}") int dispatchThreads) {
+        this.studentChangeLog = studentChangeLog;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.dispatcher = newDispatcher(dispatchThreads);
+        for (int i = 0; i < dispatchThreads; i++) {
+            dispatcher.execute(this::dispatch);
+        }
+        studentChangeLog.onWatermarkAdvance(this::releaseCommitted);
+    }
+
+    private static ExecutorService newDispatcher(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "student-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registers a subscriber.
+     *
+     * @param statusFilter only changes leaving the student in, or moving it out of, this status
+     *                     are sent, {@code null} for all
+     * @param lastEventId  sequence of the last change the client received, {@code null} for live changes only
+     */
+    public SseEmitter subscribe(StudentStatus statusFilter, Long lastEventId) {
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(emitter, statusFilter, lastEventId);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(error -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        if (lastEventId != null) {
+            subscription.schedule();
+        }
+        return emitter;
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChangeRecorded(StudentChangeRecordedEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        StreamedChange change = toStreamed(event.change());
+        synchronized (unreleased) {
+            unreleased.put(change.sequence(), change);
+        }
+        releaseCommitted();
+    }
+
+    @Scheduled(fixedRateString = "${student.stream.heartbeat-interval:PT30S}")
+    public void sendHeartbeats() {
+        for (Subscription subscription : subscriptions) {
+            subscription.requestHeartbeatIfIdle();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${student.stream.send-timeout:PT10S}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscription subscription : subscriptions) {
+            if (subscription.isStalled(now)) {
+                log.info("Dropping student change subscriber, a send has been blocked for more than {} ms",
+                        Duration.ofNanos(sendTimeoutNanos).toMillis());
+                subscription.abandon();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        stopped = true;
+        dispatcher.shutdownNow();
+        for (Subscription subscription : subscriptions) {
+            subscription.emitter.complete();
+        }
+        subscriptions.clear();
+    }
+
+    private void releaseCommitted() {
+        // Offered under the lock so every subscriber sees changes in sequence order
+        synchronized (unreleased) {
+            if (unreleased.isEmpty()) {
+                return;
+            }
+            NavigableMap<Long, StreamedChange> committed = unreleased.headMap(studentChangeLog.committedWatermark(), false);
+            for (StreamedChange change : committed.values()) {
+                for (Subscription subscription : subscriptions) {
+                    subscription.offer(change);
+                }
+            }
+            committed.clear();
+        }
+    }
+
+    // Worker loop of a dispatch thread
+    private void dispatch() {
+        try {
+            while (!stopped) {
+                ready.take().sendTurn();
+            }
+        } catch (InterruptedException e) {
+            // Shutting down
+        }
+    }
+
+    private StreamedChange toStreamed(StudentChange change) {
+        try {
+            // Serialized once and shared by every subscriber
+            return new StreamedChange(change.getSequence(), change.getStudentId(), change.getType(),
+                    change.getStatus(), change.getPreviousStatus(), objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize change " + change.getSequence(), e);
+        }
+    }
+
+    private record StreamedChange(long sequence, Long studentId, StudentChangeType type,
+                                  StudentStatus status, StudentStatus previousStatus, String json) {
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final StudentStatus statusFilter;
+        private final LinkedHashMap<Long, StreamedChange> pending = new LinkedHashMap<>();
+
+        // Guarded by this
+        private Long replayFrom;
+        private int replayPages;
+        private boolean overflowed;
+        private boolean heartbeatDue;
+        private boolean queued;
+        private boolean abandoned;
+
+        // Thread blocked in a send and since when, read by the stall check; sender is guarded by sendLock
+        private final Object sendLock = new Object();
+        private Thread sender;
+        private volatile long sendStartedAt;
+        private volatile boolean sentSinceHeartbeat;
+
+        // Only accessed by the thread serving the current turn
+        private long lastSentSequence;
+
+        Subscription(SseEmitter emitter, StudentStatus statusFilter, Long replayFrom) {
+            this.emitter = emitter;
+            this.statusFilter = statusFilter;
+            this.replayFrom = replayFrom;
+        }
+
+        boolean matches(StudentStatus status, StudentStatus previousStatus) {
+            // Moving out of the filtered status is sent too, it's the last change the subscriber sees for the student
+            return statusFilter == null || statusFilter == status || statusFilter == previousStatus;
+        }
+
+        void offer(StreamedChange change) {
+            if (!matches(change.status(), change.previousStatus())) {
+                return;
+            }
+            synchronized (this) {
+                if (abandoned) {
+                    return;
+                }
+                // Re-insert so the buffer stays ordered by latest sequence
+                if (pending.remove(change.studentId()) == null && pending.size() >= bufferSize) {
+                    Iterator<Long> eldest = pending.keySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    overflowed = true;
+                }
+                pending.put(change.studentId(), change);
+                enqueue();
+            }
+        }
+
+        void requestHeartbeatIfIdle() {
+            if (sentSinceHeartbeat) {
+                sentSinceHeartbeat = false;
+                return;
+            }
+            synchronized (this) {
+                heartbeatDue = true;
+                enqueue();
+            }
+        }
+
+        synchronized void schedule() {
+            enqueue();
+        }
+
+        boolean isStalled(long now) {
+            synchronized (sendLock) {
+                return sender != null && now - sendStartedAt > sendTimeoutNanos;
+            }
+        }
+
+        /**
+         * Stops sending to a stalled subscriber. The emitter is left to the blocked thread,
+         * which completes it once the send fails or returns.
+         */
+        void abandon() {
+            subscriptions.remove(this);
+            synchronized (this) {
+                abandoned = true;
+                replayFrom = null;
+                pending.clear();
+            }
+            synchronized (sendLock) {
+                if (sender != null) {
+                    sender.interrupt();
+                }
+            }
+        }
+
+        // Caller holds this
+        private void enqueue() {
+            if (!queued && !abandoned) {
+                queued = true;
+                ready.add(this);
+            }
+        }
+
+        // Caller holds this
+        private boolean hasWork() {
+            return replayFrom != null || !pending.isEmpty() || overflowed || heartbeatDue;
+        }
+
+        /**
+         * Sends one replay page, or up to {@link #MAX_SENDS_PER_TURN} pending events, then
+         * goes back to the end of the ready queue if there is more.
+         */
+        void sendTurn() {
+            Long replay;
+            List<StreamedChange> batch = new ArrayList<>();
+            boolean overflow = false;
+            boolean heartbeat = false;
+            synchronized (this) {
+                if (abandoned) {
+                    // Dropped while blocked in a send that has since returned
+                    queued = false;
+                    emitter.complete();
+                    return;
+                }
+                replay = replayFrom;
+                replayFrom = null;
+                // Live changes wait for the replay, which sends them in sequence order
+                if (replay == null) {
+                    Iterator<StreamedChange> eldest = pending.values().iterator();
+                    while (eldest.hasNext() && batch.size() < MAX_SENDS_PER_TURN) {
+                        batch.add(eldest.next());
+                        eldest.remove();
+                    }
+                    overflow = overflowed;
+                    heartbeat = heartbeatDue && !overflow && batch.isEmpty();
+                    overflowed = false;
+                    heartbeatDue = false;
+                }
+            }
+
+            try {
+                if (replay != null) {
+                    replayPage(replay);
+                }
+                if (overflow) {
+                    send(SseEmitter.event().name(OVERFLOW_EVENT).data(lastSentSequence));
+                }
+                for (StreamedChange change : batch) {
+                    send(change);
+                }
+                if (heartbeat) {
+                    send(SseEmitter.event().comment("heartbeat"));
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Closing student change subscription: {}", e.getMessage());
+                subscriptions.remove(this);
+                synchronized (this) {
+                    // Stays marked as queued so it's never queued again
+                    abandoned = true;
+                    pending.clear();
+                }
+                emitter.completeWithError(e);
+                return;
+            }
+
+            synchronized (this) {
+                if (abandoned) {
+                    queued = false;
+                    emitter.complete();
+                } else if (hasWork()) {
+                    ready.add(this);
+                } else {
+                    queued = false;
+                }
+            }
+        }
+
+        private void replayPage(long since) throws IOException {
+            lastSentSequence = since;
+            StudentChangeFeed feed = studentChangeLog.readSince(since, REPLAY_PAGE_SIZE);
+            for (StudentChange change : feed.changes()) {
+                if (matches(change.getStatus(), change.getPreviousStatus())) {
+                    send(toStreamed(change));
+                }
+                lastSentSequence = change.getSequence();
+            }
+            if (feed.changes().size() < REPLAY_PAGE_SIZE) {
+                return;
+            }
+            synchronized (this) {
+                if (++replayPages < MAX_REPLAY_PAGES) {
+                    replayFrom = lastSentSequence;
+                    return;
+                }
+            }
+            // Too far behind to replay over the stream
+            send(SseEmitter.event().name(OVERFLOW_EVENT).data(lastSentSequence));
+        }
+
+        private void send(StreamedChange change) throws IOException {
+            // Live changes already covered by the replay are skipped
+            if (change.sequence() <= lastSentSequence) {
+                return;
+            }
+            send(SseEmitter.event()
+                    .id(String.valueOf(change.sequence()))
+                    .name(change.type().name())
+                    .data(change.json()));
+            lastSentSequence = change.sequence();
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (sendLock) {
+                sendStartedAt = System.nanoTime();
+                sender = Thread.currentThread();
+            }
+            try {
+                emitter.send(event);
+                sentSinceHeartbeat = true;
+            } finally {
+                synchronized (sendLock) {
+                    sender = null;
+                    // An abandon racing the end of the send must not interrupt the thread's next turn
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+}
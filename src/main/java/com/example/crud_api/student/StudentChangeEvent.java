@@ -0,0 +1,24 @@
+package com.example.crud_api.student;
+
+/**
+ * Published by {@link StudentService} for every write, inside the writing transaction.
+ * Synchronous listeners take part in that transaction; transactional listeners see it after commit.
+ *
+ * @param type                   the kind of change
+ * @param student                the student after the change (the last state for {@link StudentChangeType#DELETED})
+ * @param previousStatus         the status before the change, {@code null} for {@link StudentChangeType#CREATED}
+ * @param previousGraduationYear the graduation year before the change, {@code null} for {@link StudentChangeType#CREATED}
+ */
+public record StudentChangeEvent(StudentChangeType type,
+                                 Student student,
+                                 StudentStatus previousStatus,
+                                 Integer previousGraduationYear) {
+
+    public Long studentId() {
+        return student.getId();
+    }
+
+    public boolean isDelete() {
+        return type == StudentChangeType.DELETED;
+    }
+}
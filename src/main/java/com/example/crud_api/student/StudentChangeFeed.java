@@ -0,0 +1,17 @@
+package com.example.crud_api.student;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "A page of the student change feed")
+public record StudentChangeFeed(
+        @Schema(description = "Changes after 'since', oldest first")
+        List<StudentChange> changes,
+
+        @Schema(description = "Value to pass as 'since' on the next poll", example = "42")
+        long nextSince,
+
+        @Schema(description = "Oldest sequence still retained; if 'since' is older, resynchronize from the full list", example = "1")
+        Long oldestAvailable) {
+}
@@ -0,0 +1,150 @@
+package com.example.crud_api.student;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Append-only log of student writes backing the incremental change feed.
+ * <p>
+ * Entries are recorded synchronously from {@link StudentChangeEvent}, so they commit or
+ * roll back together with the write that produced them. Sequences are assigned on insert, so
+ * they may commit out of order; readers are only served entries below the
+ * {@link ChangeSequenceWatermark}, and a position taken from the feed never skips an entry
+ * that commits later. Entries older than
+ * {@code student.changes.retention} are removed periodically; consumers that fall
+ * further behind than that must resynchronize from {@code GET /api/v1/students}.
+ */
+@Component
+public class StudentChangeLog {
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    // Order of record() among the in-transaction StudentChangeEvent listeners
+    static final int LISTENER_ORDER = 0;
+
+    private static final Logger log = LoggerFactory.getLogger(StudentChangeLog.class);
+
+    private final StudentChangeRepository studentChangeRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration retention;
+    private final ChangeSequenceWatermark watermark;
+
+    public StudentChangeLog(StudentChangeRepository studentChangeRepository,
+                            EntityManager entityManager,
+                            ObjectMapper objectMapper,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${student.changes.retention:P7D}") Duration retention) {
+        this.studentChangeRepository = studentChangeRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.retention = retention;
+        this.watermark = new ChangeSequenceWatermark(() -> {
+            Long latest = studentChangeRepository.findLatestSequence();
+            return latest == null ? 0 : latest;
+        });
+    }
+
+    /**
+     * Runs first among the in-transaction change listeners. Its flush assigns the version and
+     * audit timestamps of the change, which {@link StudentHistoryService#record} relies on.
+     */
+    @EventListener
+    @Order(LISTENER_ORDER)
+    public void record(StudentChangeEvent event) {
+        String payload = null;
+        if (!event.isDelete()) {
+            // Flush so the snapshot carries the incremented version and audit timestamps
+            entityManager.flush();
+            payload = toJson(event.student());
+        }
+        long token = watermark.begin();
+        boolean releasedOnCompletion = TransactionSynchronizationManager.isSynchronizationActive();
+        if (releasedOnCompletion) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    watermark.finished(token);
+                }
+            });
+        }
+        StudentChange change;
+        try {
+            change = studentChangeRepository.save(new StudentChange(
+                    event.studentId(), event.type(), event.student().getStatus(), event.previousStatus(),
+                    payload, LocalDateTime.now()));
+            watermark.assigned(token, change.getSequence());
+        } finally {
+            if (!releasedOnCompletion) {
+                watermark.finished(token);
+            }
+        }
+        eventPublisher.publishEvent(new StudentChangeRecordedEvent(change));
+    }
+
+    @Transactional(readOnly = true)
+    public StudentChangeFeed readSince(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<StudentChange> changes = studentChangeRepository.findBySequenceGreaterThanAndSequenceLessThanOrderBySequenceAsc(
+                since, watermark.current(Thread.currentThread()), PageRequest.of(0, limit));
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSequence();
+        return new StudentChangeFeed(changes, nextSince, studentChangeRepository.findOldestSequence());
+    }
+
+    @Scheduled(initialDelayString = "${student.changes.compaction-interval:PT1H}",
+            fixedDelayString = "${student.changes.compaction-interval:PT1H}")
+    @Transactional
+    public void compact() {
+        int removed = studentChangeRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        if (removed > 0) {
+            log.info("Removed {} change log entries older than {}", removed, retention);
+        }
+    }
+
+    /**
+     * @return sequences below this have committed or rolled back, whichever transaction wrote them
+     */
+    long committedWatermark() {
+        return watermark.current(null);
+    }
+
+    /**
+     * @param listener called on the writing thread whenever a write's transaction completes
+     */
+    void onWatermarkAdvance(Runnable listener) {
+        watermark.onRelease(listener);
+    }
+
+    private String toJson(Student student) {
+        try {
+            return objectMapper.writeValueAsString(student);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize student " + student.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.crud_api.student;
+
+/**
+ * Published by {@link StudentChangeLog} once a change has been appended to the log,
+ * carrying the entry with its assigned sequence number.
+ */
+public record StudentChangeRecordedEvent(StudentChange change) {
+}
@@ -0,0 +1,32 @@
+package com.example.crud_api.student;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StudentChangeRepository extends JpaRepository<StudentChange, Long> {
+
+    // Next page of the change feed, oldest first, up to (excluding) the commit-safe watermark
+    List<StudentChange> findBySequenceGreaterThanAndSequenceLessThanOrderBySequenceAsc(Long since, Long watermark,
+                                                                                      Pageable pageable);
+
+    // Newest sequence, null when the log is empty
+    @Query("SELECT MAX(c.sequence) FROM StudentChange c")
+    Long findLatestSequence();
+
+    // Oldest sequence still retained, null when the log is empty
+    @Query("SELECT MIN(c.sequence) FROM StudentChange c")
+    Long findOldestSequence();
+
+    // Bulk delete of entries past the retention period
+    @Modifying
+    @Query("DELETE FROM StudentChange c WHERE c.changedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,88 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Student Changes", description = "Incremental synchronization of student data")
+public class StudentChangeResource {
+
+    private final StudentChangeLog studentChangeLog;
+    private final StudentChangeBroadcaster studentChangeBroadcaster;
+
+    public StudentChangeResource(StudentChangeLog studentChangeLog,
+                                 StudentChangeBroadcaster studentChangeBroadcaster) {
+        this.studentChangeLog = studentChangeLog;
+        this.studentChangeBroadcaster = studentChangeBroadcaster;
+    }
+
+    @GetMapping("/students/changes")
+    @Operation(
+            summary = "Retrieve student changes",
+            description = "Returns creates, updates, status changes and deletions (tombstones) recorded after the given sequence, oldest first. "
+                    + "Poll again with the returned nextSince to receive only new changes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changes retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StudentChangeFeed.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid since or limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<StudentChangeFeed> retrieveChanges(
+            @Parameter(description = "Last sequence already processed, 0 to start from the oldest retained change", example = "0")
+            @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Maximum number of changes to return (1-1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+
+        return ResponseEntity.ok(studentChangeLog.readSince(since, limit));
+    }
+
+    @GetMapping(path = "/students/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream student changes",
+            description = "Server-Sent Events stream of committed changes. Each event is named after the change type "
+                    + "(CREATED, UPDATED, STATUS_CHANGED, DELETED), carries the change sequence as its id and a change "
+                    + "feed entry as data. Changes are coalesced per student for slow consumers; an 'overflow' event "
+                    + "means changes were dropped and carries the last delivered sequence to catch up from via /students/changes."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Event stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+    )
+    public SseEmitter streamChanges(
+            @Parameter(description = "Only send changes leaving the student in this status", example = "ACTIVE")
+            @RequestParam(required = false) StudentStatus status,
+            @Parameter(description = "Sequence of the last event received, to resume after a reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        return studentChangeBroadcaster.subscribe(status, lastEventId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.crud_api.student;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Kind of change applied to a student record")
+public enum StudentChangeType {
+    @Schema(description = "Student was created")
+    CREATED,
+
+    @Schema(description = "Student details were updated")
+    UPDATED,
+
+    @Schema(description = "Student status changed (suspend, activate, graduate)")
+    STATUS_CHANGED,
+
+    @Schema(description = "Student was deleted (tombstone)")
+    DELETED
+}
@@ -0,0 +1,9 @@
+package com.example.crud_api.student;
+
+/**
+ * Number of students with a given status and graduation year.
+ *
+ * @param graduationYear {@code null} for students without a graduation year
+ */
+public record StudentCount(StudentStatus status, Integer graduationYear, long count) {
+}
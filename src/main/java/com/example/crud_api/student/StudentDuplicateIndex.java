@@ -0,0 +1,332 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.collection.LongHashSet;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Finds likely duplicate students without comparing every pair.
+ * <p>
+ * Each student is filed under blocking keys made of one normalized name token and the
+ * age. A candidate must share a token and be within a year of age, so it only has to be
+ * compared with the students in a few small buckets. Buckets larger than
+ * {@link #MAX_BUCKET_SIZE} (very common first names) are skipped as long as another of the
+ * student's tokens is more selective. When every token is that common, the student is
+ * sub-blocked instead: it is compared with students sharing two of its name tokens, or its
+ * email key, again within a year of age. Sub-blocks larger than {@link #MAX_BUCKET_SIZE} are
+ * skipped too, so no bucket is ever compared pairwise beyond that size. This keeps a full
+ * report near-linear in the number of students.
+ * <p>
+ * Candidates are scored by name (tokens matching exactly or within one edit), email local
+ * part (ignoring punctuation and digits) and age.
+ */
+@Component
+public class StudentDuplicateIndex implements StudentProjection {
+
+    public static final double DEFAULT_MIN_SCORE = 0.75;
+
+    static final int MAX_BUCKET_SIZE = 500;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_LETTERS = Pattern.compile("[^\\p{L}]+");
+    private static final double NAME_WEIGHT = 0.7;
+    private static final double EMAIL_WEIGHT = 0.2;
+    private static final double AGE_WEIGHT = 0.1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private final Map<Long, Profile> profiles = new HashMap<>();
+    private final Map<String, LongHashSet> buckets = new HashMap<>();
+
+    @Override
+    public void reset() {
+        lock.writeLock().lock();
+        try {
+            profiles.clear();
+            buckets.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(Student student) {
+        Profile profile = Profile.of(student);
+        lock.writeLock().lock();
+        try {
+            Profile previous = profiles.put(profile.id, profile);
+            if (previous != null) {
+                unfile(previous);
+            }
+            for (String key : profile.blockingKeys) {
+                buckets.computeIfAbsent(key, k -> new LongHashSet(4)).add(profile.id);
+            }
+            for (String key : profile.subBlockingKeys) {
+                buckets.computeIfAbsent(key, k -> new LongHashSet(4)).add(profile.id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Profile previous = profiles.remove(id);
+            if (previous != null) {
+                unfile(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return indexed students that may be the same person as {@code student}, best first;
+     * the student itself is never included
+     */
+    public List<DuplicateCandidate> findCandidates(Student student, double minScore) {
+        Profile profile = Profile.of(student);
+        List<DuplicateCandidate> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (long candidateId : candidateIds(profile)) {
+                Profile other = profiles.get(candidateId);
+                double score = score(profile, other);
+                if (score >= minScore) {
+                    candidates.add(new DuplicateCandidate(other.id, other.name, other.email, other.age, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        candidates.sort(Comparator.comparingDouble(DuplicateCandidate::score).reversed()
+                .thenComparing(DuplicateCandidate::id));
+        return candidates;
+    }
+
+    /**
+     * @return the {@code limit} most likely duplicate pairs among all indexed students, best first
+     */
+    public List<DuplicatePair> findPairs(double minScore, int limit) {
+        // Neither side is authoritative: skipping oversized buckets means a pair may only be
+        // found from one of its students, and greedy token matching may score it differently
+        // from each side. Each pair keeps the best score it was found with.
+        Map<PairKey, DuplicatePair> found = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Profile profile : profiles.values()) {
+                for (long candidateId : candidateIds(profile)) {
+                    Profile other = profiles.get(candidateId);
+                    double score = score(profile, other);
+                    if (score >= minScore) {
+                        Profile first = profile.id < other.id ? profile : other;
+                        Profile second = first == profile ? other : profile;
+                        found.merge(new PairKey(first.id, second.id),
+                                new DuplicatePair(first.id, first.name, second.id, second.name, score),
+                                (kept, candidate) -> candidate.score() > kept.score() ? candidate : kept);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Comparator<DuplicatePair> ranking = Comparator.comparingDouble(DuplicatePair::score)
+                .thenComparing(DuplicatePair::firstId, Comparator.reverseOrder())
+                .thenComparing(DuplicatePair::secondId, Comparator.reverseOrder());
+        PriorityQueue<DuplicatePair> best = new PriorityQueue<>(limit + 1, ranking);
+        for (DuplicatePair pair : found.values()) {
+            best.add(pair);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<DuplicatePair> pairs = new ArrayList<>(best);
+        pairs.sort(ranking.reversed());
+        return pairs;
+    }
+
+    // Caller holds the lock
+    private long[] candidateIds(Profile profile) {
+        List<LongHashSet> selected = selectBuckets(profile.lookupKeys);
+        if (selected.isEmpty()) {
+            selected = selectBuckets(profile.subBlockLookupKeys);
+        }
+        LongHashSet ids = new LongHashSet();
+        for (LongHashSet bucket : selected) {
+            bucket.forEach(ids::add);
+        }
+        ids.remove(profile.id);
+        return ids.toArray();
+    }
+
+    // Caller holds the lock
+    private List<LongHashSet> selectBuckets(String[] keys) {
+        List<LongHashSet> selected = new ArrayList<>();
+        for (String key : keys) {
+            LongHashSet bucket = buckets.get(key);
+            if (bucket != null && bucket.size() <= MAX_BUCKET_SIZE) {
+                selected.add(bucket);
+            }
+        }
+        return selected;
+    }
+
+    private void unfile(Profile profile) {
+        unfile(profile.id, profile.blockingKeys);
+        unfile(profile.id, profile.subBlockingKeys);
+    }
+
+    private void unfile(long id, String[] keys) {
+        for (String key : keys) {
+            LongHashSet bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(id) && bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    static double score(Profile a, Profile b) {
+        double name = nameSimilarity(a.tokens, b.tokens);
+        double email = a.emailKey != null && a.emailKey.equals(b.emailKey) ? 1 : 0;
+        double age = a.age == null || b.age == null ? 0 : a.age.equals(b.age) ? 1 : Math.abs(a.age - b.age) <= 1 ? 0.5 : 0;
+        // Rounded so that equal evidence gives equal scores
+        return Math.round((NAME_WEIGHT * name + EMAIL_WEIGHT * email + AGE_WEIGHT * age) * 1000) / 1000.0;
+    }
+
+    // Dice coefficient over tokens, counting near-identical tokens as equal
+    private static double nameSimilarity(String[] a, String[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0;
+        }
+        boolean[] used = new boolean[b.length];
+        int matches = 0;
+        for (String token : a) {
+            for (int j = 0; j < b.length; j++) {
+                if (!used[j] && (token.equals(b[j]) || withinOneEdit(token, b[j]))) {
+                    used[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return 2.0 * matches / (a.length + b.length);
+    }
+
+    static boolean withinOneEdit(String a, String b) {
+        if (Math.min(a.length(), b.length()) < 4 || Math.abs(a.length() - b.length()) > 1) {
+            return false;
+        }
+        int i = 0;
+        int j = 0;
+        int edits = 0;
+        while (i < a.length() && j < b.length()) {
+            if (a.charAt(i) == b.charAt(j)) {
+                i++;
+                j++;
+                continue;
+            }
+            if (++edits > 1) {
+                return false;
+            }
+            if (a.length() > b.length()) {
+                i++;
+            } else if (a.length() < b.length()) {
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+        return edits + (a.length() - i) + (b.length() - j) <= 1;
+    }
+
+    static String[] tokens(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        String normalized = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(NON_LETTERS.split(normalized))
+                .filter(token -> token.length() >= 2)
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private record PairKey(long firstId, long secondId) {
+    }
+
+    static final class Profile {
+
+        final long id;
+        final String name;
+        final String email;
+        final Integer age;
+        final String[] tokens;
+        final String emailKey;
+        final String[] blockingKeys;
+        final String[] lookupKeys;
+        // Pairs of name tokens and the email key; tokens are letters only, so they can't clash with single tokens
+        final String[] subBlockingKeys;
+        final String[] subBlockLookupKeys;
+
+        private Profile(Student student) {
+            this.id = student.getId() == null ? 0 : student.getId();
+            this.name = student.getName();
+            this.email = student.getEmail();
+            this.age = student.getAge();
+            this.tokens = tokens(name);
+            int at = email == null ? -1 : email.indexOf('@');
+            String local = at < 0 ? email : email.substring(0, at);
+            String letters = String.join("", tokens(local));
+            this.emailKey = letters.isEmpty() ? null : letters;
+            this.blockingKeys = new String[tokens.length];
+            this.lookupKeys = new String[tokens.length * 3];
+            int ageKey = age == null ? -1 : age;
+            for (int i = 0; i < tokens.length; i++) {
+                blockingKeys[i] = tokens[i] + '|' + ageKey;
+                for (int delta = -1; delta <= 1; delta++) {
+                    lookupKeys[i * 3 + delta + 1] = tokens[i] + '|' + (age == null ? -1 : ageKey + delta);
+                }
+            }
+
+            List<String> subBlocks = new ArrayList<>();
+            String[] sorted = tokens.clone();
+            Arrays.sort(sorted);
+            for (int i = 0; i < sorted.length; i++) {
+                for (int j = i + 1; j < sorted.length; j++) {
+                    subBlocks.add(sorted[i] + ' ' + sorted[j]);
+                }
+            }
+            if (emailKey != null) {
+                subBlocks.add('@' + emailKey);
+            }
+            this.subBlockingKeys = new String[subBlocks.size()];
+            this.subBlockLookupKeys = new String[subBlocks.size() * 3];
+            for (int i = 0; i < subBlocks.size(); i++) {
+                subBlockingKeys[i] = subBlocks.get(i) + '|' + ageKey;
+                for (int delta = -1; delta <= 1; delta++) {
+                    subBlockLookupKeys[i * 3 + delta + 1] = subBlocks.get(i) + '|' + (age == null ? -1 : ageKey + delta);
+                }
+            }
+        }
+
+        static Profile of(Student student) {
+            return new Profile(student);
+        }
+    }
+}
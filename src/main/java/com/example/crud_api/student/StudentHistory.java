@@ -0,0 +1,102 @@
+package com.example.crud_api.student;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Immutable
+@Table(name = "student_history")
+@Schema(description = "A past or current version of a student record")
+public class StudentHistory {
+
+    // Pooled sequence so history inserts need no extra round trip and can be JDBC-batched
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_history_seq")
+    @SequenceGenerator(name = "student_history_seq", sequenceName = "student_history_seq", allocationSize = 50)
+    @Column(name = "history_id")
+    private Long historyId;
+
+    @Column(name = "student_id", nullable = false)
+    @Schema(description = "Identifier of the student", example = "1")
+    private Long studentId;
+
+    @Schema(description = "Version number of the student record", example = "0")
+    private Long version;
+
+    @Schema(description = "Full name of the student", example = "John Doe")
+    private String name;
+
+    @Column(name = "passport_number")
+    @Schema(description = "Passport number", example = "A1234567")
+    private String passportNumber;
+
+    @Schema(description = "Age of the student", example = "25")
+    private Integer age;
+
+    @Schema(description = "Email address of the student", example = "john.doe@example.com")
+    private String email;
+
+    @Column(name = "enrollment_date")
+    @Schema(description = "Date and time when the student enrolled", example = "2023-09-01T09:00:00")
+    private LocalDateTime enrollmentDate;
+
+    @Column(name = "graduation_year")
+    @Schema(description = "Expected graduation year", example = "2025")
+    private Integer graduationYear;
+
+    @Enumerated(EnumType.STRING)
+    @Schema(description = "Status of the student in this version", example = "ACTIVE")
+    private StudentStatus status;
+
+    @Schema(description = "True if the student was deleted at validFrom", example = "false")
+    private boolean deleted;
+
+    @Column(name = "valid_from", nullable = false)
+    @Schema(description = "Timestamp from which this version was current", example = "2023-09-01T09:00:00")
+    private LocalDateTime validFrom;
+
+    protected StudentHistory() {}
+
+    public StudentHistory(Student student, boolean deleted, LocalDateTime validFrom) {
+        this.studentId = student.getId();
+        this.version = student.getVersion();
+        this.name = student.getName();
+        this.passportNumber = student.getPassportNumber();
+        this.age = student.getAge();
+        this.email = student.getEmail();
+        this.enrollmentDate = student.getEnrollmentDate();
+        this.graduationYear = student.getGraduationYear();
+        this.status = student.getStatus();
+        this.deleted = deleted;
+        this.validFrom = validFrom;
+    }
+
+    @JsonIgnore
+    public Long getHistoryId() { return historyId; }
+
+    public Long getStudentId() { return studentId; }
+
+    public Long getVersion() { return version; }
+
+    public String getName() { return name; }
+
+    public String getPassportNumber() { return passportNumber; }
+
+    public Integer getAge() { return age; }
+
+    public String getEmail() { return email; }
+
+    public LocalDateTime getEnrollmentDate() { return enrollmentDate; }
+
+    public Integer getGraduationYear() { return graduationYear; }
+
+    public StudentStatus getStatus() { return status; }
+
+    public boolean isDeleted() { return deleted; }
+
+    public LocalDateTime getValidFrom() { return validFrom; }
+}
@@ -0,0 +1,45 @@
+package com.example.crud_api.student;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StudentHistoryRepository extends JpaRepository<StudentHistory, Long> {
+
+    // All versions of a student, oldest first
+    List<StudentHistory> findByStudentIdOrderByValidFromAscVersionAsc(Long studentId);
+
+    // Version current at the given instant - a single seek on (student_id, valid_from desc, version desc)
+    Optional<StudentHistory> findFirstByStudentIdAndValidFromLessThanEqualOrderByValidFromDescVersionDesc(
+            Long studentId, LocalDateTime asOf);
+
+    // Baseline row for every current or archived student without any history, valid from its last update
+    @Modifying
+    @Query(value = """
+            insert into student_history (history_id, student_id, version, name, passport_number, age, email,
+                                         enrollment_date, graduation_year, status, deleted, valid_from)
+            select next value for student_history_seq, s.id, s.version, s.name, s.passport_number, s.age, s.email,
+                   s.enrollment_date, s.graduation_year, s.status, false, s.updated_at
+            from (select id, version, name, passport_number, age, email, enrollment_date, graduation_year,
+                         status, updated_at from student
+                  union all
+                  select id, version, name, passport_number, age, email, enrollment_date, graduation_year,
+                         status, updated_at from student_archive) s
+            where not exists (select 1 from student_history h where h.student_id = s.id)
+            """, nativeQuery = true)
+    int insertMissingBaselines();
+
+    @Query(value = "select exists(select 1 from student_history_baseline)", nativeQuery = true)
+    boolean isBaselineRecorded();
+
+    @Modifying
+    @Query(value = "insert into student_history_baseline (id, recorded_at) values (1, current_timestamp)",
+            nativeQuery = true)
+    int markBaselineRecorded();
+}
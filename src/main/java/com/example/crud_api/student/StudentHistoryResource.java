@@ -0,0 +1,109 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Student History", description = "Past versions of student records")
+public class StudentHistoryResource {
+
+    private final StudentHistoryService studentHistoryService;
+
+    public StudentHistoryResource(StudentHistoryService studentHistoryService) {
+        this.studentHistoryService = studentHistoryService;
+    }
+
+    @GetMapping("/students/{id}/history")
+    @Operation(
+            summary = "Retrieve the history of a student",
+            description = "Returns every recorded version of the student, oldest first, including a final deleted marker if the student was deleted"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "History retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = StudentHistory.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No history recorded for the provided ID",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<List<StudentHistory>> retrieveHistory(
+            @Parameter(description = "Unique identifier of the student", example = "1", required = true)
+            @PathVariable Long id) {
+
+        if (id <= 0) {
+            throw new IllegalArgumentException("Student ID must be a positive number");
+        }
+
+        List<StudentHistory> history = studentHistoryService.findHistory(id);
+        if (history.isEmpty()) {
+            throw new StudentNotFoundException("No history found for student with id: " + id);
+        }
+        return ResponseEntity.ok(history);
+    }
+
+    @GetMapping(path = "/students/{id}/history", params = "asOf")
+    @Operation(
+            summary = "Retrieve a student as of a point in time",
+            description = "Returns the version of the student that was current at the given date and time"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Version found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StudentHistory.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "The student did not exist at the given time",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<StudentHistory> retrieveAsOf(
+            @Parameter(description = "Unique identifier of the student", example = "1", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Point in time (ISO-8601)", example = "2024-01-01T00:00:00", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+
+        if (id <= 0) {
+            throw new IllegalArgumentException("Student ID must be a positive number");
+        }
+
+        StudentHistory version = studentHistoryService.findAsOf(id, asOf)
+                .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id + " as of " + asOf));
+        return ResponseEntity.ok(version);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.crud_api.student;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps an append-only history of every student version in {@code student_history}.
+ * <p>
+ * A row is added in the writing transaction for each change, stamped with the
+ * student's {@code updatedAt}; deletions add a row flagged as deleted. History rows use
+ * a pooled sequence and are not flushed here, so Hibernate batches their inserts with the
+ * rest of the transaction's flush.
+ * <p>
+ * Seed rows and generated datasets are written with their history rows. A database created
+ * before history was kept gets a baseline row of each student's current state once, at the
+ * first startup; a marker row in {@code student_history_baseline} skips the backfill after that.
+ */
+@Service
+@Transactional(readOnly = true)
+public class StudentHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentHistoryService.class);
+
+    private final StudentHistoryRepository studentHistoryRepository;
+
+    public StudentHistoryService(StudentHistoryRepository studentHistoryRepository) {
+        this.studentHistoryRepository = studentHistoryRepository;
+    }
+
+    /**
+     * Runs after {@link StudentChangeLog#record}, whose flush assigns the version and
+     * {@code updatedAt} this row is stamped with.
+     */
+    @EventListener
+    @Order(StudentChangeLog.LISTENER_ORDER + 1)
+    @Transactional
+    public void record(StudentChangeEvent event) {
+        Student student = event.student();
+        if (event.isDelete()) {
+            studentHistoryRepository.save(new StudentHistory(student, true, LocalDateTime.now()));
+            return;
+        }
+        LocalDateTime validFrom = student.getUpdatedAt() != null ? student.getUpdatedAt() : LocalDateTime.now();
+        studentHistoryRepository.save(new StudentHistory(student, false, validFrom));
+    }
+
+    /**
+     * Backfills baseline rows the first time a database from before history was kept starts.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recordBaselines() {
+        if (studentHistoryRepository.isBaselineRecorded()) {
+            return;
+        }
+        int recorded = studentHistoryRepository.insertMissingBaselines();
+        studentHistoryRepository.markBaselineRecorded();
+        log.info("Recorded baseline history for {} students written before history was kept", recorded);
+    }
+
+    public List<StudentHistory> findHistory(Long studentId) {
+        return studentHistoryRepository.findByStudentIdOrderByValidFromAscVersionAsc(studentId);
+    }
+
+    /**
+     * @return the version current at {@code asOf}, empty if the student did not exist (or was deleted) at that time
+     */
+    public Optional<StudentHistory> findAsOf(Long studentId, LocalDateTime asOf) {
+        return studentHistoryRepository
+                .findFirstByStudentIdAndValidFromLessThanEqualOrderByValidFromDescVersionDesc(studentId, asOf)
+                .filter(version -> !version.isDeleted());
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.crud_api.student;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hand-written Jackson codec for {@link Student}, the payload of every list endpoint.
+ * <p>
+ * It produces and accepts exactly the documents of Jackson's reflective bean codec with the
+ * application's settings: same property order, nulls written, ISO-8601 timestamps and the
+ * read-only {@code active} flag. It avoids the reflective property walk, writes pre-encoded
+ * field and status names, and formats and parses canonical timestamps directly. Anything
+ * outside the fast path (timestamps as arrays, coerced scalars, unknown properties) is
+ * delegated to Jackson's standard handling, so errors and lenient inputs behave as before.
+ */
+@JsonComponent
+public class StudentJsonCodec {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString PASSPORT_NUMBER = new SerializedString("passportNumber");
+    private static final SerializedString AGE = new SerializedString("age");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString ENROLLMENT_DATE = new SerializedString("enrollmentDate");
+    private static final SerializedString GRADUATION_YEAR = new SerializedString("graduationYear");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString VERSION = new SerializedString("version");
+    private static final SerializedString ACTIVE = new SerializedString("active");
+
+    private static final StudentStatus[] STATUSES = StudentStatus.values();
+    private static final SerializedString[] STATUS_NAMES = new SerializedString[STATUSES.length];
+    private static final Map<String, StudentStatus> STATUS_BY_NAME = new HashMap<>();
+
+    static {
+        for (StudentStatus status : STATUSES) {
+            STATUS_NAMES[status.ordinal()] = new SerializedString(status.name());
+            STATUS_BY_NAME.put(status.name(), status);
+        }
+    }
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    static final int MAX_TIMESTAMP_LENGTH = 29;
+
+    public static class Serializer extends JsonSerializer<Student> {
+
+        @Override
+        public void serialize(Student student, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            // One scratch buffer for the three timestamps; null when timestamps are written as arrays
+            char[] timestampBuffer = provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    ? null
+                    : new char[MAX_TIMESTAMP_LENGTH];
+
+            gen.writeStartObject(student);
+            writeLong(gen, ID, student.getId());
+            writeString(gen, NAME, student.getName());
+            writeString(gen, PASSPORT_NUMBER, student.getPassportNumber());
+            writeInteger(gen, AGE, student.getAge());
+            writeString(gen, EMAIL, student.getEmail());
+            writeTimestamp(gen, provider, ENROLLMENT_DATE, student.getEnrollmentDate(), timestampBuffer);
+            writeInteger(gen, GRADUATION_YEAR, student.getGraduationYear());
+            gen.writeFieldName(STATUS);
+            if (student.getStatus() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(STATUS_NAMES[student.getStatus().ordinal()]);
+            }
+            writeTimestamp(gen, provider, CREATED_AT, student.getCreatedAt(), timestampBuffer);
+            writeTimestamp(gen, provider, UPDATED_AT, student.getUpdatedAt(), timestampBuffer);
+            writeLong(gen, VERSION, student.getVersion());
+            gen.writeFieldName(ACTIVE);
+            gen.writeBoolean(student.isActive());
+            gen.writeEndObject();
+        }
+
+        private static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+            gen.writeFieldName(name);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(value);
+            }
+        }
+
+        private static void writeInteger(JsonGenerator gen, SerializedString name, Integer value) throws IOException {
+            gen.writeFieldName(name);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value.intValue());
+            }
+        }
+
+        private static void writeLong(JsonGenerator gen, SerializedString name, Long value) throws IOException {
+            gen.writeFieldName(name);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value.longValue());
+            }
+        }
+
+        private static void writeTimestamp(JsonGenerator gen, SerializerProvider provider, SerializedString name,
+                                           LocalDateTime value, char[] buffer) throws IOException {
+            gen.writeFieldName(name);
+            if (value == null) {
+                gen.writeNull();
+                return;
+            }
+            int length = buffer == null ? -1 : formatTimestamp(value, buffer);
+            if (length < 0) {
+                provider.defaultSerializeValue(value, gen);
+            } else {
+                gen.writeString(buffer, 0, length);
+            }
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Student> {
+
+        @Override
+        public Student deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (Student) ctxt.handleUnexpectedToken(Student.class, p);
+            }
+
+            Student student = new Student();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String name = p.currentName();
+                p.nextToken();
+                switch (name) {
+                    case "id" -> student.setId(readLong(p, ctxt));
+                    case "name" -> student.setName(readString(p, ctxt));
+                    case "passportNumber" -> student.setPassportNumber(readString(p, ctxt));
+                    case "age" -> student.setAge(readInteger(p, ctxt));
+                    case "email" -> student.setEmail(readString(p, ctxt));
+                    case "enrollmentDate" -> student.setEnrollmentDate(readTimestamp(p, ctxt));
+                    case "graduationYear" -> student.setGraduationYear(readInteger(p, ctxt));
+                    case "status" -> student.setStatus(readStatus(p, ctxt));
+                    case "createdAt" -> student.setCreatedAt(readTimestamp(p, ctxt));
+                    case "updatedAt" -> student.setUpdatedAt(readTimestamp(p, ctxt));
+                    case "version" -> student.setVersion(readLong(p, ctxt));
+                    // Includes the read-only "active" flag, as with the bean deserializer
+                    default -> ctxt.handleUnknownProperty(p, this, Student.class, name);
+                }
+            }
+            return student;
+        }
+
+        private static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return switch (p.currentToken()) {
+                case VALUE_STRING -> p.getText();
+                case VALUE_NULL -> null;
+                default -> ctxt.readValue(p, String.class);
+            };
+        }
+
+        private static Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return switch (p.currentToken()) {
+                case VALUE_NUMBER_INT -> p.getIntValue();
+                case VALUE_NULL -> null;
+                default -> ctxt.readValue(p, Integer.class);
+            };
+        }
+
+        private static Long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return switch (p.currentToken()) {
+                case VALUE_NUMBER_INT -> p.getLongValue();
+                case VALUE_NULL -> null;
+                default -> ctxt.readValue(p, Long.class);
+            };
+        }
+
+        private static StudentStatus readStatus(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            StudentStatus status = token == JsonToken.VALUE_STRING ? STATUS_BY_NAME.get(p.getText()) : null;
+            return status != null ? status : ctxt.readValue(p, StudentStatus.class);
+        }
+
+        private static LocalDateTime readTimestamp(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            LocalDateTime timestamp = token == JsonToken.VALUE_STRING ? parseTimestamp(p.getText()) : null;
+            return timestamp != null ? timestamp : ctxt.readValue(p, LocalDateTime.class);
+        }
+    }
+
+    /**
+     * Formats like {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}: seconds always,
+     * the fraction only when non-zero and without trailing zeros.
+     *
+     * @return the number of characters written, or -1 for years outside 0000-9999
+     */
+    static int formatTimestamp(LocalDateTime value, char[] buffer) {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, value.getSecond(), 2);
+        int nano = value.getNano();
+        if (nano == 0) {
+            return 19;
+        }
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        buffer[19] = '.';
+        writeDigits(buffer, 20, nano, digits);
+        return 20 + digits;
+    }
+
+    /**
+     * Parses the canonical {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]} form.
+     *
+     * @return the timestamp, or {@code null} if the text is in any other form or out of range
+     */
+    static LocalDateTime parseTimestamp(String text) {
+        int length = text.length();
+        if (length < 16 || length > MAX_TIMESTAMP_LENGTH
+                || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T' || text.charAt(13) != ':') {
+            return null;
+        }
+        int year = readDigits(text, 0, 4);
+        int month = readDigits(text, 5, 2);
+        int day = readDigits(text, 8, 2);
+        int hour = readDigits(text, 11, 2);
+        int minute = readDigits(text, 14, 2);
+        int second = 0;
+        int nano = 0;
+        if (length > 16) {
+            if (length < 19 || text.charAt(16) != ':') {
+                return null;
+            }
+            second = readDigits(text, 17, 2);
+            if (length > 19) {
+                if (length == 20 || text.charAt(19) != '.') {
+                    return null;
+                }
+                int digits = length - 20;
+                nano = readDigits(text, 20, digits);
+                for (int i = digits; i < 9 && nano >= 0; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        if ((year | month | day | hour | minute | second | nano) < 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    // Returns -1 if any character is not an ASCII digit
+    private static int readDigits(String text, int offset, int digits) {
+        int value = 0;
+        for (int i = offset; i < offset + digits; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.crud_api.student;
 
+/**
+ * Thrown for ids that match no student. It carries no stack trace: it is an expected
+ * outcome mapped to a 404, and capturing the stack dominated the cost of a miss.
+ */
 public class StudentNotFoundException extends RuntimeException {
 
     public StudentNotFoundException(String exception) {
-        super(exception);
+        super(exception, null, false, false);
     }
 
 }
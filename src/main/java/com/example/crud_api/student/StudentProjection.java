@@ -0,0 +1,20 @@
+package com.example.crud_api.student;
+
+/**
+ * Read model derived from the student roster and kept current from committed changes.
+ * <p>
+ * {@link StudentProjectionLoader} calls {@link #reset()} and then {@link #upsert} for every
+ * student at startup, and afterwards {@link #upsert}/{@link #remove} for each committed
+ * change. Calls can arrive concurrently from different request threads.
+ */
+public interface StudentProjection {
+
+    void reset();
+
+    /**
+     * Adds the student or replaces the projected state of a student with the same id.
+     */
+    void upsert(Student student);
+
+    void remove(long id);
+}
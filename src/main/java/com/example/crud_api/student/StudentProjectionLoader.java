@@ -0,0 +1,76 @@
+package com.example.crud_api.student;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds every {@link StudentProjection} from the {@link StudentRoster} once the application
+ * is ready, then feeds them committed changes. Changes committed while the roster is being
+ * scanned are held back and applied after the scan, so they win over the rows it read.
+ */
+@Component
+public class StudentProjectionLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentProjectionLoader.class);
+
+    private final StudentRoster studentRoster;
+    private final List<StudentProjection> projections;
+
+    // Guarded by this
+    private final List<StudentChangeEvent> pending = new ArrayList<>();
+    private boolean loaded;
+
+    public StudentProjectionLoader(StudentRoster studentRoster, List<StudentProjection> projections) {
+        this.studentRoster = studentRoster;
+        this.projections = projections;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.nanoTime();
+        projections.forEach(StudentProjection::reset);
+        long[] count = {0};
+        studentRoster.scan(student -> {
+            for (StudentProjection projection : projections) {
+                projection.upsert(student);
+            }
+            count[0]++;
+        });
+        synchronized (this) {
+            pending.forEach(this::dispatch);
+            pending.clear();
+            loaded = true;
+        }
+        log.info("Loaded {} students into {} projections in {} ms", count[0], projections.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChange(StudentChangeEvent event) {
+        synchronized (this) {
+            if (!loaded) {
+                pending.add(event);
+                return;
+            }
+        }
+        dispatch(event);
+    }
+
+    private void dispatch(StudentChangeEvent event) {
+        for (StudentProjection projection : projections) {
+            if (event.isDelete()) {
+                projection.remove(event.studentId());
+            } else {
+                projection.upsert(event.student());
+            }
+        }
+    }
+}
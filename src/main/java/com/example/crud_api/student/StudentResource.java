@@ -1,6 +1,7 @@
 package com.example.crud_api.student;
 
 import com.example.crud_api.exception.ErrorResponse;
+import com.example.crud_api.observability.TimedValidator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -12,27 +13,44 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1")
 @Tag(name = "Student Management", description = "APIs for managing student records including CRUD operations and status management")
 public class StudentResource {
 
+    static final String DUPLICATE_CANDIDATES_HEADER = "X-Duplicate-Candidates";
+
     private final StudentService studentService;
+    private final Validator studentValidator = new TimedValidator(new StudentValidator());
 
     public StudentResource(StudentService studentService) {
         this.studentService = studentService;
     }
 
+    /**
+     * Validates {@code @Valid} student bodies with {@link StudentValidator} instead of the Bean Validation engine,
+     * timed as the validate phase of the {@code Server-Timing} header.
+     */
+    @InitBinder("student")
+    public void initStudentBinder(WebDataBinder binder) {
+        binder.setValidator(studentValidator);
+    }
+
     @GetMapping("/students")
     @Operation(
             summary = "Retrieve all students",
-            description = "Fetches a list of all students in the system with their complete information including audit details"
+            description = "Fetches a list of all students in the system with their complete information including audit details. "
+                    + "Optionally limited to one status. "
+                    + "Graduated and withdrawn students that have been archived are only included when includeArchived=true."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -52,8 +70,18 @@ public class StudentResource {
                     )
             )
     })
-    public ResponseEntity<List<Student>> retrieveAllStudents() {
-        List<Student> students = studentService.findAllStudents();
+    public ResponseEntity<List<Student>> retrieveAllStudents(
+            @Parameter(description = "Only return students in this status", example = "GRADUATED")
+            @RequestParam(required = false) StudentStatus status,
+            @Parameter(description = "Also return students moved to the archive", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        if (status != null) {
+            return ResponseEntity.ok(studentService.findStudentsByStatus(status, includeArchived));
+        }
+        List<Student> students = includeArchived
+                ? studentService.findAllStudentsIncludingArchived()
+                : studentService.findAllStudents();
         return ResponseEntity.ok(students);
     }
 
@@ -128,7 +156,8 @@ public class StudentResource {
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "201",
-                    description = "Student created successfully",
+                    description = "Student created successfully. If existing students look like the same person, "
+                            + "their IDs are listed in the X-Duplicate-Candidates header, most likely first.",
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = Student.class)
@@ -179,7 +208,14 @@ public class StudentResource {
                 .buildAndExpand(savedStudent.getId())
                 .toUri();
 
-        return ResponseEntity.created(location).body(savedStudent);
+        ResponseEntity.BodyBuilder response = ResponseEntity.created(location);
+        List<DuplicateCandidate> duplicateCandidates = studentService.findDuplicateCandidates(savedStudent);
+        if (!duplicateCandidates.isEmpty()) {
+            response.header(DUPLICATE_CANDIDATES_HEADER, duplicateCandidates.stream()
+                    .map(candidate -> String.valueOf(candidate.id()))
+                    .collect(Collectors.joining(",")));
+        }
+        return response.body(savedStudent);
     }
 
     @PutMapping("/students/{id}")
@@ -363,7 +399,8 @@ public class StudentResource {
     @GetMapping("/students/active")
     @Operation(
             summary = "Retrieve all active students",
-            description = "Fetches a list of students with ACTIVE status only"
+            description = "Fetches a list of students with ACTIVE status only. "
+                    + "includeArchived is accepted as on the other list endpoints; only graduated and withdrawn students are archived."
     )
     @ApiResponse(
             responseCode = "200",
@@ -373,8 +410,45 @@ public class StudentResource {
                     array = @ArraySchema(schema = @Schema(implementation = Student.class))
             )
     )
-    public ResponseEntity<List<Student>> retrieveActiveStudents() {
-        List<Student> activeStudents = studentService.findActiveStudents();
+    public ResponseEntity<List<Student>> retrieveActiveStudents(
+            @Parameter(description = "Also return students moved to the archive", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<Student> activeStudents = includeArchived
+                ? studentService.findStudentsByStatus(StudentStatus.ACTIVE, true)
+                : studentService.findActiveStudents();
         return ResponseEntity.ok(activeStudents);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/students/duplicates")
+    @Operation(
+            summary = "Report likely duplicate students",
+            description = "Pairs of students that may be the same person, based on name, email and age, most likely first. "
+                    + "Students are only compared within blocks sharing a name token and age, so the report stays fast on large rosters."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Duplicate report computed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = DuplicatePair.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid minScore or limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<List<DuplicatePair>> retrieveDuplicates(
+            @Parameter(description = "Minimum score of a reported pair (0-1)", example = "0.75")
+            @RequestParam(defaultValue = "0.75") double minScore,
+            @Parameter(description = "Maximum number of pairs (1-1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+
+        return ResponseEntity.ok(studentService.findDuplicatePairs(minScore, limit));
+    }
+}
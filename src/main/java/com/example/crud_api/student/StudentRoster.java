@@ -0,0 +1,29 @@
+package com.example.crud_api.student;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Bulk read of every student, current and archived, used to build {@link StudentProjection}s.
+ * Unlike {@code findAll()}, implementations stream rows without loading managed entities.
+ */
+public interface StudentRoster {
+
+    void scan(Consumer<Student> consumer);
+
+    /**
+     * Counts every student by status and graduation year. The default implementation
+     * scans the roster; implementations backed by a database should aggregate there.
+     */
+    default List<StudentCount> countByStatusAndGraduationYear() {
+        record Group(StudentStatus status, Integer graduationYear) {
+        }
+        Map<Group, Long> counts = new HashMap<>();
+        scan(student -> counts.merge(new Group(student.getStatus(), student.getGraduationYear()), 1L, Long::sum));
+        return counts.entrySet().stream()
+                .map(entry -> new StudentCount(entry.getKey().status(), entry.getKey().graduationYear(), entry.getValue()))
+                .toList();
+    }
+}
@@ -1,93 +1,259 @@
 package com.example.crud_api.student;
 
+import com.example.crud_api.observability.StudentOperationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
 @Transactional
 public class StudentService {
 
+    static final int MAX_DUPLICATE_PAIRS = 1000;
+
     private final StudentRepository studentRepository;
+    private final StudentArchiveRepository studentArchiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StudentDuplicateIndex studentDuplicateIndex;
+    private final MissingStudentCache missingStudentCache;
 
-    public StudentService(StudentRepository studentRepository) {
+    public StudentService(StudentRepository studentRepository,
+                          StudentArchiveRepository studentArchiveRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          StudentDuplicateIndex studentDuplicateIndex,
+                          MissingStudentCache missingStudentCache) {
         this.studentRepository = studentRepository;
+        this.studentArchiveRepository = studentArchiveRepository;
+        this.eventPublisher = eventPublisher;
+        this.studentDuplicateIndex = studentDuplicateIndex;
+        this.missingStudentCache = missingStudentCache;
     }
 
     @Transactional(readOnly = true)
     public List<Student> findAllStudents() {
-        return studentRepository.findAll();
+        StudentOperationEvent event = StudentOperationEvent.start("findAll", null);
+        List<Student> students = studentRepository.findAll();
+        event.finish(students.size());
+        return students;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Student> findAllStudentsIncludingArchived() {
+        StudentOperationEvent event = StudentOperationEvent.start("findAllIncludingArchived", null);
+        List<Student> students = new ArrayList<>(studentRepository.findAll());
+        studentArchiveRepository.findAll().forEach(archived -> students.add(archived.toStudent()));
+        event.finish(students.size());
+        return students;
     }
 
     @Transactional(readOnly = true)
     public Optional<Student> findStudentById(Long id) {
-        return studentRepository.findById(id);
+        StudentOperationEvent event = StudentOperationEvent.start("findById", id);
+        if (missingStudentCache.isKnownMissing(id)) {
+            event.finish(0);
+            return Optional.empty();
+        }
+        long generation = missingStudentCache.generation();
+        Optional<Student> student = studentRepository.findById(id);
+        if (student.isPresent()) {
+            event.finish(1);
+            return student;
+        }
+        // Graduated and withdrawn students may have been moved to the archive
+        Optional<Student> archived = studentArchiveRepository.findById(id).map(ArchivedStudent::toStudent);
+        if (archived.isEmpty()) {
+            missingStudentCache.markMissing(id, generation);
+        }
+        event.finish(archived.isPresent() ? 1 : 0);
+        return archived;
     }
 
     public Student createStudent(Student student) {
-        // Set enrollment date if not provided
-        if (student.getEnrollmentDate() == null) {
-            student.setEnrollmentDate(LocalDateTime.now());
-        }
+        StudentOperationEvent event = StudentOperationEvent.start("create", null);
+        try {
+            // Set enrollment date if not provided
+            if (student.getEnrollmentDate() == null) {
+                student.setEnrollmentDate(LocalDateTime.now());
+            }
+
+            // Ensure new student is active
+            student.setStatus(StudentStatus.ACTIVE);
+            student.setId(null); // Ensure it's a new entity
 
-        // Ensure new student is active
-        student.setStatus(StudentStatus.ACTIVE);
-        student.setId(null); // Ensure it's a new entity
+            // The unique constraints only cover one tier each
+            if (studentArchiveRepository.existsByPassportNumberOrEmail(
+                    student.getPassportNumber(), student.getEmail())) {
+                throw new DataIntegrityViolationException("Passport number or email is taken by an archived student");
+            }
 
-        return studentRepository.save(student);
+            Student savedStudent = studentRepository.save(student);
+            publishChange(StudentChangeType.CREATED, savedStudent, null, null);
+            event.finish(savedStudent.getId(), null, savedStudent.getStatus(), 1);
+            return savedStudent;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
     }
 
     public Student updateStudent(Long id, Student studentData) {
-        Student existingStudent = studentRepository.findById(id)
-                .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
+        StudentOperationEvent event = StudentOperationEvent.start("update", id);
+        try {
+            Student existingStudent = studentRepository.findById(id)
+                    .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
+            StudentStatus previousStatus = existingStudent.getStatus();
+            Integer previousGraduationYear = existingStudent.getGraduationYear();
+
+            if (!Objects.equals(existingStudent.getEmail(), studentData.getEmail())) {
+                requireEmailNotArchived(studentData.getEmail());
+            }
 
-        // Update only the fields that should be updatable
-        existingStudent.setName(studentData.getName());
-        existingStudent.setAge(studentData.getAge());
-        existingStudent.setEmail(studentData.getEmail());
-        existingStudent.setGraduationYear(studentData.getGraduationYear());
+            // Update only the fields that should be updatable
+            existingStudent.setName(studentData.getName());
+            existingStudent.setAge(studentData.getAge());
+            existingStudent.setEmail(studentData.getEmail());
+            existingStudent.setGraduationYear(studentData.getGraduationYear());
 
-        // Don't update: passport number (immutable), enrollment date, audit fields
+            // Don't update: passport number (immutable), enrollment date, audit fields
 
-        return studentRepository.save(existingStudent);
+            Student savedStudent = studentRepository.save(existingStudent);
+            publishChange(StudentChangeType.UPDATED, savedStudent, previousStatus, previousGraduationYear);
+            event.finish(previousStatus, savedStudent.getStatus(), 1);
+            return savedStudent;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
     }
 
     public void deleteStudent(Long id) {
-        if (!studentRepository.existsById(id)) {
-            throw new StudentNotFoundException("Student not found with id: " + id);
+        StudentOperationEvent event = StudentOperationEvent.start("delete", id);
+        try {
+            // Load the student rather than checking existence: the tombstone records its last state
+            Student student = studentRepository.findById(id)
+                    .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
+
+            studentRepository.delete(student);
+            publishChange(StudentChangeType.DELETED, student, student.getStatus(), student.getGraduationYear());
+            event.finish(student.getStatus(), null, 1);
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
         }
-        studentRepository.deleteById(id);
     }
 
     public Student suspendStudent(Long id) {
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
+        StudentOperationEvent event = StudentOperationEvent.start("suspend", id);
+        try {
+            Student student = studentRepository.findById(id)
+                    .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
 
-        student.suspend();
-        return studentRepository.save(student);
+            StudentStatus previousStatus = student.getStatus();
+            student.suspend();
+            Student savedStudent = saveStatusChange(student, previousStatus);
+            event.finish(previousStatus, savedStudent.getStatus(), 1);
+            return savedStudent;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
     }
 
     public Student activateStudent(Long id) {
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
+        StudentOperationEvent event = StudentOperationEvent.start("activate", id);
+        try {
+            Student student = studentRepository.findById(id)
+                    .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
 
-        student.activate();
-        return studentRepository.save(student);
+            StudentStatus previousStatus = student.getStatus();
+            student.activate();
+            Student savedStudent = saveStatusChange(student, previousStatus);
+            event.finish(previousStatus, savedStudent.getStatus(), 1);
+            return savedStudent;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
     }
 
     public Student graduateStudent(Long id) {
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
+        StudentOperationEvent event = StudentOperationEvent.start("graduate", id);
+        try {
+            Student student = studentRepository.findById(id)
+                    .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
 
-        student.graduate();
-        return studentRepository.save(student);
+            StudentStatus previousStatus = student.getStatus();
+            student.graduate();
+            Student savedStudent = saveStatusChange(student, previousStatus);
+            event.finish(previousStatus, savedStudent.getStatus(), 1);
+            return savedStudent;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
     }
 
     @Transactional(readOnly = true)
     public List<Student> findActiveStudents() {
-        return studentRepository.findByStatus(StudentStatus.ACTIVE);
+        StudentOperationEvent event = StudentOperationEvent.start("findActive", null);
+        List<Student> students = studentRepository.findByStatus(StudentStatus.ACTIVE);
+        event.finish(students.size());
+        return students;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Student> findStudentsByStatus(StudentStatus status, boolean includeArchived) {
+        StudentOperationEvent event = StudentOperationEvent.start(
+                includeArchived ? "findByStatusIncludingArchived" : "findByStatus", null);
+        List<Student> students = new ArrayList<>(studentRepository.findByStatus(status));
+        // Only graduated and withdrawn students are ever archived
+        if (includeArchived && StudentArchiveService.ARCHIVABLE_STATUSES.contains(status.name())) {
+            studentArchiveRepository.findByStatus(status).forEach(archived -> students.add(archived.toStudent()));
+        }
+        event.finish(students.size());
+        return students;
+    }
+
+    /**
+     * @return existing students that may be the same person as {@code student}, most likely first
+     */
+    @Transactional(readOnly = true)
+    public List<DuplicateCandidate> findDuplicateCandidates(Student student) {
+        return studentDuplicateIndex.findCandidates(student, StudentDuplicateIndex.DEFAULT_MIN_SCORE);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DuplicatePair> findDuplicatePairs(double minScore, int limit) {
+        if (minScore < 0 || minScore > 1) {
+            throw new IllegalArgumentException("minScore must be between 0 and 1");
+        }
+        if (limit < 1 || limit > MAX_DUPLICATE_PAIRS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_DUPLICATE_PAIRS);
+        }
+        return studentDuplicateIndex.findPairs(minScore, limit);
+    }
+
+    private Student saveStatusChange(Student student, StudentStatus previousStatus) {
+        Student savedStudent = studentRepository.save(student);
+        publishChange(StudentChangeType.STATUS_CHANGED, savedStudent, previousStatus, savedStudent.getGraduationYear());
+        return savedStudent;
+    }
+
+    private void requireEmailNotArchived(String email) {
+        if (email != null && studentArchiveRepository.existsByEmail(email)) {
+            throw new DataIntegrityViolationException("Email is taken by an archived student");
+        }
+    }
+
+    private void publishChange(StudentChangeType type, Student student,
+                               StudentStatus previousStatus, Integer previousGraduationYear) {
+        eventPublisher.publishEvent(new StudentChangeEvent(type, student, previousStatus, previousGraduationYear));
     }
 }
\ No newline at end of file
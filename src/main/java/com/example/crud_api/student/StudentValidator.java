@@ -0,0 +1,197 @@
+package com.example.crud_api.student;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Checks the Bean Validation constraints declared on {@link Student} without the reflective
+ * metadata walk of the Bean Validation engine.
+ * <p>
+ * Each rule reports the same field and message as its annotation, so error responses are
+ * unchanged; the annotations stay on {@link Student} as the documented contract, and a test
+ * keeps both in step. Valid students are checked without allocating. Only email addresses
+ * outside the common {@code local@domain.tld} shape are handed to the Bean Validation
+ * {@code @Email} implementation, whose full grammar (quoted local parts, IP literals,
+ * internationalized domains) is not worth duplicating.
+ */
+public class StudentValidator implements Validator {
+
+    static final int NAME_MIN_LENGTH = 2;
+    static final int NAME_MAX_LENGTH = 100;
+    static final int PASSPORT_NUMBER_LENGTH = 8;
+    static final int MIN_AGE = 16;
+    static final int MAX_AGE = 100;
+    static final int MIN_GRADUATION_YEAR = 2020;
+    static final int MAX_GRADUATION_YEAR = 2030;
+
+    private static final int MAX_EMAIL_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_EMAIL_DOMAIN_LENGTH = 255;
+    private static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return Student.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        Student student = (Student) target;
+
+        String name = student.getName();
+        if (isBlank(name)) {
+            errors.rejectValue("name", "NotBlank", "Name is required");
+        }
+        if (name != null && (name.length() < NAME_MIN_LENGTH || name.length() > NAME_MAX_LENGTH)) {
+            errors.rejectValue("name", "Size", "Name must be between 2 and 100 characters");
+        }
+
+        String passportNumber = student.getPassportNumber();
+        if (isBlank(passportNumber)) {
+            errors.rejectValue("passportNumber", "NotBlank", "Passport number is required");
+        }
+        if (passportNumber != null && !isPassportNumber(passportNumber)) {
+            errors.rejectValue("passportNumber", "Pattern",
+                    "Passport number must be in format: one letter followed by 7 digits (e.g., A1234567)");
+        }
+
+        Integer age = student.getAge();
+        if (age == null) {
+            errors.rejectValue("age", "NotNull", "Age is required");
+        } else if (age < MIN_AGE) {
+            errors.rejectValue("age", "Min", "Student must be at least 16 years old");
+        } else if (age > MAX_AGE) {
+            errors.rejectValue("age", "Max", "Age cannot exceed 100");
+        }
+
+        String email = student.getEmail();
+        if (email != null && !email.isEmpty() && !isCommonEmail(email) && !BeanValidation.isEmail(email)) {
+            errors.rejectValue("email", "Email", "Please provide a valid email address");
+        }
+
+        LocalDateTime enrollmentDate = student.getEnrollmentDate();
+        if (enrollmentDate == null) {
+            errors.rejectValue("enrollmentDate", "NotNull", "Enrollment date is required");
+        }
+
+        Integer graduationYear = student.getGraduationYear();
+        if (graduationYear != null && graduationYear < MIN_GRADUATION_YEAR) {
+            errors.rejectValue("graduationYear", "Min", "Graduation year must be 2020 or later");
+        } else if (graduationYear != null && graduationYear > MAX_GRADUATION_YEAR) {
+            errors.rejectValue("graduationYear", "Max", "Graduation year cannot exceed 2030");
+        }
+
+        if (student.getStatus() == null) {
+            errors.rejectValue("status", "NotNull", "Status is required");
+        }
+    }
+
+    // Same test as Hibernate Validator's @NotBlank: null, or nothing left after trim()
+    static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ^[A-Z][0-9]{7}$
+    static boolean isPassportNumber(String value) {
+        if (value.length() != PASSPORT_NUMBER_LENGTH) {
+            return false;
+        }
+        char letter = value.charAt(0);
+        if (letter < 'A' || letter > 'Z') {
+            return false;
+        }
+        for (int i = 1; i < PASSPORT_NUMBER_LENGTH; i++) {
+            char digit = value.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} for an ASCII address made of dot-separated atoms, an {@code @} and
+     * dot-separated alphanumeric domain labels with inner hyphens. All of these are valid
+     * {@code @Email} values; {@code false} means "not decided here", not "invalid".
+     */
+    static boolean isCommonEmail(String value) {
+        int at = value.lastIndexOf('@');
+        if (at <= 0 || at > MAX_EMAIL_LOCAL_PART_LENGTH) {
+            return false;
+        }
+        // Local part: atoms separated by single dots
+        boolean atomStart = true;
+        for (int i = 0; i < at; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (atomStart) {
+                    return false;
+                }
+                atomStart = true;
+            } else if (isAtomChar(c)) {
+                atomStart = false;
+            } else {
+                return false;
+            }
+        }
+        if (atomStart) {
+            return false;
+        }
+        // Domain: non-empty labels of letters, digits and inner hyphens, not ending with a dot
+        int domainLength = value.length() - at - 1;
+        if (domainLength == 0 || domainLength > MAX_EMAIL_DOMAIN_LENGTH) {
+            return false;
+        }
+        int labelStart = at + 1;
+        for (int i = at + 1; i <= value.length(); i++) {
+            if (i < value.length() && value.charAt(i) != '.') {
+                char c = value.charAt(i);
+                if (!isLetterOrDigit(c) && c != '-') {
+                    return false;
+                }
+                continue;
+            }
+            int labelLength = i - labelStart;
+            if (labelLength == 0 || labelLength > MAX_DOMAIN_LABEL_LENGTH
+                    || value.charAt(labelStart) == '-' || value.charAt(i - 1) == '-'
+                    || value.regionMatches(true, labelStart, "xn--", 0, 4)) {
+                // Punycode labels are left to the IDN check of @Email
+                return false;
+            }
+            labelStart = i + 1;
+        }
+        return true;
+    }
+
+    private static boolean isAtomChar(char c) {
+        return isLetterOrDigit(c) || "!#$%&'*+/=?^_`{|}~-".indexOf(c) >= 0;
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /** Bean Validation engine for the rare inputs not decided above, created on first use. */
+    private static final class BeanValidation {
+
+        private static final jakarta.validation.Validator VALIDATOR =
+                Validation.buildDefaultValidatorFactory().getValidator();
+
+        static boolean isEmail(String email) {
+            Set<ConstraintViolation<Student>> violations = VALIDATOR.validateValue(Student.class, "email", email);
+            return violations.isEmpty();
+        }
+    }
+}
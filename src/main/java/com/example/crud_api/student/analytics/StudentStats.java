@@ -0,0 +1,33 @@
+package com.example.crud_api.student.analytics;
+
+import com.example.crud_api.student.StudentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates over the student roster, current and archived.
+ *
+ * @param total                     number of students matching the filters
+ * @param byStatus                  count per status, including statuses with no students
+ * @param byStatusAndGraduationYear count per status and graduation year ({@code "none"} when not set)
+ * @param ageHistogram              contiguous age buckets from the youngest to the oldest student
+ * @param enrollmentsByMonth        enrollments per month ({@code yyyy-MM}), contiguous from the first to the last
+ */
+@Schema(description = "Student roster statistics")
+public record StudentStats(
+        long total,
+        Map<StudentStatus, Long> byStatus,
+        Map<StudentStatus, Map<String, Long>> byStatusAndGraduationYear,
+        List<AgeBucket> ageHistogram,
+        Map<String, Long> enrollmentsByMonth) {
+
+    /**
+     * @param from  youngest age in the bucket
+     * @param to    oldest age in the bucket, inclusive
+     * @param count number of students in the bucket
+     */
+    public record AgeBucket(int from, int to, long count) {
+    }
+}
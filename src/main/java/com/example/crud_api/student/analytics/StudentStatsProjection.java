@@ -0,0 +1,293 @@
+package com.example.crud_api.student.analytics;
+
+import com.example.crud_api.collection.LongIntHashMap;
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentProjection;
+import com.example.crud_api.student.StudentStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Column-oriented copy of the attributes the reports group by: one primitive array per
+ * attribute, indexed by row. A query is a single pass over the arrays that bumps counters
+ * in flat {@code long[]} tables, with no objects touched per row.
+ * <p>
+ * Rows are kept dense: removing a student moves the last row into the hole.
+ * Value ranges (graduation years, ages, enrollment months) only ever widen, which keeps
+ * the counter tables' offsets valid without rescanning.
+ */
+@Component
+public class StudentStatsProjection implements StudentProjection {
+
+    private static final StudentStatus[] STATUSES = StudentStatus.values();
+    private static final byte NO_STATUS = -1;
+    private static final short NO_VALUE = Short.MIN_VALUE;
+    private static final int NO_MONTH = Integer.MIN_VALUE;
+    private static final int MISSING_ROW = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+
+    private LongIntHashMap rowById;
+    private long[] ids;
+    private byte[] statuses;
+    private short[] ages;
+    private short[] graduationYears;
+    private int[] enrollmentMonths;
+    private int size;
+
+    private int minGraduationYear;
+    private int maxGraduationYear;
+    private int maxAge;
+    private int minEnrollmentMonth;
+    private int maxEnrollmentMonth;
+
+    public StudentStatsProjection() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public void reset() {
+        long stamp = lock.writeLock();
+        try {
+            allocate(INITIAL_CAPACITY);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void upsert(Student student) {
+        long stamp = lock.writeLock();
+        try {
+            int row = rowById.get(student.getId());
+            if (row == MISSING_ROW) {
+                if (size == ids.length) {
+                    grow();
+                }
+                row = size++;
+                rowById.put(student.getId(), row);
+            }
+            ids[row] = student.getId();
+            statuses[row] = student.getStatus() == null ? NO_STATUS : (byte) student.getStatus().ordinal();
+            ages[row] = student.getAge() == null ? NO_VALUE : student.getAge().shortValue();
+            graduationYears[row] = student.getGraduationYear() == null ? NO_VALUE : student.getGraduationYear().shortValue();
+            enrollmentMonths[row] = toMonth(student.getEnrollmentDate());
+            widenRanges(row);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            int row = rowById.remove(id);
+            if (row == MISSING_ROW) {
+                return;
+            }
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                statuses[row] = statuses[last];
+                ages[row] = ages[last];
+                graduationYears[row] = graduationYears[last];
+                enrollmentMonths[row] = enrollmentMonths[last];
+                rowById.put(ids[row], row);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @param status         only count students in this status, {@code null} for all
+     * @param graduationYear only count students graduating in this year, {@code null} for all
+     * @param ageBucketWidth width of the age histogram buckets, in years
+     */
+    public StudentStats compute(StudentStatus status, Integer graduationYear, int ageBucketWidth) {
+        if (ageBucketWidth < 1) {
+            throw new IllegalArgumentException("ageBucketWidth must be at least 1");
+        }
+        int statusFilter = status == null ? NO_STATUS : status.ordinal();
+        int yearFilter = graduationYear == null ? NO_VALUE : graduationYear;
+
+        long stamp = lock.readLock();
+        try {
+            int yearBase = minGraduationYear;
+            // Last column counts students without a graduation year
+            int yearColumns = span(minGraduationYear, maxGraduationYear) + 1;
+            int monthBase = minEnrollmentMonth;
+            long[] byStatusAndYear = new long[STATUSES.length * yearColumns];
+            long[] byAge = new long[maxAge + 1];
+            long[] byMonth = new long[span(minEnrollmentMonth, maxEnrollmentMonth)];
+            long total = 0;
+
+            byte[] statuses = this.statuses;
+            short[] ages = this.ages;
+            short[] graduationYears = this.graduationYears;
+            int[] enrollmentMonths = this.enrollmentMonths;
+            for (int row = 0, rows = size; row < rows; row++) {
+                int rowStatus = statuses[row];
+                int rowYear = graduationYears[row];
+                if ((statusFilter != NO_STATUS && rowStatus != statusFilter)
+                        || (yearFilter != NO_VALUE && rowYear != yearFilter)) {
+                    continue;
+                }
+                total++;
+                if (rowStatus != NO_STATUS) {
+                    int column = rowYear == NO_VALUE ? yearColumns - 1 : rowYear - yearBase;
+                    byStatusAndYear[rowStatus * yearColumns + column]++;
+                }
+                int age = ages[row];
+                if (age >= 0) {
+                    byAge[age]++;
+                }
+                int month = enrollmentMonths[row];
+                if (month != NO_MONTH) {
+                    byMonth[month - monthBase]++;
+                }
+            }
+
+            return new StudentStats(total,
+                    statusTotals(byStatusAndYear, yearColumns),
+                    statusYearCounts(byStatusAndYear, yearColumns, yearBase),
+                    ageHistogram(byAge, ageBucketWidth),
+                    monthCounts(byMonth, monthBase));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static Map<StudentStatus, Long> statusTotals(long[] byStatusAndYear, int yearColumns) {
+        Map<StudentStatus, Long> totals = new EnumMap<>(StudentStatus.class);
+        for (StudentStatus status : STATUSES) {
+            long count = 0;
+            int offset = status.ordinal() * yearColumns;
+            for (int column = 0; column < yearColumns; column++) {
+                count += byStatusAndYear[offset + column];
+            }
+            totals.put(status, count);
+        }
+        return totals;
+    }
+
+    private static Map<StudentStatus, Map<String, Long>> statusYearCounts(long[] byStatusAndYear, int yearColumns,
+                                                                         int yearBase) {
+        Map<StudentStatus, Map<String, Long>> counts = new EnumMap<>(StudentStatus.class);
+        for (StudentStatus status : STATUSES) {
+            Map<String, Long> byYear = new TreeMap<>();
+            int offset = status.ordinal() * yearColumns;
+            for (int column = 0; column < yearColumns; column++) {
+                long count = byStatusAndYear[offset + column];
+                if (count > 0) {
+                    byYear.put(column == yearColumns - 1 ? "none" : Integer.toString(yearBase + column), count);
+                }
+            }
+            counts.put(status, byYear);
+        }
+        return counts;
+    }
+
+    private static List<StudentStats.AgeBucket> ageHistogram(long[] byAge, int width) {
+        int youngest = 0;
+        while (youngest < byAge.length && byAge[youngest] == 0) {
+            youngest++;
+        }
+        int oldest = byAge.length - 1;
+        while (oldest >= youngest && byAge[oldest] == 0) {
+            oldest--;
+        }
+        List<StudentStats.AgeBucket> buckets = new ArrayList<>();
+        for (int from = youngest - youngest % width; from <= oldest; from += width) {
+            long count = 0;
+            for (int age = from; age < from + width && age <= oldest; age++) {
+                count += byAge[age];
+            }
+            buckets.add(new StudentStats.AgeBucket(from, from + width - 1, count));
+        }
+        return buckets;
+    }
+
+    private static Map<String, Long> monthCounts(long[] byMonth, int monthBase) {
+        int first = 0;
+        while (first < byMonth.length && byMonth[first] == 0) {
+            first++;
+        }
+        int last = byMonth.length - 1;
+        while (last >= first && byMonth[last] == 0) {
+            last--;
+        }
+        Map<String, Long> counts = new TreeMap<>();
+        for (int month = first; month <= last; month++) {
+            int absolute = monthBase + month;
+            counts.put(YearMonth.of(absolute / 12, absolute % 12 + 1).toString(), byMonth[month]);
+        }
+        return counts;
+    }
+
+    private void widenRanges(int row) {
+        int year = graduationYears[row];
+        if (year != NO_VALUE) {
+            minGraduationYear = Math.min(minGraduationYear, year);
+            maxGraduationYear = Math.max(maxGraduationYear, year);
+        }
+        maxAge = Math.max(maxAge, ages[row]);
+        int month = enrollmentMonths[row];
+        if (month != NO_MONTH) {
+            minEnrollmentMonth = Math.min(minEnrollmentMonth, month);
+            maxEnrollmentMonth = Math.max(maxEnrollmentMonth, month);
+        }
+    }
+
+    private static int span(int min, int max) {
+        return max >= min ? max - min + 1 : 0;
+    }
+
+    private static int toMonth(LocalDateTime dateTime) {
+        return dateTime == null ? NO_MONTH : dateTime.getYear() * 12 + dateTime.getMonthValue() - 1;
+    }
+
+    private void allocate(int capacity) {
+        rowById = new LongIntHashMap(capacity, MISSING_ROW);
+        ids = new long[capacity];
+        statuses = new byte[capacity];
+        ages = new short[capacity];
+        graduationYears = new short[capacity];
+        enrollmentMonths = new int[capacity];
+        size = 0;
+        minGraduationYear = Integer.MAX_VALUE;
+        maxGraduationYear = Integer.MIN_VALUE;
+        maxAge = 0;
+        minEnrollmentMonth = Integer.MAX_VALUE;
+        maxEnrollmentMonth = Integer.MIN_VALUE;
+    }
+
+    private void grow() {
+        int capacity = ids.length << 1;
+        ids = Arrays.copyOf(ids, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        graduationYears = Arrays.copyOf(graduationYears, capacity);
+        enrollmentMonths = Arrays.copyOf(enrollmentMonths, capacity);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.crud_api.student.analytics;
+
+import com.example.crud_api.exception.ErrorResponse;
+import com.example.crud_api.student.StudentStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Student Statistics", description = "Aggregates over the student roster")
+public class StudentStatsResource {
+
+    private final StudentStatsProjection studentStatsProjection;
+
+    public StudentStatsResource(StudentStatsProjection studentStatsProjection) {
+        this.studentStatsProjection = studentStatsProjection;
+    }
+
+    @GetMapping("/students/stats")
+    @Operation(
+            summary = "Retrieve student statistics",
+            description = "Counts by status and graduation year, an age histogram and enrollments per month, "
+                    + "over current and archived students. Served from an in-memory column store kept current "
+                    + "from committed changes, so it never loads the students themselves."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics computed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StudentStats.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid filter or bucket width",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<StudentStats> retrieveStats(
+            @Parameter(description = "Only count students in this status", example = "ACTIVE")
+            @RequestParam(required = false) StudentStatus status,
+            @Parameter(description = "Only count students graduating in this year", example = "2025")
+            @RequestParam(required = false) Integer graduationYear,
+            @Parameter(description = "Width of the age histogram buckets in years", example = "5")
+            @RequestParam(defaultValue = "5") int ageBucketWidth) {
+
+        return ResponseEntity.ok(studentStatsProjection.compute(status, graduationYear, ageBucketWidth));
+    }
+}
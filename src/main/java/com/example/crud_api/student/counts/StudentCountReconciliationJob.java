@@ -0,0 +1,26 @@
+package com.example.crud_api.student.counts;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically rebuilds the materialized counts from the roster, bounding how long drift
+ * (e.g. deltas lost in a crash before their flush) can be served.
+ */
+@Component
+@ConditionalOnProperty(name = "student.counts.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class StudentCountReconciliationJob {
+
+    private final StudentCountService studentCountService;
+
+    public StudentCountReconciliationJob(StudentCountService studentCountService) {
+        this.studentCountService = studentCountService;
+    }
+
+    @Scheduled(initialDelayString = "${student.counts.reconcile.interval:PT1H}",
+            fixedDelayString = "${student.counts.reconcile.interval:PT1H}")
+    public void reconcile() {
+        studentCountService.reconcile();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.crud_api.student.counts;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Student Statistics", description = "Aggregates over the student roster")
+public class StudentCountResource {
+
+    private final StudentCountService studentCountService;
+
+    public StudentCountResource(StudentCountService studentCountService) {
+        this.studentCountService = studentCountService;
+    }
+
+    @GetMapping("/students/counts")
+    @Operation(
+            summary = "Retrieve student counts",
+            description = "Number of students per status and per status and graduation year, current and archived "
+                    + "students included. Served from materialized counters, so the cost doesn't depend on the number of students."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Counts retrieved successfully",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = StudentCounts.class)
+            )
+    )
+    public ResponseEntity<StudentCounts> retrieveCounts() {
+        return ResponseEntity.ok(studentCountService.currentCounts());
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.crud_api.student.counts;
+
+import com.example.crud_api.observability.StudentBatchEvent;
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentChangeEvent;
+import com.example.crud_api.student.StudentCount;
+import com.example.crud_api.student.StudentRoster;
+import com.example.crud_api.student.StudentStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maintains the {@code student_counts} summary.
+ * <p>
+ * Committed creates, deletes and status or graduation-year changes are added to striped
+ * {@link LongAdder}s, so concurrent writers never contend on a counter row. Two sets are kept
+ * per status and graduation year: the running totals served by {@link #currentCounts()} and
+ * the deltas not yet written to the table. {@link #flush()} writes the deltas in one
+ * transaction and subtracts exactly what it wrote, so increments racing the flush are kept
+ * for the next one. {@link #reconcile()} rebuilds the table and the totals from the roster,
+ * repairing drift such as deltas lost in a crash before their flush.
+ * <p>
+ * A write holds the read side of {@link #commitLock} from just before its commit until its
+ * deltas are applied, and {@link #reconcile()} counts the roster under the write side. The
+ * count therefore includes exactly the writes whose deltas are already applied, so the old
+ * deltas can be dropped without counting anything twice. Writes wait at commit while the
+ * roster is counted.
+ */
+@Service
+public class StudentCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentCountService.class);
+
+    /** Stored graduation year for students without one; the column is part of the primary key. */
+    static final int NO_GRADUATION_YEAR = 0;
+
+    private final StudentRoster studentRoster;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    // Replaced whole under the write side of commitLock, never cleared in place
+    private volatile Map<CountKey, LongAdder> totals = new ConcurrentHashMap<>();
+    private volatile Map<CountKey, LongAdder> unflushed = new ConcurrentHashMap<>();
+
+    public StudentCountService(StudentRoster studentRoster,
+                               DataSource dataSource,
+                               PlatformTransactionManager transactionManager) {
+        this.studentRoster = studentRoster;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener
+    public void onStudentChange(StudentChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitLock.readLock().lock();
+            try {
+                apply(event);
+            } finally {
+                commitLock.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitLock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                apply(event);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (locked) {
+                    commitLock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    private void apply(StudentChangeEvent event) {
+        Student student = event.student();
+        switch (event.type()) {
+            case CREATED -> add(student.getStatus(), student.getGraduationYear(), 1);
+            case DELETED -> add(student.getStatus(), student.getGraduationYear(), -1);
+            case UPDATED, STATUS_CHANGED -> {
+                CountKey before = CountKey.of(event.previousStatus(), event.previousGraduationYear());
+                CountKey after = CountKey.of(student.getStatus(), student.getGraduationYear());
+                if (!before.equals(after)) {
+                    add(before, -1);
+                    add(after, 1);
+                }
+            }
+        }
+    }
+
+    public StudentCounts currentCounts() {
+        Map<StudentStatus, Long> byStatus = new EnumMap<>(StudentStatus.class);
+        Map<StudentStatus, Map<String, Long>> byStatusAndGraduationYear = new EnumMap<>(StudentStatus.class);
+        for (StudentStatus status : StudentStatus.values()) {
+            byStatus.put(status, 0L);
+            byStatusAndGraduationYear.put(status, new TreeMap<>());
+        }
+        long total = 0;
+        for (Map.Entry<CountKey, LongAdder> entry : totals.entrySet()) {
+            long count = entry.getValue().sum();
+            if (count == 0) {
+                continue;
+            }
+            CountKey key = entry.getKey();
+            total += count;
+            byStatus.merge(key.status(), count, Long::sum);
+            byStatusAndGraduationYear.get(key.status()).put(
+                    key.graduationYear() == NO_GRADUATION_YEAR ? "none" : Integer.toString(key.graduationYear()),
+                    count);
+        }
+        return new StudentCounts(total, byStatus, byStatusAndGraduationYear);
+    }
+
+    /**
+     * Loads the persisted counts, or builds them from the roster on the first start.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        Map<CountKey, Long> stored = new HashMap<>();
+        jdbcTemplate.query("select status, graduation_year, student_count from student_counts", rs -> {
+            stored.put(new CountKey(StudentStatus.valueOf(rs.getString("status")), rs.getInt("graduation_year")),
+                    rs.getLong("student_count"));
+        });
+        if (stored.isEmpty()) {
+            reconcile();
+            return;
+        }
+        commitLock.writeLock().lock();
+        try {
+            totals = rebuild(stored, unflushed);
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${student.counts.flush-interval:PT1S}",
+            fixedDelayString = "${student.counts.flush-interval:PT1S}")
+    public synchronized void flush() {
+        Map<CountKey, LongAdder> deltas = unflushed;
+        Map<CountKey, Long> batch = new HashMap<>();
+        deltas.forEach((key, delta) -> {
+            long sum = delta.sum();
+            if (sum != 0) {
+                batch.put(key, sum);
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+        StudentBatchEvent event = StudentBatchEvent.start("count-flush", 0);
+        transactionTemplate.executeWithoutResult(status -> batch.forEach((key, delta) -> {
+            int updated = jdbcTemplate.update(
+                    "update student_counts set student_count = student_count + ? where status = ? and graduation_year = ?",
+                    delta, key.status().name(), key.graduationYear());
+            if (updated == 0) {
+                jdbcTemplate.update(
+                        "insert into student_counts (status, graduation_year, student_count) values (?, ?, ?)",
+                        key.status().name(), key.graduationYear(), delta);
+            }
+        }));
+        batch.forEach((key, delta) -> deltas.get(key).add(-delta));
+        event.finish(batch.size());
+    }
+
+    /**
+     * Replaces the table and the totals with counts taken from the roster, and drops the
+     * unflushed deltas since the recount already includes them.
+     *
+     * @return number of students by which the totals were off
+     */
+    public synchronized long reconcile() {
+        StudentBatchEvent event = StudentBatchEvent.start("count-reconcile", 0);
+        long drift = 0;
+        commitLock.writeLock().lock();
+        try {
+            Map<CountKey, Long> actual = new HashMap<>();
+            for (StudentCount count : studentRoster.countByStatusAndGraduationYear()) {
+                actual.merge(CountKey.of(count.status(), count.graduationYear()), count.count(), Long::sum);
+            }
+
+            List<Object[]> rows = new ArrayList<>(actual.size());
+            actual.forEach((key, count) -> rows.add(new Object[]{key.status().name(), key.graduationYear(), count}));
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("delete from student_counts");
+                jdbcTemplate.batchUpdate(
+                        "insert into student_counts (status, graduation_year, student_count) values (?, ?, ?)", rows);
+            });
+            event.finish(rows.size());
+
+            for (Map.Entry<CountKey, LongAdder> entry : totals.entrySet()) {
+                drift += Math.abs(entry.getValue().sum() - actual.getOrDefault(entry.getKey(), 0L));
+            }
+            for (Map.Entry<CountKey, Long> entry : actual.entrySet()) {
+                if (!totals.containsKey(entry.getKey())) {
+                    drift += entry.getValue();
+                }
+            }
+            totals = rebuild(actual, Map.of());
+            unflushed = new ConcurrentHashMap<>();
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+        if (drift > 0) {
+            log.warn("Repaired student count drift of {}", drift);
+        }
+        return drift;
+    }
+
+    private static Map<CountKey, LongAdder> rebuild(Map<CountKey, Long> base, Map<CountKey, LongAdder> pending) {
+        Map<CountKey, LongAdder> rebuilt = new ConcurrentHashMap<>();
+        base.forEach((key, count) -> adder(rebuilt, key).add(count));
+        pending.forEach((key, delta) -> adder(rebuilt, key).add(delta.sum()));
+        return rebuilt;
+    }
+
+    private void add(StudentStatus status, Integer graduationYear, long delta) {
+        add(CountKey.of(status, graduationYear), delta);
+    }
+
+    // Caller holds the read side of commitLock
+    private void add(CountKey key, long delta) {
+        adder(unflushed, key).add(delta);
+        adder(totals, key).add(delta);
+    }
+
+    private static LongAdder adder(Map<CountKey, LongAdder> adders, CountKey key) {
+        return adders.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    record CountKey(StudentStatus status, int graduationYear) {
+
+        static CountKey of(StudentStatus status, Integer graduationYear) {
+            return new CountKey(status, graduationYear == null ? NO_GRADUATION_YEAR : graduationYear);
+        }
+    }
+}
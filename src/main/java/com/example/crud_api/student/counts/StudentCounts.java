@@ -0,0 +1,20 @@
+package com.example.crud_api.student.counts;
+
+import com.example.crud_api.student.StudentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * Materialized student counts, current and archived students included.
+ *
+ * @param total                     number of students
+ * @param byStatus                  count per status, including statuses with no students
+ * @param byStatusAndGraduationYear count per status and graduation year ({@code "none"} when not set)
+ */
+@Schema(description = "Student counts by status and graduation year")
+public record StudentCounts(
+        long total,
+        Map<StudentStatus, Long> byStatus,
+        Map<StudentStatus, Map<String, Long>> byStatusAndGraduationYear) {
+}
@@ -0,0 +1,13 @@
+package com.example.crud_api.student.dataset;
+
+import com.example.crud_api.student.StudentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a synthetic dataset, in the columns of the {@code student} table.
+ */
+public record GeneratedStudent(String name, String passportNumber, int age, String email,
+                               LocalDateTime enrollmentDate, int graduationYear, StudentStatus status,
+                               LocalDateTime createdAt) {
+}
@@ -0,0 +1,67 @@
+package com.example.crud_api.student.dataset;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line front end of the dataset generator, without starting the application.
+ * <pre>
+ * --size=1000000 --seed=42 --output=students.csv        write a CSV file
+ * --size=1000000 --seed=42 --url=jdbc:h2:file:./data/studentdb [--user=sa] [--password=]
+ *                                                        create the schema if needed and load the database
+ * </pre>
+ * The CSV file has a header line of {@code student} column names. Passport numbers are only
+ * unique within the file; loading into a database also avoids the ones already there.
+ */
+public final class StudentDatasetCli {
+
+    private StudentDatasetCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                usage("Unexpected argument: " + arg);
+                return;
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        long size = Long.parseLong(options.getOrDefault("size", "1000000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        if (options.containsKey("output")) {
+            long startedAt = System.nanoTime();
+            try (Writer writer = Files.newBufferedWriter(Path.of(options.get("output")), StandardCharsets.UTF_8)) {
+                new StudentDatasetGenerator(seed, Set.of()).writeCsv(size, writer);
+            }
+            System.out.printf("Wrote %d students to %s in %d ms%n", size, options.get("output"),
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } else if (options.containsKey("url")) {
+            String url = options.get("url");
+            DataSource dataSource = new DriverManagerDataSource(url,
+                    options.getOrDefault("user", "sa"), options.getOrDefault("password", ""));
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+            long loaded = new StudentDatasetLoader(dataSource).load(size, seed);
+            System.out.printf("Loaded %d students into %s%n", loaded, url);
+        } else {
+            usage("Either --output or --url is required");
+        }
+    }
+
+    private static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Usage: StudentDatasetCli [--size=1000000] [--seed=42] (--output=<file.csv> | --url=<jdbc url> [--user=sa] [--password=])");
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.crud_api.student.dataset;
+
+import com.example.crud_api.student.StudentStatus;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic generator of valid, realistic students for performance testing.
+ * <p>
+ * The same seed always yields the same students. Passport numbers are a permutation of the
+ * 260 million values of {@code [A-Z][0-9]{7}}, walked in a seed-dependent order, so they are
+ * unique without remembering the ones already issued; values in the reserved set (rows already
+ * in the database) are skipped. Emails embed the passport number's value and are unique with it.
+ * <p>
+ * The dataset describes the roster as of {@link #AS_OF_YEAR}: ten cohorts enrolled from nine
+ * years before, each graduating four years after enrolling. Most earlier cohorts have graduated
+ * or withdrawn; most current ones are active. Ages cluster around 17-19 at enrollment with a
+ * tail of mature students.
+ */
+public final class StudentDatasetGenerator {
+
+    /** Columns of a CSV line, in {@code student} table column names. */
+    public static final String CSV_COLUMNS =
+            "name,passport_number,age,email,enrollment_date,graduation_year,status,created_at,updated_at,version";
+
+    static final int AS_OF_YEAR = 2026;
+    static final int COHORTS = 10;
+
+    private static final long PASSPORT_NUMBERS = 26L * 10_000_000L;
+    // Prime, so coprime with 260,000,000 = 2^8 * 5^7 * 13: i -> (a * i + b) mod n is a permutation
+    private static final long PERMUTATION_MULTIPLIER = 179_424_673L;
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Carlos", "Karen",
+            "Wei", "Mei", "Hiroshi", "Yuki", "Ahmed", "Fatima", "Ivan", "Olga", "Pierre", "Camille",
+            "Luca", "Giulia", "Jan", "Anna", "Mateo", "Sofia", "Arjun", "Priya", "Kwame", "Amara"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin", "Lee",
+            "Wang", "Li", "Zhang", "Tanaka", "Suzuki", "Khan", "Ali", "Ivanov", "Petrov", "Dubois",
+            "Rossi", "Bianchi", "Novak", "Kowalski", "Silva", "Santos", "Patel", "Sharma", "Mensah", "Okafor"
+    };
+    private static final String[] EMAIL_DOMAINS = {
+            "example.com", "example.org", "example.net", "students.example.edu", "mail.example.com"
+    };
+
+    private final long seed;
+    private final Set<String> reservedPassportNumbers;
+
+    /**
+     * @param reservedPassportNumbers passport numbers that must not be generated
+     */
+    public StudentDatasetGenerator(long seed, Set<String> reservedPassportNumbers) {
+        this.seed = seed;
+        this.reservedPassportNumbers = reservedPassportNumbers;
+    }
+
+    /**
+     * Hands {@code count} students to {@code consumer}, in a deterministic order.
+     */
+    public void generate(long count, Consumer<GeneratedStudent> consumer) {
+        if (count > PASSPORT_NUMBERS - reservedPassportNumbers.size()) {
+            throw new IllegalArgumentException("Cannot generate more than " + PASSPORT_NUMBERS + " unique students");
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        long offset = Math.floorMod(seed * 0x9E3779B97F4A7C15L, PASSPORT_NUMBERS);
+        long index = 0;
+        for (long n = 0; n < count; n++) {
+            long value;
+            String passportNumber;
+            do {
+                value = (PERMUTATION_MULTIPLIER * index++ + offset) % PASSPORT_NUMBERS;
+                passportNumber = passportNumber(value);
+            } while (reservedPassportNumbers.contains(passportNumber));
+            consumer.accept(student(random, passportNumber, value));
+        }
+    }
+
+    /**
+     * Writes {@code count} students as CSV with a {@link #CSV_COLUMNS} header. Values never
+     * contain commas or quotes, so nothing is quoted.
+     */
+    public void writeCsv(long count, Writer writer) throws IOException {
+        writer.write(CSV_COLUMNS);
+        writer.write('\n');
+        StringBuilder line = new StringBuilder(192);
+        IOException[] failure = new IOException[1];
+        generate(count, student -> {
+            if (failure[0] != null) {
+                return;
+            }
+            line.setLength(0);
+            line.append(student.name()).append(',')
+                    .append(student.passportNumber()).append(',')
+                    .append(student.age()).append(',')
+                    .append(student.email()).append(',');
+            appendTimestamp(line, student.enrollmentDate()).append(',')
+                    .append(student.graduationYear()).append(',')
+                    .append(student.status().name()).append(',');
+            appendTimestamp(line, student.createdAt()).append(',');
+            appendTimestamp(line, student.createdAt()).append(",0\n");
+            try {
+                writer.append(line);
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    private static GeneratedStudent student(SplittableRandom random, String passportNumber, long passportValue) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String name = random.nextInt(10) < 4
+                ? firstName + " " + (char) ('A' + random.nextInt(26)) + ". " + lastName
+                : firstName + " " + lastName;
+        String email = firstName.toLowerCase(Locale.ROOT) + "." + lastName.toLowerCase(Locale.ROOT) + "."
+                + passportValue + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)];
+
+        int enrollmentYear = AS_OF_YEAR - random.nextInt(COHORTS);
+        int graduationYear = enrollmentYear + 4;
+        int enrollmentAge = enrollmentAge(random);
+        LocalDateTime enrollmentDate = LocalDateTime.of(enrollmentYear, 8, 15, 9, 0)
+                .plusDays(random.nextInt(30))
+                .plusMinutes(random.nextInt(600));
+        LocalDateTime createdAt = enrollmentDate.minusDays(random.nextInt(60)).minusMinutes(random.nextInt(1440));
+
+        return new GeneratedStudent(name, passportNumber, enrollmentAge + AS_OF_YEAR - enrollmentYear, email,
+                enrollmentDate, graduationYear, status(random, graduationYear), createdAt);
+    }
+
+    private static int enrollmentAge(SplittableRandom random) {
+        int percentile = random.nextInt(100);
+        if (percentile < 80) {
+            return 17 + random.nextInt(3);
+        }
+        if (percentile < 95) {
+            return 20 + random.nextInt(6);
+        }
+        return 26 + random.nextInt(35);
+    }
+
+    private static StudentStatus status(SplittableRandom random, int graduationYear) {
+        int percentile = random.nextInt(100);
+        if (graduationYear <= AS_OF_YEAR) {
+            return percentile < 85 ? StudentStatus.GRADUATED
+                    : percentile < 95 ? StudentStatus.WITHDRAWN
+                    : percentile < 97 ? StudentStatus.SUSPENDED
+                    : StudentStatus.ACTIVE;
+        }
+        return percentile < 88 ? StudentStatus.ACTIVE
+                : percentile < 94 ? StudentStatus.SUSPENDED
+                : StudentStatus.WITHDRAWN;
+    }
+
+    static String passportNumber(long value) {
+        char[] chars = new char[8];
+        chars[0] = (char) ('A' + value / 10_000_000L);
+        long digits = value % 10_000_000L;
+        for (int i = 7; i > 0; i--) {
+            chars[i] = (char) ('0' + digits % 10);
+            digits /= 10;
+        }
+        return new String(chars);
+    }
+
+    // yyyy-MM-dd HH:mm:ss, which H2 converts to a timestamp
+    private static StringBuilder appendTimestamp(StringBuilder builder, LocalDateTime time) {
+        builder.append(time.getYear()).append('-');
+        pad(builder, time.getMonthValue()).append('-');
+        pad(builder, time.getDayOfMonth()).append(' ');
+        pad(builder, time.getHour()).append(':');
+        pad(builder, time.getMinute()).append(':');
+        return pad(builder, time.getSecond());
+    }
+
+    private static StringBuilder pad(StringBuilder builder, int value) {
+        return builder.append(value < 10 ? "0" : "").append(value);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.crud_api.student.dataset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the {@code student} table with a synthetic dataset from {@link StudentDatasetGenerator}.
+ * <p>
+ * On H2 the dataset is written to a temporary CSV file and inserted by a single
+ * {@code INSERT ... SELECT FROM CSVREAD}, which skips per-row statement overhead entirely.
+ * Other databases, or an H2 user without the admin rights {@code CSVREAD} needs, get
+ * batched JDBC inserts.
+ * <p>
+ * Loading is idempotent: students already in the table count towards the requested size, and
+ * their passport numbers are reserved so the generated ones don't collide. The identity column is
+ * restarted above the highest existing ID first, as seed rows such as {@code data.sql}'s are
+ * inserted with explicit IDs the identity doesn't know about.
+ * <p>
+ * Generated students get a baseline {@code student_history} row in one {@code INSERT ... SELECT}
+ * over the new ID range, as they don't go through the service that records history.
+ * <p>
+ * Statements run without a query timeout: H2 keeps a timeout set on any statement for the whole
+ * session, so one left on a pooled connection would cancel the bulk insert.
+ */
+public class StudentDatasetLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentDatasetLoader.class);
+
+    // org.h2.api.ErrorCode.ADMIN_RIGHTS_REQUIRED
+    private static final int H2_ADMIN_RIGHTS_REQUIRED = 90040;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int BATCHES_PER_COMMIT = 20;
+    private static final String INSERT_SQL = "insert into student (" + StudentDatasetGenerator.CSV_COLUMNS + ")"
+            + " values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_HISTORY_SQL = "insert into student_history (history_id, student_id, version,"
+            + " name, passport_number, age, email, enrollment_date, graduation_year, status, deleted, valid_from)"
+            + " select next value for student_history_seq, id, version, name, passport_number, age, email,"
+            + " enrollment_date, graduation_year, status, false, updated_at from student where id > ?";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public StudentDatasetLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setQueryTimeout(0);
+    }
+
+    /**
+     * Adds generated students until the table holds at least {@code size}.
+     *
+     * @return number of students inserted
+     */
+    public long load(long size, long seed) {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from student", Long.class);
+        long missing = size - (existing == null ? 0 : existing);
+        if (missing <= 0) {
+            log.info("Student table already holds {} students, no dataset loaded", existing);
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        // The archive shares the passport namespace: rows move there with their passport number
+        Set<String> reserved = new HashSet<>(jdbcTemplate.queryForList(
+                "select passport_number from student union select passport_number from student_archive", String.class));
+        StudentDatasetGenerator generator = new StudentDatasetGenerator(seed, reserved);
+        // Identities only grow, so every generated student lands above the current highest ID
+        long maxIdBefore = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from student", Long.class);
+        boolean h2 = isH2();
+        if (h2) {
+            restartIdentityAboveExistingIds();
+        }
+        String method;
+        if (h2 && loadWithCsvRead(generator, missing)) {
+            method = "CSVREAD";
+        } else {
+            loadWithBatches(generator, missing);
+            method = "batched inserts";
+        }
+        jdbcTemplate.update(INSERT_HISTORY_SQL, maxIdBefore);
+        log.info("Loaded {} generated students (seed {}) with {} in {} ms", missing, seed, method,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return missing;
+    }
+
+    private boolean isH2() {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return "H2".equals(metaData.getDatabaseProductName());
+        } catch (SQLException e) {
+            return false;
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void restartIdentityAboveExistingIds() {
+        long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from student", Long.class);
+        // The next value the identity hands out; never move it back, deleted IDs stay retired
+        Long nextId = jdbcTemplate.queryForObject("select identity_base from information_schema.columns"
+                + " where table_schema = current_schema and table_name = 'STUDENT' and column_name = 'ID'", Long.class);
+        if (nextId == null || nextId <= maxId) {
+            jdbcTemplate.execute("alter table student alter column id restart with " + (maxId + 1));
+        }
+    }
+
+    private boolean loadWithCsvRead(StudentDatasetGenerator generator, long count) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("students-", ".csv");
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                generator.writeCsv(count, writer);
+            }
+            String path = file.toAbsolutePath().toString().replace("'", "''");
+            jdbcTemplate.update("insert into student (" + StudentDatasetGenerator.CSV_COLUMNS + ")"
+                    + " select * from csvread('" + path + "', null, 'charset=UTF-8')");
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the dataset file", e);
+        } catch (DataAccessException e) {
+            if (!(e.getMostSpecificCause() instanceof SQLException cause)
+                    || cause.getErrorCode() != H2_ADMIN_RIGHTS_REQUIRED) {
+                throw e;
+            }
+            log.warn("CSVREAD needs admin rights, falling back to batched inserts", e);
+            return false;
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.debug("Could not delete {}", file, e);
+                }
+            }
+        }
+    }
+
+    private void loadWithBatches(StudentDatasetGenerator generator, long count) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            insert.setQueryTimeout(0);
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            long[] rows = {0};
+            SQLException[] failure = new SQLException[1];
+            generator.generate(count, student -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    Timestamp createdAt = Timestamp.valueOf(student.createdAt());
+                    insert.setString(1, student.name());
+                    insert.setString(2, student.passportNumber());
+                    insert.setInt(3, student.age());
+                    insert.setString(4, student.email());
+                    insert.setTimestamp(5, Timestamp.valueOf(student.enrollmentDate()));
+                    insert.setInt(6, student.graduationYear());
+                    insert.setString(7, student.status().name());
+                    insert.setTimestamp(8, createdAt);
+                    insert.setTimestamp(9, createdAt);
+                    insert.addBatch();
+                    if (++rows[0] % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        if (rows[0] % (BATCH_SIZE * BATCHES_PER_COMMIT) == 0) {
+                            connection.commit();
+                        }
+                    }
+                } catch (SQLException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                connection.rollback();
+                throw failure[0];
+            }
+            insert.executeBatch();
+            connection.commit();
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not load the generated students", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.crud_api.student.dataset;
+
+import com.example.crud_api.student.MissingStudentCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Loads a synthetic dataset on startup in the "dataset" profile.
+ * <p>
+ * Runners complete before the application is ready, so the projections and the materialized
+ * counts, which are built on {@code ApplicationReadyEvent}, include the generated students.
+ * The rows are inserted behind the repositories' back, so the missing-ID cache is cleared.
+ */
+@Component
+@Profile("dataset")
+public class StudentDatasetRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentDatasetRunner.class);
+
+    private final DataSource dataSource;
+    private final MissingStudentCache missingStudentCache;
+    private final Environment environment;
+    private final long size;
+    private final long seed;
+
+    public StudentDatasetRunner(DataSource dataSource,
+                                MissingStudentCache missingStudentCache,
+                                Environment environment,
+                                @Value("${student.dataset.size:1000000}") long size,
+                                @Value("${student.dataset.seed:42}") long seed) {
+        this.dataSource = dataSource;
+        this.missingStudentCache = missingStudentCache;
+        this.environment = environment;
+        this.size = size;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (environment.acceptsProfiles(Profiles.of("memory"))) {
+            log.warn("The dataset profile loads the student table, which the memory profile doesn't use; skipped");
+            return;
+        }
+        if (new StudentDatasetLoader(dataSource).load(size, seed) > 0) {
+            missingStudentCache.clear();
+        }
+    }
+}
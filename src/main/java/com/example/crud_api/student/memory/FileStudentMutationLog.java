@@ -0,0 +1,495 @@
+package com.example.crud_api.student.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Append-only write-ahead log with snapshots, stored in one directory:
+ * <ul>
+ *   <li>{@code wal-<segment>.log} - entries framed as {@code [int length][int crc32][body]}</li>
+ *   <li>{@code snapshot-<segment>.bin} - the next id to assign and every record as of the start of that
+ *   segment, followed by a CRC</li>
+ * </ul>
+ * Entries are staged in memory by {@link #logPut}/{@link #logDelete}. The first writer to
+ * call {@link #awaitDurable} writes (and, for {@link WalDurability#FSYNC_PER_COMMIT}, forces)
+ * everything staged so far; writers queued behind it usually find their entry already
+ * durable, so one fsync covers a whole batch of concurrent commits.
+ * <p>
+ * Any I/O error is sticky: every later write fails with a {@link DataAccessResourceFailureException}
+ * rather than acknowledging data that may not be on disk.
+ */
+final class FileStudentMutationLog implements StudentMutationLog {
+
+    private static final Logger log = LoggerFactory.getLogger(FileStudentMutationLog.class);
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile("wal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d+)\\.bin");
+    private static final int SNAPSHOT_MAGIC = 0x53545545;
+    // Written before the next id was recorded
+    private static final int SNAPSHOT_MAGIC_WITHOUT_NEXT_ID = 0x53545544;
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_ENTRY_BYTES = 1 << 20;
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte CLEAR = 3;
+
+    private final Path directory;
+    private final WalDurability durability;
+    private final ScheduledExecutorService syncer;
+
+    // Guarded by appendLock
+    private final Object appendLock = new Object();
+    private final ScratchBuffer scratch = new ScratchBuffer();
+    private final DataOutputStream scratchOut = new DataOutputStream(scratch);
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer staged = ByteBuffer.allocate(64 * 1024);
+    private long appendedSequence;
+    private long entriesSinceSnapshot;
+
+    // Guarded by flushLock
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ByteBuffer spare = ByteBuffer.allocate(64 * 1024);
+    private FileChannel channel;
+    private long segment;
+
+    private volatile long durableSequence;
+    private volatile IOException failure;
+
+    FileStudentMutationLog(Path directory, WalDurability durability, Duration syncInterval) {
+        this.directory = directory;
+        this.durability = durability;
+        if (durability == WalDurability.FSYNC_INTERVAL) {
+            this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "student-wal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalNanos = syncInterval.toNanos();
+            syncer.scheduleWithFixedDelay(this::syncQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        } else {
+            this.syncer = null;
+        }
+    }
+
+    // ---- Recovery
+
+    @Override
+    public void recover(RecoveryHandler handler) {
+        long startedAt = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            TreeMap<Long, Path> snapshots = list(SNAPSHOT_FILE);
+            TreeMap<Long, Path> segments = list(SEGMENT_FILE);
+
+            long firstSegment = segments.isEmpty() ? 1 : segments.firstKey();
+            long restored = 0;
+            for (Long snapshotSegment : snapshots.descendingKeySet()) {
+                Snapshot snapshot = readSnapshot(snapshots.get(snapshotSegment));
+                if (snapshot != null) {
+                    snapshot.records().forEach(handler::put);
+                    handler.nextId(snapshot.nextId());
+                    restored = snapshot.records().size();
+                    firstSegment = snapshotSegment;
+                    break;
+                }
+            }
+
+            long replayed = 0;
+            Long lastSegment = segments.isEmpty() ? null : segments.lastKey();
+            for (var entry : segments.tailMap(firstSegment, true).entrySet()) {
+                replayed += replaySegment(entry.getValue(), handler, entry.getKey().equals(lastSegment));
+            }
+
+            long maxSegment = Math.max(firstSegment - 1, lastSegment == null ? 0 : lastSegment);
+            flushLock.lock();
+            try {
+                segment = maxSegment + 1;
+                channel = openSegment(segment);
+            } finally {
+                flushLock.unlock();
+            }
+            synchronized (appendLock) {
+                entriesSinceSnapshot = replayed;
+            }
+            log.info("Recovered {} students from snapshot and {} log entries in {} ms",
+                    restored, replayed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Could not recover student log from " + directory, e);
+        }
+    }
+
+    private long replaySegment(Path path, RecoveryHandler handler, boolean last) throws IOException {
+        long entries = 0;
+        try (FileChannel segmentChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = segmentChannel.size();
+            DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Channels.newInputStream(segmentChannel), 64 * 1024));
+            CRC32 checksum = new CRC32();
+            byte[] body = new byte[256];
+            long position = 0;
+            while (position + HEADER_BYTES <= size) {
+                int length = in.readInt();
+                int expectedCrc = in.readInt();
+                if (length <= 0 || length > MAX_ENTRY_BYTES || position + HEADER_BYTES + length > size) {
+                    break;
+                }
+                if (body.length < length) {
+                    body = new byte[Math.max(length, body.length * 2)];
+                }
+                in.readFully(body, 0, length);
+                checksum.reset();
+                checksum.update(body, 0, length);
+                if ((int) checksum.getValue() != expectedCrc) {
+                    break;
+                }
+                apply(body, length, handler);
+                position += HEADER_BYTES + length;
+                entries++;
+            }
+            if (position < size) {
+                if (!last) {
+                    throw new IOException("Corrupt entry at offset " + position + " of " + path
+                            + ", which is followed by newer segments");
+                }
+                log.warn("Truncating torn tail of {} at offset {} ({} bytes)", path, position, size - position);
+                segmentChannel.truncate(position);
+                segmentChannel.force(true);
+            }
+        }
+        return entries;
+    }
+
+    private static void apply(byte[] body, int length, RecoveryHandler handler) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body, 0, length));
+        byte type = in.readByte();
+        switch (type) {
+            case PUT -> handler.put(StudentRecordCodec.read(in));
+            case DELETE -> handler.delete(in.readLong());
+            case CLEAR -> handler.clear();
+            default -> throw new IOException("Unknown log entry type " + type);
+        }
+    }
+
+    // ---- Appending
+
+    @Override
+    public long logPut(StudentRecord record) {
+        synchronized (appendLock) {
+            try {
+                scratch.reset();
+                scratchOut.writeByte(PUT);
+                StudentRecordCodec.write(scratchOut, record);
+            } catch (IOException e) {
+                throw new IllegalStateException("In-memory encoding failed", e);
+            }
+            return stage();
+        }
+    }
+
+    @Override
+    public long logDelete(long id) {
+        synchronized (appendLock) {
+            scratch.reset();
+            scratch.write(DELETE);
+            scratch.writeLong(id);
+            return stage();
+        }
+    }
+
+    @Override
+    public long logClear() {
+        synchronized (appendLock) {
+            scratch.reset();
+            scratch.write(CLEAR);
+            return stage();
+        }
+    }
+
+    // Caller holds appendLock and has encoded the entry body into scratch
+    private long stage() {
+        checkFailure();
+        int length = scratch.size();
+        crc.reset();
+        crc.update(scratch.buffer(), 0, length);
+        if (staged.remaining() < HEADER_BYTES + length) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(staged.capacity() * 2, staged.position() + HEADER_BYTES + length));
+            staged.flip();
+            staged = larger.put(staged);
+        }
+        staged.putInt(length).putInt((int) crc.getValue()).put(scratch.buffer(), 0, length);
+        entriesSinceSnapshot++;
+        return ++appendedSequence;
+    }
+
+    @Override
+    public void awaitDurable(long sequence) {
+        if (sequence <= durableSequence) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            checkFailure();
+            if (sequence <= durableSequence) {
+                // Flushed by the writer we queued behind
+                return;
+            }
+            flushStaged(durability == WalDurability.FSYNC_PER_COMMIT);
+        } catch (IOException e) {
+            throw fail(e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Caller holds flushLock
+    private void flushStaged(boolean force) throws IOException {
+        ByteBuffer batch;
+        long batchSequence;
+        synchronized (appendLock) {
+            batch = staged;
+            staged = spare;
+            batchSequence = appendedSequence;
+        }
+        batch.flip();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        if (force) {
+            channel.force(false);
+        }
+        batch.clear();
+        spare = batch;
+        durableSequence = batchSequence;
+    }
+
+    private void syncQuietly() {
+        flushLock.lock();
+        try {
+            if (failure == null && channel != null) {
+                flushStaged(true);
+            }
+        } catch (IOException e) {
+            failure = e;
+            log.error("Student write-ahead log sync failed; further writes will be rejected", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // ---- Snapshots
+
+    @Override
+    public long entriesSinceSnapshot() {
+        synchronized (appendLock) {
+            return entriesSinceSnapshot;
+        }
+    }
+
+    @Override
+    public long rotate() {
+        flushLock.lock();
+        try {
+            checkFailure();
+            flushStaged(true);
+            channel.close();
+            segment++;
+            channel = openSegment(segment);
+            synchronized (appendLock) {
+                entriesSinceSnapshot = 0;
+            }
+            return segment;
+        } catch (IOException e) {
+            throw fail(e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void writeSnapshot(long snapshotSegment, List<StudentRecord> records, long nextId) {
+        Path target = directory.resolve(fileName("snapshot-", snapshotSegment, ".bin"));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            try (FileChannel snapshotChannel = FileChannel.open(temporary,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                CRC32 checksum = new CRC32();
+                DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(snapshotChannel), 64 * 1024), checksum));
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(snapshotSegment);
+                out.writeLong(nextId);
+                out.writeInt(records.size());
+                for (StudentRecord record : records) {
+                    StudentRecordCodec.write(out, record);
+                }
+                out.writeLong(checksum.getValue());
+                out.flush();
+                snapshotChannel.force(true);
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            syncDirectory();
+
+            for (var older : list(SNAPSHOT_FILE).headMap(snapshotSegment).values()) {
+                Files.deleteIfExists(older);
+            }
+            for (var older : list(SEGMENT_FILE).headMap(snapshotSegment).values()) {
+                Files.deleteIfExists(older);
+            }
+            log.info("Wrote snapshot of {} students at segment {}", records.size(), snapshotSegment);
+        } catch (IOException e) {
+            // The log before this segment is kept, so recovery is unaffected
+            log.error("Could not write student snapshot {}", target, e);
+        }
+    }
+
+    private static Snapshot readSnapshot(Path path) {
+        CRC32 checksum = new CRC32();
+        try (InputStream file = Files.newInputStream(path)) {
+            DataInputStream in = new DataInputStream(
+                    new CheckedInputStream(new BufferedInputStream(file, 64 * 1024), checksum));
+            int magic = in.readInt();
+            if (magic != SNAPSHOT_MAGIC && magic != SNAPSHOT_MAGIC_WITHOUT_NEXT_ID) {
+                throw new IOException("Not a student snapshot");
+            }
+            in.readLong();
+            long nextId = magic == SNAPSHOT_MAGIC ? in.readLong() : 1;
+            int count = in.readInt();
+            List<StudentRecord> records = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                records.add(StudentRecordCodec.read(in));
+            }
+            long expected = checksum.getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Checksum mismatch");
+            }
+            return new Snapshot(records, nextId);
+        } catch (EOFException e) {
+            log.warn("Ignoring truncated snapshot {}", path);
+            return null;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable snapshot {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    // ---- Lifecycle and files
+
+    @Override
+    public void close() {
+        if (syncer != null) {
+            syncer.shutdownNow();
+        }
+        flushLock.lock();
+        try {
+            if (channel != null && channel.isOpen()) {
+                if (failure == null) {
+                    flushStaged(true);
+                }
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.error("Could not flush student write-ahead log on close", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private FileChannel openSegment(long id) throws IOException {
+        FileChannel opened = FileChannel.open(directory.resolve(fileName("wal-", id, ".log")),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        syncDirectory();
+        return opened;
+    }
+
+    private TreeMap<Long, Path> list(Pattern pattern) throws IOException {
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.forEach(path -> {
+                Matcher matcher = pattern.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    files.put(Long.parseLong(matcher.group(1)), path);
+                }
+            });
+        }
+        return files;
+    }
+
+    // Makes file creations and renames in the directory durable
+    private void syncDirectory() {
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        } catch (IOException e) {
+            // Not supported on every platform
+            log.debug("Could not sync directory {}", directory, e);
+        }
+    }
+
+    private static String fileName(String prefix, long id, String suffix) {
+        return prefix + String.format("%020d", id) + suffix;
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new DataAccessResourceFailureException("Student write-ahead log is unavailable", failure);
+        }
+    }
+
+    private DataAccessResourceFailureException fail(IOException e) {
+        failure = e;
+        return new DataAccessResourceFailureException("Student write-ahead log failed", e);
+    }
+
+    private record Snapshot(List<StudentRecord> records, long nextId) {
+    }
+
+    /** ByteArrayOutputStream exposing its buffer, so staging an entry doesn't copy it. */
+    private static final class ScratchBuffer extends ByteArrayOutputStream {
+
+        ScratchBuffer() {
+            super(256);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+
+        void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+        }
+    }
+}
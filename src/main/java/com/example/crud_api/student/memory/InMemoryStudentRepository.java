@@ -0,0 +1,828 @@
+package com.example.crud_api.student.memory;
+
+import com.example.crud_api.collection.LongHashSet;
+import com.example.crud_api.collection.LongIntHashMap;
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentRepository;
+import com.example.crud_api.student.StudentRoster;
+import com.example.crud_api.student.StudentStatus;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-process storage engine for students, selected with the "memory" profile.
+ * <p>
+ * Records are kept in a slot array addressed through an open-addressing
+ * {@code long -> slot} index, so no boxed {@code Long} keys are created. Secondary
+ * indexes cover passport number, email, status and graduation year. A single
+ * {@link StampedLock} guards the structures: point lookups use optimistic reads, which
+ * take no lock unless a write ran concurrently; filters take the read lock; writes take
+ * the write lock.
+ * <p>
+ * Returned students are detached copies, as with any {@code save}-based JPA usage;
+ * audit fields and the version are maintained here instead of by JPA auditing.
+ * Query-by-example is not supported.
+ * <p>
+ * Inside a transaction, writes are validated and their id, passport number and email
+ * reserved right away, but only applied once the transaction commits, so a rollback
+ * leaves the store untouched. Until then, lookups by id in the writing transaction see its
+ * own writes; other lookups and filters see committed students only. Outside a
+ * transaction, writes are applied immediately.
+ * <p>
+ * Every applied mutation is appended to the {@link StudentMutationLog} under the write lock
+ * and awaited after it is released, so a write returns (or commits) only once it is durable
+ * while other writers keep going. The store is rebuilt from the log when the bean is created.
+ */
+@Repository
+@Primary
+@Profile("memory")
+public class InMemoryStudentRepository implements StudentRepository, StudentRoster {
+
+    private static final int NO_SLOT = -1;
+    private static final StudentStatus[] STATUSES = StudentStatus.values();
+
+    private final StampedLock lock = new StampedLock();
+    private final StudentMutationLog mutationLog;
+    private final LongIntHashMap slotsById;
+    private final Map<String, StudentRecord> byPassportNumber;
+    private final Map<String, StudentRecord> byEmail;
+    private final LongHashSet[] idsByStatus = new LongHashSet[STATUSES.length];
+    private final Map<Short, LongHashSet> idsByGraduationYear = new HashMap<>();
+
+    // Claims of uncommitted transactions: the ids they wrote and the passport numbers and emails
+    // they staged, keyed to the student id holding them, so other writers can't take them first
+    private final Map<Long, PendingWrites> pendingOwners = new HashMap<>();
+    private final Map<String, Long> pendingPassportNumbers = new HashMap<>();
+    private final Map<String, Long> pendingEmails = new HashMap<>();
+
+    private StudentRecord[] records;
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+    private int usedSlots;
+    private long nextId = 1;
+
+    public InMemoryStudentRepository(int expectedSize) {
+        this(expectedSize, StudentMutationLog.NONE);
+    }
+
+    @Autowired
+    public InMemoryStudentRepository(@Value("${student.memory.expected-size:1024}") int expectedSize,
+                                     StudentMutationLog mutationLog) {
+        this.mutationLog = mutationLog;
+        this.slotsById = new LongIntHashMap(expectedSize, NO_SLOT);
+        this.byPassportNumber = new HashMap<>(expectedSize * 2);
+        this.byEmail = new HashMap<>(expectedSize * 2);
+        this.records = new StudentRecord[Math.max(16, expectedSize)];
+        for (int i = 0; i < idsByStatus.length; i++) {
+            idsByStatus[i] = new LongHashSet(expectedSize / STATUSES.length);
+        }
+        mutationLog.recover(new StudentMutationLog.RecoveryHandler() {
+            @Override
+            public void put(StudentRecord record) {
+                apply(record);
+                nextId = Math.max(nextId, record.id + 1);
+            }
+
+            @Override
+            public void delete(long id) {
+                remove(id);
+            }
+
+            @Override
+            public void clear() {
+                removeAll();
+            }
+
+            @Override
+            public void nextId(long id) {
+                nextId = Math.max(nextId, id);
+            }
+        });
+    }
+
+    // ---- Point reads
+
+    @Override
+    public Optional<Student> findById(Long id) {
+        StudentRecord record = visibleRecord(id);
+        return record == null ? Optional.empty() : Optional.of(record.toStudent());
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return visibleRecord(id) != null;
+    }
+
+    @Override
+    public Optional<Student> findByEmail(String email) {
+        long stamp = lock.readLock();
+        try {
+            return Optional.ofNullable(byEmail.get(email)).map(StudentRecord::toStudent);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Optional<Student> findByPassportNumber(String passportNumber) {
+        long stamp = lock.readLock();
+        try {
+            return Optional.ofNullable(byPassportNumber.get(passportNumber)).map(StudentRecord::toStudent);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        long stamp = lock.readLock();
+        try {
+            return byEmail.containsKey(email);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean existsByPassportNumber(String passportNumber) {
+        long stamp = lock.readLock();
+        try {
+            return byPassportNumber.containsKey(passportNumber);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // ---- Filters
+
+    @Override
+    public List<Student> findByStatus(StudentStatus status) {
+        long stamp = lock.readLock();
+        try {
+            return toStudents(idsByStatus[status.ordinal()]);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<Student> findActiveStudents() {
+        return findByStatus(StudentStatus.ACTIVE);
+    }
+
+    @Override
+    public List<Student> findByGraduationYear(Integer graduationYear) {
+        if (graduationYear == null) {
+            return List.of();
+        }
+        long stamp = lock.readLock();
+        try {
+            LongHashSet ids = idsByGraduationYear.get(graduationYear.shortValue());
+            return ids == null ? List.of() : toStudents(ids);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<Student> findAll() {
+        long stamp = lock.readLock();
+        try {
+            List<Student> students = new ArrayList<>(slotsById.size());
+            for (int slot = 0; slot < usedSlots; slot++) {
+                StudentRecord record = records[slot];
+                if (record != null) {
+                    students.add(record.toStudent());
+                }
+            }
+            students.sort(Comparator.comparing(Student::getId));
+            return students;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<Student> findAllById(Iterable<Long> ids) {
+        List<Student> students = new ArrayList<>();
+        for (Long id : ids) {
+            findById(id).ifPresent(students::add);
+        }
+        return students;
+    }
+
+    @Override
+    public List<Student> findAll(Sort sort) {
+        List<Student> students = findAll();
+        if (sort.isSorted()) {
+            students.sort(comparatorFor(sort));
+        }
+        return students;
+    }
+
+    @Override
+    public Page<Student> findAll(Pageable pageable) {
+        List<Student> students = findAll(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(students);
+        }
+        int from = (int) Math.min(pageable.getOffset(), students.size());
+        int to = Math.min(from + pageable.getPageSize(), students.size());
+        return new PageImpl<>(students.subList(from, to), pageable, students.size());
+    }
+
+    @Override
+    public long count() {
+        long stamp = lock.readLock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void scan(Consumer<Student> consumer) {
+        StudentRecord[] image;
+        long stamp = lock.readLock();
+        try {
+            image = Arrays.copyOf(records, usedSlots);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        for (StudentRecord record : image) {
+            if (record != null) {
+                consumer.accept(record.toStudent());
+            }
+        }
+    }
+
+    // ---- Writes
+
+    @Override
+    public <S extends Student> S save(S entity) {
+        PendingWrites pending = transactionWrites(true);
+        StudentRecord saved;
+        long sequence = 0;
+        long stamp = lock.writeLock();
+        try {
+            StudentRecord existing = entity.getId() == null ? null : visibleRecord(entity.getId(), pending);
+            saved = existing == null ? newRecord(entity) : changedRecord(existing, entity);
+            if (saved != existing) {
+                claim(saved.id, pending);
+                checkUnique(saved, pending);
+                if (pending == null) {
+                    apply(saved);
+                    sequence = mutationLog.logPut(saved);
+                } else {
+                    stage(saved.id, saved, pending);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        mutationLog.awaitDurable(sequence);
+        entity.setId(saved.id);
+        entity.setVersion(saved.version);
+        entity.setCreatedAt(StudentRecord.toDateTime(saved.createdMicros));
+        entity.setUpdatedAt(StudentRecord.toDateTime(saved.updatedMicros));
+        return entity;
+    }
+
+    @Override
+    public <S extends Student> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        PendingWrites pending = transactionWrites(true);
+        long sequence = 0;
+        long stamp = lock.writeLock();
+        try {
+            if (visibleRecord(id, pending) != null) {
+                claim(id, pending);
+                if (pending == null) {
+                    remove(id);
+                    sequence = mutationLog.logDelete(id);
+                } else {
+                    stage(id, null, pending);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        mutationLog.awaitDurable(sequence);
+    }
+
+    @Override
+    public void delete(Student entity) {
+        if (entity.getId() != null) {
+            deleteById(entity.getId());
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        for (Long id : ids) {
+            deleteById(id);
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Student> entities) {
+        for (Student entity : entities) {
+            delete(entity);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        PendingWrites pending = transactionWrites(true);
+        long sequence = 0;
+        long stamp = lock.writeLock();
+        try {
+            if (pending == null) {
+                removeAll();
+                sequence = mutationLog.logClear();
+            } else {
+                pending.cleared = true;
+                pending.writes.clear();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        mutationLog.awaitDurable(sequence);
+    }
+
+    // ---- Snapshots
+
+    /**
+     * @return number of mutations logged since the last snapshot
+     */
+    public long mutationsSinceSnapshot() {
+        return mutationLog.entriesSinceSnapshot();
+    }
+
+    /**
+     * Writes a snapshot of the store so recovery doesn't have to replay the whole log.
+     * Writers are only blocked while the current records are collected, not during the write.
+     */
+    public void snapshot() {
+        long segment;
+        List<StudentRecord> image;
+        long imageNextId;
+        long stamp = lock.writeLock();
+        try {
+            segment = mutationLog.rotate();
+            imageNextId = nextId;
+            image = new ArrayList<>(slotsById.size());
+            for (int slot = 0; slot < usedSlots; slot++) {
+                if (records[slot] != null) {
+                    image.add(records[slot]);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        mutationLog.writeSnapshot(segment, image, imageNextId);
+    }
+
+    // ---- JpaRepository operations without a meaning for an in-process store
+
+    @Override
+    public void flush() {
+        // Writes are applied on commit, or immediately outside a transaction
+    }
+
+    @Override
+    public <S extends Student> S saveAndFlush(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends Student> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<Student> entities) {
+        deleteAll(entities);
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> ids) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        deleteAll();
+    }
+
+    @Override
+    @Deprecated
+    public Student getOne(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    @Deprecated
+    public Student getById(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    public Student getReferenceById(Long id) {
+        return findById(id).orElseThrow(() -> new EntityNotFoundException("Unable to find Student with id " + id));
+    }
+
+    @Override
+    public <S extends Student> Optional<S> findOne(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Student> List<S> findAll(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Student> List<S> findAll(Example<S> example, Sort sort) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Student> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Student> long count(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Student> boolean exists(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Student, R> R findBy(Example<S> example,
+                                          Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw queryByExampleNotSupported();
+    }
+
+    // ---- Transactions
+
+    private PendingWrites transactionWrites(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        PendingWrites pending = (PendingWrites) TransactionSynchronizationManager.getResource(this);
+        if (pending == null && create) {
+            pending = new PendingWrites();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private StudentRecord visibleRecord(Long id) {
+        PendingWrites pending = transactionWrites(false);
+        if (pending != null && pending.hides(id)) {
+            return pending.writes.get(id);
+        }
+        return readRecord(id);
+    }
+
+    // Caller holds the write lock
+    private StudentRecord visibleRecord(long id, PendingWrites pending) {
+        if (pending != null && pending.hides(id)) {
+            return pending.writes.get(id);
+        }
+        return recordAt(slotsById.get(id));
+    }
+
+    // Caller holds the write lock; a student written by another open transaction is treated as concurrently modified
+    private void claim(long id, PendingWrites pending) {
+        PendingWrites owner = pendingOwners.get(id);
+        if (owner != null && owner != pending) {
+            throw new ObjectOptimisticLockingFailureException(Student.class, id);
+        }
+    }
+
+    // Caller holds the write lock; record is null for a deletion
+    private void stage(long id, StudentRecord record, PendingWrites pending) {
+        pending.writes.put(id, record);
+        pendingOwners.put(id, pending);
+        if (record != null) {
+            pendingPassportNumbers.put(record.passportNumber, id);
+            if (record.email != null) {
+                pendingEmails.put(record.email, id);
+            }
+        }
+    }
+
+    private void commit(PendingWrites pending) {
+        long sequence = 0;
+        long stamp = lock.writeLock();
+        try {
+            if (pending.cleared) {
+                removeAll();
+                sequence = mutationLog.logClear();
+            }
+            for (Map.Entry<Long, StudentRecord> write : pending.writes.entrySet()) {
+                StudentRecord record = write.getValue();
+                if (record != null) {
+                    apply(record);
+                    sequence = mutationLog.logPut(record);
+                } else if (remove(write.getKey())) {
+                    sequence = mutationLog.logDelete(write.getKey());
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        mutationLog.awaitDurable(sequence);
+    }
+
+    private void release(PendingWrites pending) {
+        long stamp = lock.writeLock();
+        try {
+            pendingPassportNumbers.values().removeIf(id -> pendingOwners.get(id) == pending);
+            pendingEmails.values().removeIf(id -> pendingOwners.get(id) == pending);
+            pendingOwners.values().removeIf(owner -> owner == pending);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Writes of one transaction, applied to the store after it commits and dropped otherwise.
+     */
+    private final class PendingWrites implements TransactionSynchronization {
+
+        // Latest state staged per id, null once deleted
+        private final Map<Long, StudentRecord> writes = new LinkedHashMap<>();
+        private boolean cleared;
+
+        boolean hides(Long id) {
+            return cleared || writes.containsKey(id);
+        }
+
+        @Override
+        public int getOrder() {
+            // Applied before after-commit listeners that may read the store
+            return HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCommit() {
+            commit(this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryStudentRepository.this);
+            release(this);
+        }
+    }
+
+    // ---- Internals
+
+    private StudentRecord readRecord(Long id) {
+        if (id == null) {
+            return null;
+        }
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            StudentRecord record;
+            try {
+                record = recordAt(slotsById.get(id));
+            } catch (RuntimeException e) {
+                // Saw the structures mid-update; validate() fails below
+                record = null;
+            }
+            if (lock.validate(stamp)) {
+                return record;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return recordAt(slotsById.get(id));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private StudentRecord recordAt(int slot) {
+        return slot == NO_SLOT ? null : records[slot];
+    }
+
+    private StudentRecord newRecord(Student entity) {
+        long id = entity.getId() != null ? entity.getId() : nextId;
+        nextId = Math.max(nextId, id + 1);
+        long now = StudentRecord.nowMicros();
+        return StudentRecord.of(entity, id, 0, now, now);
+    }
+
+    // Returns existing itself when nothing changed
+    private StudentRecord changedRecord(StudentRecord existing, Student entity) {
+        if (entity.getVersion() != null && entity.getVersion() != existing.version) {
+            throw new ObjectOptimisticLockingFailureException(Student.class, existing.id);
+        }
+        StudentRecord candidate = StudentRecord.of(entity, existing.id, existing.version,
+                existing.createdMicros, existing.updatedMicros);
+        if (!candidate.contentDiffers(existing)) {
+            return existing;
+        }
+        return StudentRecord.of(entity, existing.id, existing.version + 1,
+                existing.createdMicros, StudentRecord.nowMicros());
+    }
+
+    // Caller holds the write lock (or is recovering); inserts or replaces the record with the same id
+    private void apply(StudentRecord record) {
+        int slot = slotsById.get(record.id);
+        if (slot == NO_SLOT) {
+            slot = allocateSlot();
+            slotsById.put(record.id, slot);
+        } else {
+            unindex(records[slot]);
+        }
+        records[slot] = record;
+        index(record);
+    }
+
+    private boolean remove(long id) {
+        int slot = slotsById.remove(id);
+        if (slot == NO_SLOT) {
+            return false;
+        }
+        unindex(records[slot]);
+        records[slot] = null;
+        releaseSlot(slot);
+        return true;
+    }
+
+    private void removeAll() {
+        slotsById.clear();
+        byPassportNumber.clear();
+        byEmail.clear();
+        for (int i = 0; i < idsByStatus.length; i++) {
+            idsByStatus[i] = new LongHashSet();
+        }
+        idsByGraduationYear.clear();
+        Arrays.fill(records, null);
+        usedSlots = 0;
+        freeSlotCount = 0;
+    }
+
+    // Caller holds the write lock; committed students replaced by the caller's own transaction don't count
+    private void checkUnique(StudentRecord record, PendingWrites pending) {
+        StudentRecord samePassport = byPassportNumber.get(record.passportNumber);
+        if (samePassport != null && samePassport.id != record.id && (pending == null || !pending.hides(samePassport.id))) {
+            throw new DataIntegrityViolationException(
+                    "Duplicate passport number for student " + samePassport.id);
+        }
+        Long reservedPassport = pendingPassportNumbers.get(record.passportNumber);
+        if (reservedPassport != null && reservedPassport != record.id) {
+            throw new DataIntegrityViolationException(
+                    "Duplicate passport number for student " + reservedPassport);
+        }
+        if (record.email != null) {
+            StudentRecord sameEmail = byEmail.get(record.email);
+            if (sameEmail != null && sameEmail.id != record.id && (pending == null || !pending.hides(sameEmail.id))) {
+                throw new DataIntegrityViolationException("Duplicate email for student " + sameEmail.id);
+            }
+            Long reservedEmail = pendingEmails.get(record.email);
+            if (reservedEmail != null && reservedEmail != record.id) {
+                throw new DataIntegrityViolationException("Duplicate email for student " + reservedEmail);
+            }
+        }
+    }
+
+    private void index(StudentRecord record) {
+        byPassportNumber.put(record.passportNumber, record);
+        if (record.email != null) {
+            byEmail.put(record.email, record);
+        }
+        if (record.status != StudentRecord.NO_STATUS) {
+            idsByStatus[record.status].add(record.id);
+        }
+        if (record.graduationYear != StudentRecord.NO_VALUE) {
+            idsByGraduationYear.computeIfAbsent(record.graduationYear, year -> new LongHashSet()).add(record.id);
+        }
+    }
+
+    private void unindex(StudentRecord record) {
+        byPassportNumber.remove(record.passportNumber, record);
+        if (record.email != null) {
+            byEmail.remove(record.email, record);
+        }
+        if (record.status != StudentRecord.NO_STATUS) {
+            idsByStatus[record.status].remove(record.id);
+        }
+        if (record.graduationYear != StudentRecord.NO_VALUE) {
+            LongHashSet ids = idsByGraduationYear.get(record.graduationYear);
+            if (ids != null && ids.remove(record.id) && ids.isEmpty()) {
+                idsByGraduationYear.remove(record.graduationYear);
+            }
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (usedSlots == records.length) {
+            records = Arrays.copyOf(records, records.length << 1);
+        }
+        return usedSlots++;
+    }
+
+    private void releaseSlot(int slot) {
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length << 1);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    // Caller holds the read lock
+    private List<Student> toStudents(LongHashSet ids) {
+        long[] sorted = ids.toArray();
+        Arrays.sort(sorted);
+        List<Student> students = new ArrayList<>(sorted.length);
+        for (long id : sorted) {
+            students.add(records[slotsById.get(id)].toStudent());
+        }
+        return students;
+    }
+
+    private static Comparator<Student> comparatorFor(Sort sort) {
+        Comparator<Student> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Student> next = Comparator.comparing(propertyOf(order.getProperty()),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private static Function<Student, Comparable<Object>> propertyOf(String property) {
+        Function<Student, ?> getter = switch (property) {
+            case "id" -> Student::getId;
+            case "name" -> Student::getName;
+            case "passportNumber" -> Student::getPassportNumber;
+            case "age" -> Student::getAge;
+            case "email" -> Student::getEmail;
+            case "enrollmentDate" -> Student::getEnrollmentDate;
+            case "graduationYear" -> Student::getGraduationYear;
+            case "status" -> Student::getStatus;
+            case "createdAt" -> Student::getCreatedAt;
+            case "updatedAt" -> Student::getUpdatedAt;
+            case "version" -> Student::getVersion;
+            default -> throw new IllegalArgumentException("Cannot sort students by '" + property + "'");
+        };
+        @SuppressWarnings("unchecked")
+        Function<Student, Comparable<Object>> comparable = (Function<Student, Comparable<Object>>) getter;
+        return comparable;
+    }
+
+    private static UnsupportedOperationException queryByExampleNotSupported() {
+        return new UnsupportedOperationException("Query by example is not supported by the in-memory student store");
+    }
+}
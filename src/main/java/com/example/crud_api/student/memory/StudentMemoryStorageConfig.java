@@ -0,0 +1,30 @@
+package com.example.crud_api.student.memory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Durability for the "memory" profile: the in-memory store is backed by a write-ahead log
+ * unless {@code student.memory.wal.enabled=false}.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("memory")
+public class StudentMemoryStorageConfig {
+
+    @Bean(destroyMethod = "close")
+    StudentMutationLog studentMutationLog(
+            @Value("${student.memory.wal.enabled:true}") boolean enabled,
+            @Value("${student.memory.wal.path:./data/student-wal}") Path directory,
+            @Value("${student.memory.wal.durability:FSYNC_PER_COMMIT}") WalDurability durability,
+            @Value("${student.memory.wal.sync-interval:PT0.05S}") Duration syncInterval) {
+        if (!enabled) {
+            return StudentMutationLog.NONE;
+        }
+        return new FileStudentMutationLog(directory, durability, syncInterval);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.crud_api.student.memory;
+
+import java.util.List;
+
+/**
+ * Durability hook of {@link InMemoryStudentRepository}.
+ * <p>
+ * Mutations are appended while the repository holds its write lock, so the log order is
+ * the order in which they were applied; callers then wait for {@link #awaitDurable} after
+ * releasing the lock, which lets concurrent writers share a flush.
+ */
+interface StudentMutationLog {
+
+    /** Log that keeps nothing, used when persistence is disabled. */
+    StudentMutationLog NONE = new StudentMutationLog() {
+        @Override
+        public void recover(RecoveryHandler handler) {
+        }
+
+        @Override
+        public long logPut(StudentRecord record) {
+            return 0;
+        }
+
+        @Override
+        public long logDelete(long id) {
+            return 0;
+        }
+
+        @Override
+        public long logClear() {
+            return 0;
+        }
+
+        @Override
+        public void awaitDurable(long sequence) {
+        }
+
+        @Override
+        public long entriesSinceSnapshot() {
+            return 0;
+        }
+
+        @Override
+        public long rotate() {
+            return 0;
+        }
+
+        @Override
+        public void writeSnapshot(long segment, List<StudentRecord> records, long nextId) {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /**
+     * Replays the latest snapshot and the log written after it.
+     */
+    void recover(RecoveryHandler handler);
+
+    /**
+     * @return sequence number to pass to {@link #awaitDurable}
+     */
+    long logPut(StudentRecord record);
+
+    long logDelete(long id);
+
+    long logClear();
+
+    /**
+     * Blocks until the entry with the given sequence number is durable under the configured mode.
+     */
+    void awaitDurable(long sequence);
+
+    long entriesSinceSnapshot();
+
+    /**
+     * Starts a new log segment. Called under the repository write lock, so the state at
+     * that moment is exactly what the returned segment's snapshot must contain.
+     *
+     * @return id of the new segment
+     */
+    long rotate();
+
+    /**
+     * Persists the state as of the start of {@code segment} and drops the log before it.
+     *
+     * @param nextId next id the repository assigns, which may be above every record's if the latest were deleted
+     */
+    void writeSnapshot(long segment, List<StudentRecord> records, long nextId);
+
+    void close();
+
+    interface RecoveryHandler {
+
+        void put(StudentRecord record);
+
+        void delete(long id);
+
+        void clear();
+
+        /**
+         * Ids below this were handed out before the snapshot, including to students deleted since.
+         */
+        void nextId(long nextId);
+    }
+}
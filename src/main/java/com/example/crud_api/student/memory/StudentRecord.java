@@ -0,0 +1,124 @@
+package com.example.crud_api.student.memory;
+
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * Immutable, compact encoding of a student held by {@link InMemoryStudentRepository}.
+ * <p>
+ * The status is stored as its ordinal. Timestamps are stored as microseconds since
+ * the epoch (UTC, the precision of an H2 {@code timestamp}). Optional numbers use
+ * sentinels instead of boxed values. Updates replace the record, so a reader holding
+ * a reference always sees a consistent version.
+ */
+final class StudentRecord {
+
+    static final long NO_TIME = Long.MIN_VALUE;
+    static final short NO_VALUE = Short.MIN_VALUE;
+    static final byte NO_STATUS = -1;
+
+    private static final StudentStatus[] STATUSES = StudentStatus.values();
+
+    final long id;
+    final long version;
+    final String name;
+    final String passportNumber;
+    final String email;
+    final short age;
+    final short graduationYear;
+    final byte status;
+    final long enrollmentMicros;
+    final long createdMicros;
+    final long updatedMicros;
+
+    StudentRecord(long id, long version, String name, String passportNumber, String email,
+                  short age, short graduationYear, byte status,
+                  long enrollmentMicros, long createdMicros, long updatedMicros) {
+        this.id = id;
+        this.version = version;
+        this.name = name;
+        this.passportNumber = passportNumber;
+        this.email = email;
+        this.age = age;
+        this.graduationYear = graduationYear;
+        this.status = status;
+        this.enrollmentMicros = enrollmentMicros;
+        this.createdMicros = createdMicros;
+        this.updatedMicros = updatedMicros;
+    }
+
+    static StudentRecord of(Student student, long id, long version, long createdMicros, long updatedMicros) {
+        return new StudentRecord(id, version,
+                student.getName(),
+                student.getPassportNumber(),
+                student.getEmail(),
+                toShort(student.getAge()),
+                toShort(student.getGraduationYear()),
+                student.getStatus() == null ? NO_STATUS : (byte) student.getStatus().ordinal(),
+                toEpochMicros(student.getEnrollmentDate()),
+                createdMicros,
+                updatedMicros);
+    }
+
+    Student toStudent() {
+        Student student = new Student(name, passportNumber, toInteger(age), email,
+                toDateTime(enrollmentMicros), toInteger(graduationYear));
+        student.setId(id);
+        student.setStatus(status());
+        student.setCreatedAt(toDateTime(createdMicros));
+        student.setUpdatedAt(toDateTime(updatedMicros));
+        student.setVersion(version);
+        return student;
+    }
+
+    StudentStatus status() {
+        return status == NO_STATUS ? null : STATUSES[status];
+    }
+
+    /**
+     * @return {@code true} if the updatable content (everything but id, version and audit fields) differs
+     */
+    boolean contentDiffers(StudentRecord other) {
+        return age != other.age
+                || graduationYear != other.graduationYear
+                || status != other.status
+                || enrollmentMicros != other.enrollmentMicros
+                || !Objects.equals(name, other.name)
+                || !Objects.equals(passportNumber, other.passportNumber)
+                || !Objects.equals(email, other.email);
+    }
+
+    static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIME;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime toDateTime(long epochMicros) {
+        if (epochMicros == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMicros, 1_000_000L),
+                (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC);
+    }
+
+    static long nowMicros() {
+        return toEpochMicros(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private static short toShort(Integer value) {
+        return value == null ? NO_VALUE : value.shortValue();
+    }
+
+    private static Integer toInteger(short value) {
+        return value == NO_VALUE ? null : (int) value;
+    }
+}
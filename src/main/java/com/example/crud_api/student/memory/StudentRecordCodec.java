@@ -0,0 +1,55 @@
+package com.example.crud_api.student.memory;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary encoding of {@link StudentRecord}, shared by the write-ahead log and snapshots.
+ * Fields are written in declaration order; nullable strings are prefixed with a presence flag.
+ */
+final class StudentRecordCodec {
+
+    private StudentRecordCodec() {
+    }
+
+    static void write(DataOutput out, StudentRecord record) throws IOException {
+        out.writeLong(record.id);
+        out.writeLong(record.version);
+        writeNullable(out, record.name);
+        writeNullable(out, record.passportNumber);
+        writeNullable(out, record.email);
+        out.writeShort(record.age);
+        out.writeShort(record.graduationYear);
+        out.writeByte(record.status);
+        out.writeLong(record.enrollmentMicros);
+        out.writeLong(record.createdMicros);
+        out.writeLong(record.updatedMicros);
+    }
+
+    static StudentRecord read(DataInput in) throws IOException {
+        return new StudentRecord(
+                in.readLong(),
+                in.readLong(),
+                readNullable(in),
+                readNullable(in),
+                readNullable(in),
+                in.readShort(),
+                in.readShort(),
+                in.readByte(),
+                in.readLong(),
+                in.readLong(),
+                in.readLong());
+    }
+
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.crud_api.student.memory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically snapshots the in-memory store, which lets the log segments before the
+ * snapshot be deleted and bounds how much of the log recovery has to replay.
+ */
+@Component
+@Profile("memory")
+@ConditionalOnProperty(name = "student.memory.wal.enabled", havingValue = "true", matchIfMissing = true)
+public class StudentSnapshotJob {
+
+    private final InMemoryStudentRepository repository;
+    private final long minMutations;
+
+    public StudentSnapshotJob(InMemoryStudentRepository repository,
+                              @Value("${student.memory.snapshot.min-mutations:10000}") long minMutations) {
+        this.repository = repository;
+        this.minMutations = minMutations;
+    }
+
+    @Scheduled(initialDelayString = "${student.memory.snapshot.interval:PT5M}",
+            fixedDelayString = "${student.memory.snapshot.interval:PT5M}")
+    public void snapshotIfNeeded() {
+        if (repository.mutationsSinceSnapshot() >= minMutations) {
+            repository.snapshot();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.crud_api.student.memory;
+
+/**
+ * When a write to the in-memory student store is considered durable.
+ */
+public enum WalDurability {
+
+    /** Each write waits until its log entry is forced to disk; concurrent writers share one fsync. */
+    FSYNC_PER_COMMIT,
+
+    /** Writes wait until their entry reaches the OS; the log is forced every {@code sync-interval}. */
+    FSYNC_INTERVAL,
+
+    /** Writes wait until their entry reaches the OS; flushing to disk is left to the OS. */
+    OS
+}
@@ -0,0 +1,360 @@
+package com.example.crud_api.student.search;
+
+import com.example.crud_api.collection.LongIntHashMap;
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentProjection;
+import com.example.crud_api.student.StudentStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram inverted index over student names and email local parts.
+ * <p>
+ * Each indexed student is a document slot. Each distinct trigram has a posting list of the
+ * slots containing it. A query walks the posting lists of its own trigrams shortest first,
+ * scoring each slot once by merging its sorted trigrams with the query's, so it keeps no
+ * per-slot counters. Scored slots are offered to a heap bounded at the requested limit. A slot
+ * missing from the lists walked so far can only hold the remaining trigrams, so the walk stops
+ * once that is fewer than the similarity threshold or the weakest match in a full heap needs:
+ * the long posting lists of common trigrams ("ine", "son") are rarely walked, and a query never
+ * sorts all candidates or touches students that share none of its trigrams.
+ * <p>
+ * The similarity is the share of query trigrams present in the document, which tolerates
+ * partial input ("kath" finds "Katherine"). Ties are broken by trigram Jaccard similarity,
+ * so closer matches ("Katherine" for "katherine") rank above longer names containing the query.
+ */
+@Component
+public class StudentNameIndex implements StudentProjection {
+
+    private static final int MISSING = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final StudentStatus[] STATUSES = StudentStatus.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Documents, guarded by lock
+    private LongIntHashMap slotByStudentId;
+    private long[] studentIds;
+    private String[] names;
+    private String[] emails;
+    private byte[] statuses;
+    private long[][] documentTrigrams;
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private int usedSlots;
+
+    // Postings, guarded by lock
+    private LongIntHashMap postingByTrigram;
+    private int[][] postingSlots;
+    private int[] postingSizes;
+    private int postingCount;
+
+    public StudentNameIndex() {
+        allocate();
+    }
+
+    @Override
+    public void reset() {
+        lock.writeLock().lock();
+        try {
+            allocate();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(Student student) {
+        long[] trigrams = Trigrams.of(student.getName(), Trigrams.localPart(student.getEmail()));
+        lock.writeLock().lock();
+        try {
+            int slot = slotByStudentId.get(student.getId());
+            if (slot == MISSING) {
+                slot = allocateSlot();
+                slotByStudentId.put(student.getId(), slot);
+                studentIds[slot] = student.getId();
+            } else if (!Arrays.equals(documentTrigrams[slot], trigrams)) {
+                unpost(slot);
+            } else {
+                trigrams = null;
+            }
+            names[slot] = student.getName();
+            emails[slot] = student.getEmail();
+            statuses[slot] = student.getStatus() == null ? MISSING : (byte) student.getStatus().ordinal();
+            if (trigrams != null) {
+                documentTrigrams[slot] = trigrams;
+                post(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotByStudentId.remove(id);
+            if (slot == MISSING) {
+                return;
+            }
+            unpost(slot);
+            names[slot] = null;
+            emails[slot] = null;
+            documentTrigrams[slot] = null;
+            if (freeSlotCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+            }
+            freeSlots[freeSlotCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param query         name, part of a name or email local part, possibly misspelled
+     * @param limit         maximum number of matches
+     * @param minSimilarity share of the query's trigrams a match must contain, from 0 (exclusive) to 1
+     * @return best matches first
+     */
+    public List<StudentNameMatch> search(String query, int limit, double minSimilarity) {
+        long[] queryTrigrams = Trigrams.of(query);
+        if (queryTrigrams.length == 0) {
+            return List.of();
+        }
+        // At least one shared trigram, even for a threshold of 0
+        int minHits = Math.max(1, (int) Math.ceil(minSimilarity * queryTrigrams.length));
+
+        lock.readLock().lock();
+        try {
+            // Known trigrams, shortest posting list first
+            long[] bySize = new long[queryTrigrams.length];
+            int known = 0;
+            for (int q = 0; q < queryTrigrams.length; q++) {
+                int posting = postingByTrigram.get(queryTrigrams[q]);
+                if (posting != MISSING) {
+                    bySize[known++] = (long) postingSizes[posting] << 32 | q;
+                }
+            }
+            Arrays.sort(bySize, 0, known);
+            int[] walkOrder = new int[queryTrigrams.length];
+            Arrays.fill(walkOrder, Integer.MAX_VALUE);
+            for (int k = 0; k < known; k++) {
+                walkOrder[(int) bySize[k]] = k;
+            }
+
+            PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1);
+            // A slot missing from the first k lists holds at most known - k query trigrams
+            for (int k = 0; known - k >= threshold(best, limit, minHits); k++) {
+                int posting = postingByTrigram.get(queryTrigrams[(int) bySize[k]]);
+                int[] slots = postingSlots[posting];
+                for (int i = 0, size = postingSizes[posting]; i < size; i++) {
+                    int slot = slots[i];
+                    // Skips slots that could not outrank the weakest match even holding every remaining trigram
+                    if (best.size() == limit && !canEnter(best.peek(), known - k, queryTrigrams.length,
+                            documentTrigrams[slot].length, studentIds[slot])) {
+                        continue;
+                    }
+                    int slotHits = hits(slot, queryTrigrams, walkOrder, k);
+                    if (slotHits < minHits) {
+                        continue;
+                    }
+                    double similarity = (double) slotHits / queryTrigrams.length;
+                    double jaccard = (double) slotHits
+                            / (queryTrigrams.length + documentTrigrams[slot].length - slotHits);
+                    if (best.size() == limit) {
+                        Candidate worst = best.peek();
+                        if (worst.compare(similarity, jaccard, studentIds[slot]) >= 0) {
+                            continue;
+                        }
+                        best.poll();
+                    }
+                    best.add(new Candidate(slot, slotHits, similarity, jaccard, studentIds[slot]));
+                }
+            }
+
+            List<StudentNameMatch> matches = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                Candidate candidate = best.poll();
+                int slot = candidate.slot;
+                byte status = statuses[slot];
+                matches.add(new StudentNameMatch(studentIds[slot], names[slot], emails[slot],
+                        status == MISSING ? null : STATUSES[status], candidate.similarity));
+            }
+            Collections.reverse(matches);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByStudentId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Hits a slot needs to enter the results
+    private static int threshold(PriorityQueue<Candidate> best, int limit, int minHits) {
+        return best.size() == limit ? Math.max(minHits, best.peek().hits) : minHits;
+    }
+
+    // Similarity and Jaccard similarity both grow with the hits, so maxHits bounds the slot's rank
+    private static boolean canEnter(Candidate worst, int maxHits, int queryLength, int documentLength, long studentId) {
+        double similarity = (double) maxHits / queryLength;
+        double jaccard = (double) maxHits / (queryLength + documentLength - maxHits);
+        return worst.compare(similarity, jaccard, studentId) < 0;
+    }
+
+    /**
+     * Caller holds the read lock. Both trigram arrays are sorted, so they are merged.
+     *
+     * @return query trigrams in the slot, or -1 if it holds one from a list walked before {@code walking}
+     */
+    private int hits(int slot, long[] queryTrigrams, int[] walkOrder, int walking) {
+        long[] document = documentTrigrams[slot];
+        int hits = 0;
+        int d = 0;
+        for (int q = 0; q < queryTrigrams.length && d < document.length; q++) {
+            long trigram = queryTrigrams[q];
+            while (d < document.length && document[d] < trigram) {
+                d++;
+            }
+            if (d < document.length && document[d] == trigram) {
+                if (walkOrder[q] < walking) {
+                    return -1;
+                }
+                hits++;
+                d++;
+            }
+        }
+        return hits;
+    }
+
+    // Caller holds the write lock
+    private void post(int slot) {
+        for (long trigram : documentTrigrams[slot]) {
+            int posting = postingByTrigram.get(trigram);
+            if (posting == MISSING) {
+                if (postingCount == postingSlots.length) {
+                    postingSlots = Arrays.copyOf(postingSlots, postingCount * 2);
+                    postingSizes = Arrays.copyOf(postingSizes, postingCount * 2);
+                }
+                posting = postingCount++;
+                postingSlots[posting] = new int[4];
+                postingByTrigram.put(trigram, posting);
+            }
+            int[] slots = postingSlots[posting];
+            if (postingSizes[posting] == slots.length) {
+                slots = Arrays.copyOf(slots, slots.length * 2);
+                postingSlots[posting] = slots;
+            }
+            slots[postingSizes[posting]++] = slot;
+        }
+    }
+
+    // Caller holds the write lock; posting lists are unordered, so removal swaps in the last entry
+    private void unpost(int slot) {
+        for (long trigram : documentTrigrams[slot]) {
+            int posting = postingByTrigram.get(trigram);
+            int[] slots = postingSlots[posting];
+            int last = --postingSizes[posting];
+            for (int i = 0; i <= last; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[last];
+                    break;
+                }
+            }
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (usedSlots == studentIds.length) {
+            int capacity = studentIds.length * 2;
+            studentIds = Arrays.copyOf(studentIds, capacity);
+            names = Arrays.copyOf(names, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            documentTrigrams = Arrays.copyOf(documentTrigrams, capacity);
+        }
+        return usedSlots++;
+    }
+
+    private void allocate() {
+        slotByStudentId = new LongIntHashMap(INITIAL_CAPACITY, MISSING);
+        studentIds = new long[INITIAL_CAPACITY];
+        names = new String[INITIAL_CAPACITY];
+        emails = new String[INITIAL_CAPACITY];
+        statuses = new byte[INITIAL_CAPACITY];
+        documentTrigrams = new long[INITIAL_CAPACITY][];
+        freeSlots = new int[16];
+        freeSlotCount = 0;
+        usedSlots = 0;
+        postingByTrigram = new LongIntHashMap(INITIAL_CAPACITY, MISSING);
+        postingSlots = new int[INITIAL_CAPACITY][];
+        postingSizes = new int[INITIAL_CAPACITY];
+        postingCount = 0;
+    }
+
+    /** Heap entry; the natural order puts the weakest match first. */
+    private static final class Candidate implements Comparable<Candidate> {
+
+        final int slot;
+        final int hits;
+        final double similarity;
+        final double jaccard;
+        final long studentId;
+
+        Candidate(int slot, int hits, double similarity, double jaccard, long studentId) {
+            this.slot = slot;
+            this.hits = hits;
+            this.similarity = similarity;
+            this.jaccard = jaccard;
+            this.studentId = studentId;
+        }
+
+        /**
+         * @return positive if this candidate ranks above the given one
+         */
+        int compare(double otherSimilarity, double otherJaccard, long otherStudentId) {
+            int bySimilarity = Double.compare(similarity, otherSimilarity);
+            if (bySimilarity != 0) {
+                return bySimilarity;
+            }
+            int byJaccard = Double.compare(jaccard, otherJaccard);
+            if (byJaccard != 0) {
+                return byJaccard;
+            }
+            // Lower ids rank higher, for a stable order
+            return Long.compare(otherStudentId, studentId);
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return compare(other.similarity, other.jaccard, other.studentId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Candidate other && slot == other.slot;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(slot);
+        }
+    }
+}
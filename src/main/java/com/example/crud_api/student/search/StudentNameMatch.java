@@ -0,0 +1,18 @@
+package com.example.crud_api.student.search;
+
+import com.example.crud_api.student.StudentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A student found by name search.
+ *
+ * @param similarity share of the query's trigrams found in the student's name or email, from 0 to 1
+ */
+@Schema(description = "Student matching a name search")
+public record StudentNameMatch(
+        Long id,
+        String name,
+        String email,
+        StudentStatus status,
+        double similarity) {
+}
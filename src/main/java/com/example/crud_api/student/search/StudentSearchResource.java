@@ -0,0 +1,76 @@
+package com.example.crud_api.student.search;
+
+import com.example.crud_api.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Student Search", description = "Finding students without knowing their ID")
+public class StudentSearchResource {
+
+    static final int MAX_LIMIT = 100;
+
+    private final StudentNameIndex studentNameIndex;
+
+    public StudentSearchResource(StudentNameIndex studentNameIndex) {
+        this.studentNameIndex = studentNameIndex;
+    }
+
+    @GetMapping("/students/search/name")
+    @Operation(
+            summary = "Search students by name",
+            description = "Typo-tolerant search over student names and email local parts, ranked by trigram similarity. "
+                    + "Partial names match as well, e.g. 'kath' finds 'Katherine'."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Matches, best first",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = StudentNameMatch.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing query or invalid limit or similarity",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<List<StudentNameMatch>> searchByName(
+            @Parameter(description = "Name, part of a name or email local part", example = "Katherin", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of matches (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Share of the query's trigrams a match must contain (0-1)", example = "0.3")
+            @RequestParam(defaultValue = "0.3") double minSimilarity) {
+
+        if (q.isBlank()) {
+            throw new IllegalArgumentException("q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (minSimilarity < 0 || minSimilarity > 1) {
+            throw new IllegalArgumentException("minSimilarity must be between 0 and 1");
+        }
+        return ResponseEntity.ok(studentNameIndex.search(q, limit, minSimilarity));
+    }
+}
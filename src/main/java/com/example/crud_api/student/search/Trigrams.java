@@ -0,0 +1,65 @@
+package com.example.crud_api.student.search;
+
+import com.example.crud_api.collection.LongHashSet;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Trigram extraction in the style of PostgreSQL's {@code pg_trgm}: text is lower-cased and
+ * stripped of accents, split into words on anything that isn't a letter or digit, and each
+ * word is padded with two spaces in front and one behind. Each trigram is packed into a
+ * {@code long} (three UTF-16 code units).
+ */
+final class Trigrams {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private Trigrams() {
+    }
+
+    /**
+     * @return the distinct trigrams of all texts, sorted; {@code null} texts are skipped
+     */
+    static long[] of(String... texts) {
+        LongHashSet trigrams = new LongHashSet(32);
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            String normalized = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                    .replaceAll("")
+                    .toLowerCase(Locale.ROOT);
+            for (String word : SEPARATORS.split(normalized)) {
+                if (word.isEmpty()) {
+                    continue;
+                }
+                String padded = "  " + word + " ";
+                for (int i = 0; i + 3 <= padded.length(); i++) {
+                    trigrams.add(pack(padded.charAt(i), padded.charAt(i + 1), padded.charAt(i + 2)));
+                }
+            }
+        }
+        long[] sorted = trigrams.toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * @return the local part of an email address, or {@code null}
+     */
+    static String localPart(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.indexOf('@');
+        return at < 0 ? email : email.substring(0, at);
+    }
+
+    private static long pack(char first, char second, char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+}
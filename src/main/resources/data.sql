@@ -1,11 +1,21 @@
 -- Note: created_at and updated_at will be automatically set by JPA auditing
 -- But for initial data, we need to provide them
+-- Each row is only inserted if missing, as several application contexts may share one in-memory database
 
 insert into student (id, name, passport_number, age, email, enrollment_date, graduation_year, status, created_at, updated_at, version)
-values (10001, 'Ranga Karanam', 'E1234567', 28, 'ranga@example.com', '2023-09-01 09:00:00', 2026, 'ACTIVE', '2023-09-01 09:00:00', '2023-09-01 09:00:00', 0);
+select 10001, 'Ranga Karanam', 'E1234567', 28, 'ranga@example.com', '2023-09-01 09:00:00', 2026, 'ACTIVE', '2023-09-01 09:00:00', '2023-09-01 09:00:00', 0
+where not exists (select 1 from student where id = 10001);
 
 insert into student (id, name, passport_number, age, email, enrollment_date, graduation_year, status, created_at, updated_at, version)
-values (10002, 'Ravi Kumar', 'A1234568', 25, 'ravi@example.com', '2023-09-01 10:00:00', 2025, 'ACTIVE', '2023-09-01 10:00:00', '2023-09-01 10:00:00', 0);
+select 10002, 'Ravi Kumar', 'A1234568', 25, 'ravi@example.com', '2023-09-01 10:00:00', 2025, 'ACTIVE', '2023-09-01 10:00:00', '2023-09-01 10:00:00', 0
+where not exists (select 1 from student where id = 10002);
 
 insert into student (id, name, passport_number, age, email, enrollment_date, graduation_year, status, created_at, updated_at, version)
-values (10003, 'Sarah Johnson', 'B9876543', 22, 'sarah@example.com', '2024-01-15 14:30:00', 2025, 'SUSPENDED', '2024-01-15 14:30:00', '2025-01-15 11:20:00', 1);
\ No newline at end of file
+select 10003, 'Sarah Johnson', 'B9876543', 22, 'sarah@example.com', '2024-01-15 14:30:00', 2025, 'SUSPENDED', '2024-01-15 14:30:00', '2025-01-15 11:20:00', 1
+where not exists (select 1 from student where id = 10003);
+
+-- Baseline history of the seed students, as they are not written through the service
+insert into student_history (history_id, student_id, version, name, passport_number, age, email, enrollment_date, graduation_year, status, deleted, valid_from)
+select next value for student_history_seq, s.id, s.version, s.name, s.passport_number, s.age, s.email, s.enrollment_date, s.graduation_year, s.status, false, s.updated_at
+from student s
+where s.id in (10001, 10002, 10003) and not exists (select 1 from student_history h where h.student_id = s.id);
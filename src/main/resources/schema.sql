@@ -1,4 +1,4 @@
-create table student
+create table if not exists student
 (
    id serial primary key not null,
    name varchar(100) not null,
@@ -12,4 +12,88 @@ create table student
    updated_at timestamp not null,
    version bigint not null default 0,
    primary key(id)
-);
\ No newline at end of file
+);
+
+create index if not exists idx_student_status on student (status);
+create index if not exists idx_student_graduation_year on student (graduation_year);
+
+-- Cold tier for students in a terminal status (GRADUATED, WITHDRAWN), filled by StudentArchiveJob
+create table if not exists student_archive
+(
+   id bigint primary key not null,
+   name varchar(100) not null,
+   passport_number varchar(10) not null unique,
+   age integer not null,
+   email varchar(255) unique,
+   enrollment_date timestamp not null,
+   graduation_year integer,
+   status varchar(20) not null,
+   created_at timestamp not null,
+   updated_at timestamp not null,
+   version bigint not null,
+   archived_at timestamp not null
+);
+
+create index if not exists idx_student_archive_status on student_archive (status);
+
+
+-- Append-only change log behind GET /api/v1/students/changes, written in the same transaction as each write
+create table if not exists student_change
+(
+   seq bigint generated by default as identity primary key,
+   student_id bigint not null,
+   change_type varchar(20) not null,
+   status varchar(20),
+   previous_status varchar(20),
+   payload varchar(4000),
+   changed_at timestamp not null
+);
+
+-- Logs created before previous_status was recorded
+alter table student_change add column if not exists previous_status varchar(20);
+
+create index if not exists idx_student_change_changed_at on student_change (changed_at);
+
+
+-- One row per student version; as-of lookups resolve with a single seek on (student_id, valid_from desc)
+create sequence if not exists student_history_seq start with 1 increment by 50;
+
+create table if not exists student_history
+(
+   history_id bigint primary key not null,
+   student_id bigint not null,
+   version bigint not null,
+   name varchar(100) not null,
+   passport_number varchar(10) not null,
+   age integer not null,
+   email varchar(255),
+   enrollment_date timestamp not null,
+   graduation_year integer,
+   status varchar(20) not null,
+   deleted boolean not null default false,
+   valid_from timestamp not null
+);
+
+create index if not exists idx_student_history_student_valid_from on student_history (student_id, valid_from desc, version desc);
+
+-- Present once every student written before history was kept has a baseline history row
+create table if not exists student_history_baseline
+(
+   id integer primary key not null,
+   recorded_at timestamp not null
+);
+
+-- A new database has nothing to backfill: seed and dataset rows are written with their history
+insert into student_history_baseline (id, recorded_at)
+select 1, current_timestamp
+where not exists (select 1 from student) and not exists (select 1 from student_history_baseline);
+
+
+-- Materialized student counts per status and graduation year (0 = no graduation year), flushed by StudentCountService
+create table if not exists student_counts
+(
+   status varchar(20) not null,
+   graduation_year integer not null,
+   student_count bigint not null,
+   primary key (status, graduation_year)
+);
@@ -0,0 +1,71 @@
+package com.example.crud_api.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIntHashMapTest {
+
+    private static final int MISSING = -1;
+
+    @Test
+    void put_ShouldReplaceAndReturnPreviousValue() {
+        // Given
+        LongIntHashMap map = new LongIntHashMap(4, MISSING);
+
+        // When
+        int first = map.put(42L, 1);
+        int second = map.put(42L, 2);
+
+        // Then
+        assertThat(first).isEqualTo(MISSING);
+        assertThat(second).isEqualTo(1);
+        assertThat(map.get(42L)).isEqualTo(2);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroKey_ShouldBeStoredLikeAnyOtherKey() {
+        // Given
+        LongIntHashMap map = new LongIntHashMap(4, MISSING);
+
+        // When
+        map.put(0L, 7);
+
+        // Then
+        assertThat(map.get(0L)).isEqualTo(7);
+        assertThat(map.remove(0L)).isEqualTo(7);
+        assertThat(map.containsKey(0L)).isFalse();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void randomOperations_ShouldMatchHashMap() {
+        // Given
+        LongIntHashMap map = new LongIntHashMap(2, MISSING);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(31);
+
+        // When
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertThat(map.remove(key)).isEqualTo(removed == null ? MISSING : removed);
+            } else {
+                Integer previous = expected.put(key, i);
+                assertThat(map.put(key, i)).isEqualTo(previous == null ? MISSING : previous);
+            }
+        }
+
+        // Then
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, MISSING));
+        }
+    }
+}
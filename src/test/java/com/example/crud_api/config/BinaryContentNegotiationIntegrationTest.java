@@ -0,0 +1,104 @@
+package com.example.crud_api.config;
+
+import com.example.crud_api.student.Student;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+class BinaryContentNegotiationIntegrationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+    private ObjectMapper jsonMapper;
+    private CBORMapper cborMapper;
+    private SmileMapper smileMapper;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        jsonMapper = new ObjectMapper();
+        cborMapper = new CBORMapper();
+        smileMapper = SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    @Test
+    void retrieveAllStudents_WithCborAccept_ShouldReturnSameDocumentAsJson() throws Exception {
+        // When
+        byte[] json = mockMvc.perform(get("/api/v1/students").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cbor = mockMvc.perform(get("/api/v1/students").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode fromCbor = cborMapper.readTree(cbor);
+        assertThat(fromCbor).isEqualTo(jsonMapper.readTree(json));
+        // spring.jackson.* settings apply to binary encodings too
+        assertThat(fromCbor.get(0).get("createdAt").isTextual()).isTrue();
+        assertThat(cbor.length).isLessThan(json.length);
+    }
+
+    @Test
+    void createStudent_WithSmileBody_ShouldRespondInSmile() throws Exception {
+        // Given
+        Student newStudent = new Student("Smile Student", "S7654321", 24, "smile@example.com",
+                LocalDateTime.now(), 2027);
+
+        // When
+        byte[] response = mockMvc.perform(post("/api/v1/students")
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(smileMapper.writeValueAsBytes(newStudent)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        Student created = smileMapper.readValue(response, Student.class);
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getName()).isEqualTo("Smile Student");
+        assertThat(created.getGraduationYear()).isEqualTo(2027);
+    }
+
+    @Test
+    void retrieveStudent_WithoutAccept_ShouldDefaultToJson() throws Exception {
+        mockMvc.perform(get("/api/v1/students/10001"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.crud_api.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistentStorageConfigTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private final PersistentStorageConfig config = new PersistentStorageConfig();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:persistent-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void firstStart_ShouldCreateSchemaAndSeedData() {
+        // When
+        config.persistentStorageInitializer(dataSource, true).initializeDatabase();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from student", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    void restart_WithExistingData_ShouldNotReseed() {
+        // Given
+        config.persistentStorageInitializer(dataSource, true).initializeDatabase();
+        jdbcTemplate.update("delete from student where id = 10003");
+
+        // When
+        config.persistentStorageInitializer(dataSource, true).initializeDatabase();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from student", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void seedDataDisabled_ShouldOnlyCreateSchema() {
+        // When
+        config.persistentStorageInitializer(dataSource, false).initializeDatabase();
+
+        // Then
+        assertThat(PersistentStorageConfig.isStudentTableEmpty(dataSource)).isTrue();
+    }
+}
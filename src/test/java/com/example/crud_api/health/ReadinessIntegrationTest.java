@@ -0,0 +1,61 @@
+package com.example.crud_api.health;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class ReadinessIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ReadinessProbe readinessProbe;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void health_ShouldReportCachedReadiness() throws Exception {
+        // Given
+        ReadinessSample sample = readinessProbe.refresh();
+
+        // Then - a cold H2 may still be slow to answer the first probe
+        assertThat(sample.status()).isNotEqualTo(ReadinessStatus.DOWN);
+        assertThat(sample.probeMillis()).isNotNull();
+        assertThat(sample.maxConnections()).isPositive();
+
+        mockMvc.perform(get("/api/v1/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", anyOf(is("UP"), is("DEGRADED"))))
+                .andExpect(jsonPath("$.readiness.checkedAt", notNullValue()));
+    }
+
+    @Test
+    void readinessGroup_ShouldIncludeDatabaseReadiness() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components.databaseReadiness.details.maxConnections", notNullValue()));
+    }
+}
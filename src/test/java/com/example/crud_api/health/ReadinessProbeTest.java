@@ -0,0 +1,34 @@
+package com.example.crud_api.health;
+
+import com.example.crud_api.observability.EndpointLatencies;
+import com.example.crud_api.observability.SloPolicy;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadinessProbeTest {
+
+    @Test
+    void refresh_ShouldNotLeaveTheProbeTimeoutOnThePooledConnection() {
+        // Given - one connection that outlives the probe, as a pooled one does
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:readiness-" + System.nanoTime(), "sa", "", true);
+        ReadinessProbe probe = new ReadinessProbe(dataSource, new EndpointLatencies(Duration.ofSeconds(10), 6, 10,
+                new SloPolicy(Duration.ofMillis(100), 0.99, 0.999)),
+                Duration.ofSeconds(5), "select 1", Duration.ofSeconds(2), Duration.ofMillis(100),
+                Duration.ofSeconds(1), 0.9, 1, 10, Duration.ofMillis(500));
+
+        // When
+        probe.refresh();
+
+        // Then
+        assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "select setting_value from information_schema.settings where setting_name = 'QUERY_TIMEOUT'",
+                String.class)).isEqualTo("0");
+        dataSource.destroy();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.crud_api.health;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadinessThresholdsTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final ReadinessThresholds thresholds = new ReadinessThresholds(
+            Duration.ofMillis(100), Duration.ofSeconds(1), 0.9, 1, 10, Duration.ofMillis(500));
+
+    @Test
+    void evaluate_WithHealthyFigures_ShouldBeUp() {
+        List<String> reasons = new ArrayList<>();
+
+        assertThat(thresholds.evaluate(2 * MILLIS, 3, 10, 0, 40 * MILLIS, reasons)).isEqualTo(ReadinessStatus.UP);
+        assertThat(reasons).isEmpty();
+    }
+
+    @Test
+    void evaluate_WithUnknownPoolAndNoTraffic_ShouldBeUp() {
+        assertThat(thresholds.evaluate(2 * MILLIS, -1, -1, -1, -1, new ArrayList<>())).isEqualTo(ReadinessStatus.UP);
+    }
+
+    @Test
+    void evaluate_WithSlowProbeOrBusyPool_ShouldBeDegraded() {
+        List<String> reasons = new ArrayList<>();
+
+        assertThat(thresholds.evaluate(200 * MILLIS, 3, 10, 0, -1, reasons)).isEqualTo(ReadinessStatus.DEGRADED);
+        assertThat(thresholds.evaluate(2 * MILLIS, 9, 10, 0, -1, reasons)).isEqualTo(ReadinessStatus.DEGRADED);
+        assertThat(thresholds.evaluate(2 * MILLIS, 3, 10, 2, -1, reasons)).isEqualTo(ReadinessStatus.DEGRADED);
+        assertThat(thresholds.evaluate(2 * MILLIS, 3, 10, 0, 800 * MILLIS, reasons)).isEqualTo(ReadinessStatus.DEGRADED);
+        assertThat(reasons).hasSize(4);
+    }
+
+    @Test
+    void evaluate_WithFailedProbeOrExhaustedPool_ShouldBeDown() {
+        List<String> reasons = new ArrayList<>();
+
+        assertThat(thresholds.evaluate(-1, 3, 10, 0, -1, reasons)).isEqualTo(ReadinessStatus.DOWN);
+        assertThat(thresholds.evaluate(2_000 * MILLIS, 3, 10, 0, -1, reasons)).isEqualTo(ReadinessStatus.DOWN);
+        assertThat(thresholds.evaluate(-2, 10, 10, 25, -1, reasons)).isEqualTo(ReadinessStatus.DOWN);
+        assertThat(reasons).contains("database probe failed", "25 threads waiting for a connection");
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.crud_api.load;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Every measured latency of a run, per operation, for exact percentiles.
+ * <p>
+ * A run issues at most a few hundred thousand requests, so keeping the raw values is cheaper
+ * than getting histogram bucketing right. Completions arrive on the HTTP client's threads,
+ * hence the synchronization.
+ */
+class LatencyRecorder {
+
+    private final Map<LoadOperation, Samples> samples = new EnumMap<>(LoadOperation.class);
+
+    synchronized void record(LoadOperation operation, long latencyNanos, boolean success) {
+        Samples operationSamples = samples.computeIfAbsent(operation, ignored -> new Samples());
+        if (success) {
+            operationSamples.add(latencyNanos);
+        } else {
+            operationSamples.errors++;
+        }
+    }
+
+    synchronized Map<LoadOperation, long[]> latencies() {
+        Map<LoadOperation, long[]> latencies = new EnumMap<>(LoadOperation.class);
+        samples.forEach((operation, operationSamples) -> latencies.put(operation, operationSamples.sorted()));
+        return latencies;
+    }
+
+    synchronized Map<LoadOperation, Integer> errors() {
+        Map<LoadOperation, Integer> errors = new EnumMap<>(LoadOperation.class);
+        samples.forEach((operation, operationSamples) -> errors.put(operation, operationSamples.errors));
+        return errors;
+    }
+
+    private static final class Samples {
+
+        private long[] values = new long[1024];
+        private int size;
+        private int errors;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.crud_api.load;
+
+/**
+ * Requests the load generator can issue against the student API.
+ */
+enum LoadOperation {
+    /** {@code GET /students/{id}} of a seeded student */
+    READ,
+    /** {@code GET /students/active} */
+    LIST_ACTIVE,
+    /** {@code GET /students}, the whole roster */
+    LIST_ALL,
+    /** {@code POST /students} of a new student */
+    CREATE,
+    /** {@code PUT /students/{id}} renaming a seeded student */
+    UPDATE,
+    /** {@code DELETE /students/{id}} of a student created by this run; a {@link #READ} if there is none yet */
+    DELETE,
+    /** {@code PUT /students/{id}/suspend} or {@code /activate}, alternating per student */
+    STATUS_CHANGE
+}
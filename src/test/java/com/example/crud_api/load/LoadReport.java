@@ -0,0 +1,133 @@
+package com.example.crud_api.load;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Throughput and latency of one scenario run. Latencies are in milliseconds, measured from the
+ * time each request was scheduled to be sent.
+ *
+ * @param achievedRate requests completed per second, successful or not
+ * @param maxScheduleLagMillis how late the generator itself was in sending a request; when this
+ *                             is large, the load test machine rather than the application was the limit
+ */
+record LoadReport(String scenario, double targetRate, double achievedRate, long requests, long errors,
+                  Percentiles latency, Map<LoadOperation, OperationReport> operations, double maxScheduleLagMillis) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    record Percentiles(double p50, double p90, double p99, double p999, double max) {
+
+        static Percentiles of(long[] sortedNanos) {
+            return new Percentiles(at(sortedNanos, 0.5), at(sortedNanos, 0.9), at(sortedNanos, 0.99),
+                    at(sortedNanos, 0.999), at(sortedNanos, 1.0));
+        }
+
+        private static double at(long[] sortedNanos, double quantile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = Math.max(0, (int) Math.ceil(quantile * sortedNanos.length) - 1);
+            return sortedNanos[index] / 1e6;
+        }
+    }
+
+    record OperationReport(long requests, long errors, Percentiles latency) {
+    }
+
+    static LoadReport of(LoadScenario scenario, double measuredSeconds, LatencyRecorder recorder, long maxScheduleLagNanos) {
+        Map<LoadOperation, long[]> latencies = recorder.latencies();
+        Map<LoadOperation, Integer> errors = recorder.errors();
+        Map<LoadOperation, OperationReport> operations = new TreeMap<>();
+        long[] all = new long[0];
+        long totalErrors = 0;
+        for (Map.Entry<LoadOperation, long[]> entry : latencies.entrySet()) {
+            long[] operationLatencies = entry.getValue();
+            int operationErrors = errors.getOrDefault(entry.getKey(), 0);
+            operations.put(entry.getKey(), new OperationReport(operationLatencies.length + operationErrors,
+                    operationErrors, Percentiles.of(operationLatencies)));
+            all = concat(all, operationLatencies);
+            totalErrors += operationErrors;
+        }
+        Arrays.sort(all);
+        long requests = all.length + totalErrors;
+        return new LoadReport(scenario.name(), scenario.ratePerSecond(), requests / measuredSeconds, requests,
+                totalErrors, Percentiles.of(all), operations, maxScheduleLagNanos / 1e6);
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    /**
+     * Ways in which this run is worse than {@code baseline}: p99 latency or throughput off by more
+     * than {@code threshold} (a fraction), or an error rate more than a percentage point higher.
+     */
+    List<String> regressionsAgainst(LoadReport baseline, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        if (latency.p99() > baseline.latency().p99() * (1 + threshold)) {
+            regressions.add(String.format(Locale.ROOT, "%s: p99 latency %.1f ms, baseline %.1f ms",
+                    scenario, latency.p99(), baseline.latency().p99()));
+        }
+        if (achievedRate < baseline.achievedRate() * (1 - threshold)) {
+            regressions.add(String.format(Locale.ROOT, "%s: throughput %.1f/s, baseline %.1f/s",
+                    scenario, achievedRate, baseline.achievedRate()));
+        }
+        if (errorRate() > baseline.errorRate() + 0.01) {
+            regressions.add(String.format(Locale.ROOT, "%s: error rate %.2f%%, baseline %.2f%%",
+                    scenario, errorRate() * 100, baseline.errorRate() * 100));
+        }
+        return regressions;
+    }
+
+    String summary() {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT,
+                "%s: %.1f/s of %.1f/s target, %d requests, %d errors, schedule lag max %.1f ms%n",
+                scenario, achievedRate, targetRate, requests, errors, maxScheduleLagMillis));
+        summary.append(String.format(Locale.ROOT, "  %-14s %8s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        operations.forEach((operation, report) -> summary.append(line(operation.name(), report.requests(),
+                report.errors(), report.latency())));
+        summary.append(line("all", requests, errors, latency));
+        return summary.toString();
+    }
+
+    private static String line(String name, long requests, long errors, Percentiles latency) {
+        return String.format(Locale.ROOT, "  %-14s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", name, requests, errors,
+                latency.p50(), latency.p90(), latency.p99(), latency.p999(), latency.max());
+    }
+
+    /** Reports by scenario name; empty if the file doesn't exist. */
+    static Map<String, LoadReport> readAll(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new LinkedHashMap<>();
+        }
+        return MAPPER.readValue(file.toFile(), new TypeReference<LinkedHashMap<String, LoadReport>>() {
+        });
+    }
+
+    static void writeAll(Path file, Map<String, LoadReport> reports) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writeValue(file.toFile(), reports);
+    }
+}
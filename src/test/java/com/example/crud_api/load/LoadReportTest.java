@@ -0,0 +1,76 @@
+package com.example.crud_api.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadReportTest {
+
+    @Test
+    void of_ShouldComputeExactPercentilesAndErrorRate() {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int millis = 1; millis <= 1000; millis++) {
+            recorder.record(LoadOperation.READ, millis * 1_000_000L, true);
+        }
+        for (int i = 0; i < 10; i++) {
+            recorder.record(LoadOperation.CREATE, 0, false);
+        }
+
+        // When
+        LoadReport report = LoadReport.of(scenario(), 10, recorder, 2_000_000L);
+
+        // Then
+        assertThat(report.requests()).isEqualTo(1010);
+        assertThat(report.achievedRate()).isEqualTo(101.0);
+        assertThat(report.errorRate()).isEqualTo(10 / 1010.0);
+        assertThat(report.latency().p50()).isEqualTo(500.0);
+        assertThat(report.latency().p99()).isEqualTo(990.0);
+        assertThat(report.latency().max()).isEqualTo(1000.0);
+        assertThat(report.operations().get(LoadOperation.CREATE).errors()).isEqualTo(10);
+        assertThat(report.maxScheduleLagMillis()).isEqualTo(2.0);
+    }
+
+    @Test
+    void regressionsAgainst_ShouldOnlyReportChangesBeyondThreshold() {
+        // Given
+        LoadReport baseline = report(100, 0, 50.0);
+
+        // Then
+        assertThat(report(100, 0, 55.0).regressionsAgainst(baseline, 0.2)).isEmpty();
+        assertThat(report(100, 0, 61.0).regressionsAgainst(baseline, 0.2))
+                .singleElement().asString().contains("p99 latency");
+        assertThat(report(70, 0, 50.0).regressionsAgainst(baseline, 0.2))
+                .singleElement().asString().contains("throughput");
+        assertThat(report(100, 5, 50.0).regressionsAgainst(baseline, 0.2))
+                .singleElement().asString().contains("error rate");
+    }
+
+    @Test
+    void pick_ShouldFollowTheMixWeights() {
+        // Given
+        LoadScenario scenario = scenario();
+        Random random = new Random(1);
+
+        // When
+        int reads = 0;
+        for (int i = 0; i < 10_000; i++) {
+            reads += scenario.pick(random) == LoadOperation.READ ? 1 : 0;
+        }
+
+        // Then
+        assertThat(reads).isBetween(8_800, 9_200);
+    }
+
+    private static LoadScenario scenario() {
+        return new LoadScenario("test", 100, Map.of(LoadOperation.READ, 9, LoadOperation.CREATE, 1));
+    }
+
+    private static LoadReport report(double achievedRate, long errors, double p99) {
+        LoadReport.Percentiles latency = new LoadReport.Percentiles(10, 20, p99, p99, p99);
+        return new LoadReport("test", 100, achievedRate, 100, errors, latency, Map.of(), 0);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.crud_api.load;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A request mix issued at a fixed arrival rate.
+ *
+ * @param mix relative weight of each operation
+ */
+record LoadScenario(String name, double ratePerSecond, Map<LoadOperation, Integer> mix) {
+
+    static List<LoadScenario> defaults() {
+        return List.of(
+                new LoadScenario("read-heavy", 200, weights(
+                        LoadOperation.READ, 90, LoadOperation.LIST_ACTIVE, 5, LoadOperation.UPDATE, 5)),
+                new LoadScenario("write-heavy", 100, weights(
+                        LoadOperation.CREATE, 35, LoadOperation.UPDATE, 30, LoadOperation.DELETE, 25, LoadOperation.READ, 10)),
+                new LoadScenario("status-churn", 100, weights(
+                        LoadOperation.STATUS_CHANGE, 80, LoadOperation.READ, 20)),
+                new LoadScenario("bulk", 5, weights(
+                        LoadOperation.LIST_ALL, 80, LoadOperation.LIST_ACTIVE, 20)));
+    }
+
+    /** The same scenario at {@code multiplier} times the rate. */
+    LoadScenario scaled(double multiplier) {
+        return new LoadScenario(name, ratePerSecond * multiplier, mix);
+    }
+
+    /** Chooses an operation with probability proportional to its weight. */
+    LoadOperation pick(Random random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int target = random.nextInt(total);
+        for (Map.Entry<LoadOperation, Integer> entry : mix.entrySet()) {
+            target -= entry.getValue();
+            if (target < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty mix in scenario " + name);
+    }
+
+    private static Map<LoadOperation, Integer> weights(Object... operationsAndWeights) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (int i = 0; i < operationsAndWeights.length; i += 2) {
+            weights.put((LoadOperation) operationsAndWeights[i], (Integer) operationsAndWeights[i + 1]);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.crud_api.load;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a {@link LoadScenario} with an open workload model: request {@code i} is scheduled
+ * at {@code start + i / rate}, whether or not earlier requests have completed.
+ * <p>
+ * Latency is measured from the scheduled time, not from when the request was actually sent,
+ * so a stall in the application shows up in the latency of every request that should have
+ * been sent during it rather than being hidden by the generator waiting (coordinated
+ * omission). Requests over {@code maxOutstanding} in flight are not sent and count as errors,
+ * so an overloaded application fails the run instead of the generator running out of memory.
+ * <p>
+ * The operations are chosen from a seeded random sequence, so runs issue the same requests.
+ */
+class OpenLoopLoadGenerator {
+
+    private static final long SEED = 20240901L;
+
+    private final StudentApiClient client;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxOutstanding;
+
+    /**
+     * @param warmup time the scenario runs before measuring
+     * @param duration time measured
+     */
+    OpenLoopLoadGenerator(StudentApiClient client, Duration warmup, Duration duration, int maxOutstanding) {
+        this.client = client;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.maxOutstanding = maxOutstanding;
+    }
+
+    LoadReport run(LoadScenario scenario) throws InterruptedException {
+        Random random = new Random(SEED);
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicInteger outstanding = new AtomicInteger();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / scenario.ratePerSecond());
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + warmup.toNanos();
+        long endAt = measureFrom + duration.toNanos();
+        long maxLagNanos = 0;
+
+        for (long i = 0; ; i++) {
+            long scheduledAt = startedAt + i * intervalNanos;
+            if (scheduledAt >= endAt) {
+                break;
+            }
+            long wait;
+            while ((wait = scheduledAt - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = scheduledAt >= measureFrom;
+            if (measured) {
+                maxLagNanos = Math.max(maxLagNanos, -wait);
+            }
+
+            StudentApiClient.Call call = client.prepare(scenario.pick(random), random);
+            if (outstanding.get() >= maxOutstanding) {
+                if (measured) {
+                    recorder.record(call.operation(), 0, false);
+                }
+                continue;
+            }
+            outstanding.incrementAndGet();
+            client.send(call).whenComplete((response, failure) -> {
+                outstanding.decrementAndGet();
+                if (measured) {
+                    boolean success = failure == null && response.statusCode() / 100 == 2;
+                    recorder.record(call.operation(), System.nanoTime() - scheduledAt, success);
+                }
+            });
+        }
+
+        // Every request times out after 30 s (as an error), so this waits for all of them
+        long drainUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(35);
+        while (outstanding.get() > 0 && System.nanoTime() < drainUntil) {
+            Thread.sleep(10);
+        }
+        return LoadReport.of(scenario, duration.toNanos() / 1e9, recorder, maxLagNanos);
+    }
+}
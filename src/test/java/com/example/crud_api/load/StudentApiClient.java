@@ -0,0 +1,127 @@
+package com.example.crud_api.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Issues {@link LoadOperation}s against a running application without blocking the caller.
+ * <p>
+ * Seeded student {@code n} has ID {@code ids[n]}; its fields come from {@link #studentJson(int, String)}.
+ * Students created by the run are remembered so deletes remove them rather than the seeded dataset.
+ */
+class StudentApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUri;
+    private final long[] ids;
+    private final AtomicIntegerArray suspended;
+    private final AtomicInteger nextStudent;
+    private final Queue<Long> created = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param firstNewStudent number of the first student {@link LoadOperation#CREATE} creates
+     */
+    StudentApiClient(String baseUri, long[] ids, int firstNewStudent) {
+        this.baseUri = baseUri;
+        this.ids = ids;
+        this.suspended = new AtomicIntegerArray(ids.length);
+        this.nextStudent = new AtomicInteger(firstNewStudent);
+    }
+
+    /** A request about to be sent and the operation it actually performs. */
+    record Call(LoadOperation operation, HttpRequest request) {
+    }
+
+    /**
+     * Builds the request for {@code operation}; the random choices (which student) come from {@code random}.
+     */
+    Call prepare(LoadOperation operation, Random random) {
+        return switch (operation) {
+            case READ -> new Call(operation, get("/students/" + ids[random.nextInt(ids.length)]));
+            case LIST_ACTIVE -> new Call(operation, get("/students/active"));
+            case LIST_ALL -> new Call(operation, get("/students"));
+            case CREATE -> new Call(operation, request("/students")
+                    .POST(HttpRequest.BodyPublishers.ofString(studentJson(nextStudent.getAndIncrement(), null)))
+                    .build());
+            case UPDATE -> {
+                int n = random.nextInt(ids.length);
+                yield new Call(operation, request("/students/" + ids[n])
+                        .PUT(HttpRequest.BodyPublishers.ofString(studentJson(n, "Renamed Student " + random.nextInt())))
+                        .build());
+            }
+            case DELETE -> {
+                Long id = created.poll();
+                yield id == null
+                        ? prepare(LoadOperation.READ, random)
+                        : new Call(operation, request("/students/" + id).DELETE().build());
+            }
+            case STATUS_CHANGE -> {
+                int n = random.nextInt(ids.length);
+                String action = suspended.getAndUpdate(n, flag -> flag ^ 1) == 0 ? "suspend" : "activate";
+                yield new Call(operation, request("/students/" + ids[n] + "/" + action)
+                        .PUT(HttpRequest.BodyPublishers.noBody())
+                        .build());
+            }
+        };
+    }
+
+    CompletableFuture<HttpResponse<String>> send(Call call) {
+        CompletableFuture<HttpResponse<String>> response =
+                httpClient.sendAsync(call.request(), HttpResponse.BodyHandlers.ofString());
+        if (call.operation() == LoadOperation.CREATE) {
+            return response.thenApply(this::rememberCreated);
+        }
+        return response;
+    }
+
+    private HttpResponse<String> rememberCreated(HttpResponse<String> response) {
+        if (response.statusCode() == 201) {
+            try {
+                created.add(MAPPER.readTree(response.body()).path("id").asLong());
+            } catch (IOException e) {
+                // Left for the status code check; the student just won't be deleted
+            }
+        }
+        return response;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    /**
+     * A valid student document, unique per {@code n} below ten million.
+     *
+     * @param name the name to use instead of the generated one, or {@code null}
+     */
+    static String studentJson(int n, String name) {
+        return String.format(Locale.ROOT,
+                "{\"name\":\"%s\",\"passportNumber\":\"L%07d\",\"age\":%d,\"email\":\"load%d@example.com\","
+                        + "\"enrollmentDate\":\"2024-09-01T09:00:00\",\"graduationYear\":%d}",
+                name != null ? name : "Load Student " + n, n, 18 + n % 40, n, 2024 + n % 7);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.crud_api.load;
+
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of the student API over HTTP, run with {@code mvn test -Pload}.
+ * <p>
+ * Each scenario is driven at its arrival rate by an {@link OpenLoopLoadGenerator} and fails when
+ * it regresses against the stored baseline. Settings are system properties:
+ * <ul>
+ *     <li>{@code load.scenarios} - comma-separated scenario names (default: all)</li>
+ *     <li>{@code load.rate-multiplier} - scales every scenario's arrival rate (default 1)</li>
+ *     <li>{@code load.warmup}, {@code load.duration} - per scenario (default {@code PT10S}, {@code PT30S})</li>
+ *     <li>{@code load.dataset-size} - students seeded before the run (default 5000)</li>
+ *     <li>{@code load.threshold} - tolerated regression of p99 latency and throughput (default 0.2)</li>
+ *     <li>{@code load.max-error-rate} - fails a scenario outright (default 0.01)</li>
+ *     <li>{@code load.baseline} - baseline file (default {@code src/test/resources/load/baseline.json})</li>
+ *     <li>{@code load.update-baseline} - write this run's results as the new baseline</li>
+ * </ul>
+ * Reports of the run are written to {@code target/load-reports}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.stat=warn",
+        "logging.level.org.hibernate.type=warn"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StudentLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentLoadTest.class);
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-reports");
+
+    private final int datasetSize = Integer.getInteger("load.dataset-size", 5000);
+    private final double threshold = Double.parseDouble(System.getProperty("load.threshold", "0.2"));
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    private final Path baselineFile = Path.of(System.getProperty("load.baseline", "src/test/resources/load/baseline.json"));
+    private final boolean updateBaseline = Boolean.getBoolean("load.update-baseline");
+
+    private final Map<String, LoadReport> reports = new LinkedHashMap<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private OpenLoopLoadGenerator generator;
+    private Map<String, LoadReport> baseline;
+
+    @BeforeAll
+    void seedAndConnect() throws IOException {
+        List<Student> students = new ArrayList<>(datasetSize);
+        for (int n = 0; n < datasetSize; n++) {
+            students.add(new Student("Load Student " + n, String.format("L%07d", n), 18 + n % 40,
+                    "load" + n + "@example.com", LocalDateTime.of(2024, 9, 1, 9, 0), 2024 + n % 7));
+        }
+        long[] ids = studentRepository.saveAll(students).stream().mapToLong(Student::getId).toArray();
+
+        StudentApiClient client = new StudentApiClient("http://localhost:" + port + "/api/v1", ids, datasetSize);
+        generator = new OpenLoopLoadGenerator(client,
+                Duration.parse(System.getProperty("load.warmup", "PT10S")),
+                Duration.parse(System.getProperty("load.duration", "PT30S")),
+                Integer.getInteger("load.max-outstanding", 1000));
+        baseline = LoadReport.readAll(baselineFile);
+    }
+
+    static Stream<LoadScenario> scenarios() {
+        String selected = System.getProperty("load.scenarios", "");
+        Set<String> names = Arrays.stream(selected.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        double multiplier = Double.parseDouble(System.getProperty("load.rate-multiplier", "1"));
+        return LoadScenario.defaults().stream()
+                .filter(scenario -> names.isEmpty() || names.contains(scenario.name()))
+                .map(scenario -> scenario.scaled(multiplier));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("scenarios")
+    void scenario_ShouldNotRegress(LoadScenario scenario) throws Exception {
+        // When
+        LoadReport report = generator.run(scenario);
+        reports.put(scenario.name(), report);
+        log.info("{}{}", System.lineSeparator(), report.summary().stripTrailing());
+
+        // Then
+        assertThat(report.errorRate())
+                .as("error rate of %s", scenario.name())
+                .isLessThanOrEqualTo(maxErrorRate);
+        LoadReport previous = baseline.get(scenario.name());
+        if (previous != null && !updateBaseline) {
+            assertThat(report.regressionsAgainst(previous, threshold)).isEmpty();
+        }
+    }
+
+    @AfterAll
+    void writeReports() throws IOException {
+        Files.createDirectories(REPORT_DIRECTORY);
+        LoadReport.writeAll(REPORT_DIRECTORY.resolve("load-report.json"), reports);
+        Files.writeString(REPORT_DIRECTORY.resolve("load-report.txt"), reports.values().stream()
+                .map(LoadReport::summary)
+                .collect(Collectors.joining(System.lineSeparator())));
+        if (updateBaseline) {
+            Map<String, LoadReport> updated = new LinkedHashMap<>(baseline);
+            updated.putAll(reports);
+            LoadReport.writeAll(baselineFile, updated);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.crud_api.load;
+
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.dataset.StudentDatasetGenerator;
+import com.example.crud_api.student.search.StudentNameIndex;
+import com.example.crud_api.student.search.StudentNameMatch;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of name search over a generated roster, run with {@code mvn test -Pload}.
+ * <p>
+ * The generated names repeat a few hundred first and last names, so common trigrams have
+ * posting lists of tens of thousands of slots. Settings are system properties:
+ * <ul>
+ *     <li>{@code search.dataset-size} - students indexed (default 1000000)</li>
+ *     <li>{@code search.max-p99} - fails when the p99 latency in milliseconds exceeds it (default 10)</li>
+ * </ul>
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StudentNameIndexLatencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentNameIndexLatencyTest.class);
+
+    private static final String[] QUERIES = {
+            "james smith", "Patricia Johnson", "jennifer", "wiliams", "Hiroshi Tanaka", "kowalsky",
+            "camille dubois", "arjun patel", "Priya Sharma", "okafor", "mensah kwame", "Elizabth Martinez"
+    };
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 200;
+
+    private final StudentNameIndex index = new StudentNameIndex();
+
+    @BeforeAll
+    void index() {
+        long size = Long.getLong("search.dataset-size", 1_000_000L);
+        long[] nextId = {1};
+        new StudentDatasetGenerator(42, Set.of()).generate(size, generated -> {
+            Student student = new Student(generated.name(), generated.passportNumber(), generated.age(),
+                    generated.email(), generated.enrollmentDate(), generated.graduationYear());
+            student.setId(nextId[0]++);
+            student.setStatus(generated.status());
+            index.upsert(student);
+        });
+    }
+
+    @Test
+    void search_ShouldStayUnderLatencyBound() {
+        // Given
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (String query : QUERIES) {
+                index.search(query, 10, 0.3);
+            }
+        }
+
+        // When
+        long[] latencies = new long[MEASURED_ROUNDS * QUERIES.length];
+        int measured = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            for (String query : QUERIES) {
+                long start = System.nanoTime();
+                List<StudentNameMatch> matches = index.search(query, 10, 0.3);
+                latencies[measured++] = System.nanoTime() - start;
+                assertThat(matches).isNotEmpty();
+            }
+        }
+
+        // Then
+        Arrays.sort(latencies);
+        double p50 = latencies[latencies.length / 2] / 1e6;
+        double p99 = latencies[(int) (latencies.length * 0.99)] / 1e6;
+        log.info("Name search over {} students: p50 {} ms, p99 {} ms",
+                index.size(), String.format("%.2f", p50), String.format("%.2f", p99));
+        assertThat(p99).isLessThan(Double.parseDouble(System.getProperty("search.max-p99", "10")));
+    }
+}
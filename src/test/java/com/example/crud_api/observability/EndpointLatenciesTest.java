@@ -0,0 +1,93 @@
+package com.example.crud_api.observability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class EndpointLatenciesTest {
+
+    private static final long MILLIS = 1_000_000L;
+    private static final SloPolicy SLO = new SloPolicy(Duration.ofMillis(100), 0.99, 0.999);
+
+    @Test
+    void report_ShouldSummarizeEndpointsAndBurnRates() {
+        // Given - 1000 requests, 20 of them slower than the threshold and 1 failing
+        EndpointLatencies latencies = new EndpointLatencies(Duration.ofMinutes(1), 5, 10, SLO);
+        for (int i = 0; i < 1000; i++) {
+            long nanos = i < 20 ? 250 * MILLIS : 10 * MILLIS;
+            latencies.record("GET /api/v1/students/{id}", nanos, i == 999);
+        }
+        latencies.record("GET /api/v1/students", 5 * MILLIS, false);
+
+        // When
+        LatencyReport report = latencies.report();
+
+        // Then
+        assertThat(report.period()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(report.endpoints()).containsOnlyKeys("GET /api/v1/students", "GET /api/v1/students/{id}");
+        LatencyReport.Summary byId = report.endpoints().get("GET /api/v1/students/{id}");
+        assertThat(byId.requests()).isEqualTo(1000);
+        assertThat(byId.errorRate()).isEqualTo(0.001);
+        assertThat(byId.p50Ms()).isCloseTo(10, within(0.4));
+        assertThat(byId.p99Ms()).isCloseTo(250, within(8.0));
+        assertThat(byId.maxMs()).isEqualTo(250.0);
+        // 2% slow against a 1% budget, 0.1% failed against a 0.1% budget
+        assertThat(byId.burnRate().latency()).isCloseTo(2.0, within(1e-9));
+        assertThat(byId.burnRate().availability()).isCloseTo(1.0, within(1e-9));
+        assertThat(report.overall().requests()).isEqualTo(1001);
+    }
+
+    @Test
+    void report_WithoutTraffic_ShouldLeaveRatesEmpty() {
+        LatencyReport report = new EndpointLatencies(Duration.ofSeconds(10), 6, 10, SLO).report();
+
+        assertThat(report.overall().requests()).isZero();
+        assertThat(report.overall().errorRate()).isNull();
+        assertThat(report.overall().burnRate().latency()).isNull();
+        assertThat(report.endpoints()).isEmpty();
+    }
+
+    @Test
+    void record_BeyondMaxEndpoints_ShouldPoolTheRest() {
+        // Given
+        EndpointLatencies latencies = new EndpointLatencies(Duration.ofSeconds(10), 6, 1, SLO);
+
+        // When
+        latencies.record("GET /a", MILLIS, false);
+        latencies.record("GET /b", MILLIS, false);
+        latencies.record("GET /c", MILLIS, false);
+
+        // Then
+        assertThat(latencies.report().endpoints()).containsOnlyKeys("GET /a", EndpointLatencies.OTHER_ENDPOINTS);
+    }
+
+    @Test
+    void rollingRecorder_ShouldForgetExpiredWindows() {
+        // Given - three windows of one second
+        RollingLatencyRecorder recorder = new RollingLatencyRecorder(1_000 * MILLIS, 3);
+        recorder.record(5 * MILLIS, true, 0);
+        recorder.record(5 * MILLIS, false, 1_500 * MILLIS);
+
+        // Then
+        assertThat(recorder.snapshot(2_500 * MILLIS, false).requests()).isEqualTo(2);
+        assertThat(recorder.snapshot(2_500 * MILLIS, true).requests()).isZero();
+        assertThat(recorder.snapshot(3_200 * MILLIS, false).requests()).isEqualTo(1);
+        assertThat(recorder.snapshot(3_200 * MILLIS, false).errors()).isZero();
+
+        // When - a later request reuses the first window's slot
+        recorder.record(5 * MILLIS, false, 3_100 * MILLIS);
+
+        // Then
+        assertThat(recorder.snapshot(3_200 * MILLIS, false).requests()).isEqualTo(2);
+    }
+
+    @Test
+    void sloPolicy_WithInvalidObjective_ShouldBeRejected() {
+        assertThatThrownBy(() -> new SloPolicy(Duration.ofMillis(100), 1.0, 0.999))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
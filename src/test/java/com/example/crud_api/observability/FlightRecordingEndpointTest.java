@@ -0,0 +1,125 @@
+package com.example.crud_api.observability;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecordingEndpointTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new FlightRecordingEndpoint(dumpDirectory, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if ("RUNNING".equals(endpoint.status().get("state"))) {
+            endpoint.control("stop", null);
+        }
+    }
+
+    @Test
+    void studentProfile_ShouldRecordStudentEvents() throws Exception {
+        // Given
+        endpoint.control("start", FlightRecordingEndpoint.STUDENT_PROFILE);
+
+        // When
+        StudentOperationEvent operation = StudentOperationEvent.start("suspend", 10001L);
+        operation.finish(Thread.State.RUNNABLE, Thread.State.BLOCKED, 1);
+        StudentCacheEvent.lookup("missing-ids", 99999L, true);
+        StudentBatchEvent.start("archive", 0).finish(42);
+        Map<String, Object> status = endpoint.control("stop", null);
+
+        // Then
+        assertThat(status).containsEntry("state", "STOPPED").containsKey("lastDump");
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Path.of((String) status.get("lastDump")));
+        RecordedEvent recorded = find(events, StudentOperationEvent.NAME);
+        assertThat(recorded.getString("operation")).isEqualTo("suspend");
+        assertThat(recorded.getLong("studentId")).isEqualTo(10001L);
+        assertThat(recorded.getString("previousStatus")).isEqualTo("RUNNABLE");
+        assertThat(recorded.getString("status")).isEqualTo("BLOCKED");
+        assertThat(recorded.getInt("rowsAffected")).isEqualTo(1);
+        assertThat(find(events, StudentCacheEvent.NAME).getBoolean("hit")).isTrue();
+        assertThat(find(events, StudentBatchEvent.NAME).getInt("rowsAffected")).isEqualTo(42);
+    }
+
+    @Test
+    void studentProfile_ShouldRecordCreatedIdAndFailedOperations() throws Exception {
+        // Given
+        endpoint.control("start", FlightRecordingEndpoint.STUDENT_PROFILE);
+
+        // When
+        StudentOperationEvent.start("create", null).finish(10004L, null, Thread.State.RUNNABLE, 1);
+        StudentOperationEvent.start("suspend", 99999L).fail(new IllegalStateException("Cannot suspend"));
+        Map<String, Object> status = endpoint.control("stop", null);
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Path.of((String) status.get("lastDump")));
+        RecordedEvent created = find(events, StudentOperationEvent.NAME, "create");
+        assertThat(created.getLong("studentId")).isEqualTo(10004L);
+        assertThat(created.getString("failure")).isNull();
+        RecordedEvent failed = find(events, StudentOperationEvent.NAME, "suspend");
+        assertThat(failed.getLong("studentId")).isEqualTo(99999L);
+        assertThat(failed.getString("failure")).isEqualTo("IllegalStateException");
+        assertThat(failed.getInt("rowsAffected")).isZero();
+    }
+
+    @Test
+    void dump_ShouldKeepRecording() {
+        // Given
+        endpoint.control("start", "default");
+
+        // When
+        Map<String, Object> status = endpoint.control("dump", null);
+
+        // Then
+        assertThat(status).containsEntry("state", "RUNNING").containsEntry("profile", "default");
+        assertThat(Path.of((String) status.get("lastDump"))).exists();
+    }
+
+    @Test
+    void control_WithInvalidRequests_ShouldBeRejected() {
+        assertThatThrownBy(() -> endpoint.control("stop", null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.control("start", "no-such-profile"))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.control("restart", null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+
+        endpoint.control("start", null);
+        assertThatThrownBy(() -> endpoint.control("start", null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event recorded"));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name, String operation) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .filter(event -> operation.equals(event.getString("operation")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event recorded for " + operation));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.crud_api.observability;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void buckets_ShouldCoverValuesContiguously() {
+        assertThat(LatencyHistogram.index(0)).isZero();
+        assertThat(LatencyHistogram.index(LatencyHistogram.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+        for (int i = 1; i < LatencyHistogram.BUCKETS; i++) {
+            long lowest = LatencyHistogram.lowestValue(i);
+            assertThat(lowest).isEqualTo(LatencyHistogram.highestValue(i - 1) + 1);
+            assertThat(LatencyHistogram.index(lowest)).isEqualTo(i);
+            assertThat(LatencyHistogram.index(lowest - 1)).isEqualTo(i - 1);
+        }
+    }
+
+    @Test
+    void valueAtQuantile_ShouldMatchExactPercentilesWithinPrecision() {
+        // Given - log-normal latencies around 2 ms
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(7.6 + random.nextGaussian());
+            histogram.record(values[i]);
+        }
+        long[] counts = new long[LatencyHistogram.BUCKETS];
+        long max = histogram.addTo(counts);
+        LatencySnapshot snapshot = new LatencySnapshot(counts, values.length, 0, max);
+        Arrays.sort(values);
+
+        // Then
+        for (double quantile : new double[]{0.5, 0.95, 0.99, 0.999}) {
+            long exact = values[(int) Math.ceil(quantile * values.length) - 1];
+            assertThat((double) snapshot.valueAtQuantile(quantile)).isCloseTo(exact, within(exact * 0.035));
+        }
+        assertThat(snapshot.valueAtQuantile(1.0)).isEqualTo(values[values.length - 1]);
+    }
+
+    @Test
+    void reset_ShouldClearCounts() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_500);
+
+        // When
+        histogram.reset();
+
+        // Then
+        long[] counts = new long[LatencyHistogram.BUCKETS];
+        assertThat(histogram.addTo(counts)).isZero();
+        assertThat(Arrays.stream(counts).sum()).isZero();
+    }
+}
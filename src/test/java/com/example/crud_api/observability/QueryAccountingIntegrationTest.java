@@ -0,0 +1,76 @@
+package com.example.crud_api.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class QueryAccountingIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private FilterRegistrationBean<QueryAccountingFilter> queryAccountingFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilter(queryAccountingFilter.getFilter(), "/api/*")
+                .build();
+    }
+
+    @Test
+    void getStudent_ShouldReportDatabaseWork() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/students/10001"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        int statements = Integer.parseInt(result.getResponse().getHeader(QueryAccountingFilter.QUERY_COUNT_HEADER));
+        assertThat(statements).isPositive();
+        assertThat(result.getResponse().getHeader(QueryAccountingFilter.QUERY_STATS_HEADER))
+                .startsWith("statements=" + statements + ";")
+                .contains("entities=1;");
+
+        DistributionSummary summary = meterRegistry.get("http.server.requests.statements")
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/students/{id}")
+                .summary();
+        assertThat(summary.count()).isPositive();
+    }
+
+    @Test
+    void getMissingStudent_ShouldStillReportDatabaseWork() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/students/{id}", 987654L))
+                .andExpect(status().isNotFound())
+                .andReturn();
+
+        // Then
+        assertThat(result.getResponse().getHeader(QueryAccountingFilter.QUERY_COUNT_HEADER)).isNotNull();
+        assertThat(result.getResponse().getHeader(QueryAccountingFilter.QUERY_STATS_HEADER)).contains("entities=0;");
+    }
+}
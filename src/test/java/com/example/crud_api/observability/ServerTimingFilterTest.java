@@ -0,0 +1,74 @@
+package com.example.crud_api.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServerTimingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ServerTimingFilter(meterRegistry, true);
+    }
+
+    @Test
+    void doFilter_ShouldReportPhasesInHeaderAndHistograms() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/students/10001");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When - the chain stands in for the interceptor, validator and data source hooks
+        filter.doFilter(request, response, (req, res) -> {
+            ServerTiming timing = ServerTiming.current();
+            timing.handlerStarted();
+            timing.validated(1_500_000);
+            timing.statementExecuted(2_000_000);
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/students/{id}");
+        });
+
+        // Then
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER))
+                .matches("dispatch;dur=\\d+\\.\\d{3}, validate;dur=1\\.500, db;dur=2\\.000, app;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}");
+        assertThat(meterRegistry.get("http.server.requests.phases")
+                .tag("uri", "/api/v1/students/{id}")
+                .tag("phase", "db")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("http.server.requests.phases").tag("phase", "queue").timer()).isNull();
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @Test
+    void doFilter_WithRequestStartHeader_ShouldReportQueueing() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/students");
+        request.addHeader(ServerTimingFilter.REQUEST_START_HEADER, "t=" + (System.currentTimeMillis() - 50));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // Then
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).startsWith("queue;dur=");
+    }
+
+    @Test
+    void queueNanos_ShouldAcceptSecondsMillisAndMicros() {
+        long now = 1_700_000_000_000L;
+
+        assertThat(ServerTimingFilter.queueNanos("t=1699999999.990", now)).isBetween(9_000_000L, 11_000_000L);
+        assertThat(ServerTimingFilter.queueNanos("t=1699999999990", now)).isEqualTo(10_000_000L);
+        assertThat(ServerTimingFilter.queueNanos("1699999999990000", now)).isEqualTo(10_000_000L);
+        assertThat(ServerTimingFilter.queueNanos("t=1700000000010", now)).isEqualTo(-1);
+        assertThat(ServerTimingFilter.queueNanos("garbage", now)).isEqualTo(-1);
+        assertThat(ServerTimingFilter.queueNanos(null, now)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.crud_api.observability;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlNormalizerTest {
+
+    @Test
+    void normalize_ShouldRedactLiterals() {
+        // When
+        String normalized = SqlNormalizer.normalize(
+                "select * from student where passport_number = 'E1234567' and age > 21 and name = 'O''Brien'");
+
+        // Then
+        assertThat(normalized)
+                .isEqualTo("select * from student where passport_number = ? and age > ? and name = ?")
+                .doesNotContain("E1234567", "21", "Brien");
+    }
+
+    @Test
+    void normalize_ShouldKeepIdentifiersAndPlaceholders() {
+        // When
+        String normalized = SqlNormalizer.normalize(
+                "select s1_0.id,s1_0.name from student s1_0 where s1_0.id=?1 and s1_0.status=:status");
+
+        // Then
+        assertThat(normalized)
+                .isEqualTo("select s1_0.id,s1_0.name from student s1_0 where s1_0.id=?1 and s1_0.status=:status");
+    }
+
+    @Test
+    void normalize_ShouldCollapseWhitespaceAndInLists() {
+        // When
+        String normalized = SqlNormalizer.normalize("""
+                select *
+                    from student
+                    where id in (?, ?, ?)
+                """);
+
+        // Then
+        assertThat(normalized).isEqualTo("select * from student where id in (?...)");
+        assertThat(SqlNormalizer.normalize("select * from student where id in (1,2,3)"))
+                .isEqualTo("select * from student where id in (?...)");
+    }
+
+    @Test
+    void normalize_ShouldBoundLength() {
+        // Given
+        String sql = "select " + "a, ".repeat(1000) + "b from student";
+
+        // When
+        String normalized = SqlNormalizer.normalize(sql);
+
+        // Then
+        assertThat(normalized).hasSize(SqlNormalizer.MAX_LENGTH + 3).endsWith("...");
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.crud_api.observability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementTimingsTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void slowest_ShouldRankNormalizedStatementsBySlowestExecution() {
+        // Given
+        StatementTimings timings = new StatementTimings(Duration.ZERO, 10);
+        timings.record("select * from student where id = 1", 2 * MILLIS);
+        timings.record("select * from student where id = 2", 8 * MILLIS);
+        timings.record("select count(*) from student", 5 * MILLIS);
+
+        // When
+        List<StatementTiming> slowest = timings.slowest(10);
+
+        // Then
+        assertThat(slowest).extracting(StatementTiming::statement)
+                .containsExactly("select * from student where id = ?", "select count(*) from student");
+        StatementTiming byId = slowest.get(0);
+        assertThat(byId.executions()).isEqualTo(2);
+        assertThat(byId.maxMillis()).isEqualTo(8.0);
+        assertThat(byId.meanMillis()).isEqualTo(5.0);
+        assertThat(byId.totalMillis()).isEqualTo(10.0);
+        assertThat(timings.slowest(1)).hasSize(1);
+    }
+
+    @Test
+    void record_BeyondMaxStatements_ShouldPoolTheRest() {
+        // Given
+        StatementTimings timings = new StatementTimings(Duration.ZERO, 2);
+
+        // When
+        timings.record("select a from student", MILLIS);
+        timings.record("select b from student", MILLIS);
+        timings.record("select c from student", MILLIS);
+        timings.record("select d from student", MILLIS);
+
+        // Then
+        assertThat(timings.slowest(10)).extracting(StatementTiming::statement)
+                .contains("select a from student", "select b from student", StatementTimings.OTHER_STATEMENTS)
+                .hasSize(3);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.crud_api.sql;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL statements executed during one {@link StatementRecorder#record} call, in execution order.
+ */
+public record RecordedStatements(List<String> sql) {
+
+    public RecordedStatements {
+        sql = List.copyOf(sql);
+    }
+
+    /**
+     * Statement counts by type, leaving out {@link SqlStatementType#SEQUENCE} statements: a pooled
+     * sequence is only read once per allocation block, so whether an operation pays for it depends
+     * on what ran before. Types without statements are absent, so the result can be compared to a
+     * {@code Map.of(...)} literal.
+     */
+    public Map<SqlStatementType, Long> counts() {
+        Map<SqlStatementType, Long> counts = new EnumMap<>(SqlStatementType.class);
+        for (String statement : sql) {
+            SqlStatementType type = SqlStatementType.of(statement);
+            if (type != SqlStatementType.SEQUENCE) {
+                counts.merge(type, 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    public List<String> sql(SqlStatementType type) {
+        return sql.stream().filter(statement -> SqlStatementType.of(statement) == type).toList();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder(sql.size() + " statements");
+        for (int i = 0; i < sql.size(); i++) {
+            description.append(System.lineSeparator()).append(i + 1).append(". ").append(sql.get(i));
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.crud_api.sql;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Kind of a recorded SQL statement, judged by its leading keyword.
+ */
+public enum SqlStatementType {
+    SELECT,
+    INSERT,
+    UPDATE,
+    DELETE,
+    /** Identifier allocation such as {@code select next value for student_history_seq}. */
+    SEQUENCE,
+    OTHER;
+
+    // H2 returns generated keys from "select ... from final table (insert ...)"
+    private static final Pattern DATA_CHANGE_DELTA_TABLE =
+            Pattern.compile("\\b(?:final|new|old)\\s+table\\s*\\(\\s*(insert|update|delete|merge)\\b");
+
+    public static SqlStatementType of(String sql) {
+        String normalized = sql.strip().toLowerCase(Locale.ROOT);
+        if (normalized.contains("next value for") || normalized.contains("nextval(")) {
+            return SEQUENCE;
+        }
+        if (normalized.startsWith("select") || normalized.startsWith("with")) {
+            Matcher deltaTable = DATA_CHANGE_DELTA_TABLE.matcher(normalized);
+            return deltaTable.find() ? of(deltaTable.group(1)) : SELECT;
+        }
+        if (normalized.startsWith("insert")) {
+            return INSERT;
+        }
+        if (normalized.startsWith("update") || normalized.startsWith("merge")) {
+            return UPDATE;
+        }
+        if (normalized.startsWith("delete")) {
+            return DELETE;
+        }
+        return OTHER;
+    }
+}
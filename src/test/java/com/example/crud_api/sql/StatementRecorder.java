@@ -0,0 +1,117 @@
+package com.example.crud_api.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL statements the current thread executes, so a test can assert exactly which
+ * statements a service call or a request costs:
+ * <pre>
+ * RecordedStatements statements = StatementRecorder.record(() -> studentService.findStudentById(id));
+ * assertThat(statements.counts()).isEqualTo(Map.of(SqlStatementType.SELECT, 1L));
+ * </pre>
+ * The data source is installed by {@link StatementRecordingConfig}. Only statements of the thread
+ * calling {@link #record} are recorded, so scheduled jobs running meanwhile don't disturb the
+ * counts. A statement is recorded when it is executed; a JDBC batch counts once, as it is one
+ * round trip.
+ */
+public class StatementRecorder extends DelegatingDataSource {
+
+    private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public StatementRecorder(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    public static RecordedStatements record(Action action) throws Exception {
+        List<String> outer = RECORDING.get();
+        List<String> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            action.run();
+        } finally {
+            if (outer == null) {
+                RECORDING.remove();
+            } else {
+                outer.addAll(statements);
+                RECORDING.set(outer);
+            }
+        }
+        return new RecordedStatements(statements);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recording(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recording(super.getConnection(username, password));
+    }
+
+    private static Connection recording(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                        return recording(statement, method.getReturnType(), sql);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object recording(Statement statement, Class<?> type, String preparedSql) {
+        // A plain statement's batch is recorded as its first statement
+        String[] batchSql = {null};
+        return Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(),
+                new Class<?>[]{type}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    boolean sqlArgument = args != null && args.length > 0 && args[0] instanceof String;
+                    if (name.equals("addBatch") && sqlArgument && batchSql[0] == null) {
+                        batchSql[0] = (String) args[0];
+                    } else if (name.equals("clearBatch")) {
+                        batchSql[0] = null;
+                    } else if (name.startsWith("execute")) {
+                        String sql = sqlArgument ? (String) args[0] : preparedSql != null ? preparedSql : batchSql[0];
+                        if (name.endsWith("Batch")) {
+                            batchSql[0] = null;
+                        }
+                        List<String> statements = RECORDING.get();
+                        if (statements != null && sql != null) {
+                            statements.add(sql);
+                        }
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.crud_api.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's {@link DataSource} in a {@link StatementRecorder}; import it into the
+ * tests that assert statement counts.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class StatementRecordingConfig {
+
+    @Bean
+    static BeanPostProcessor statementRecordingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementRecorder)) {
+                    return new StatementRecorder(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.crud_api.student;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeSequenceWatermarkTest {
+
+    @Test
+    void current_WithoutAppends_ShouldCoverTheExistingLog() {
+        ChangeSequenceWatermark watermark = new ChangeSequenceWatermark(() -> 41);
+
+        assertThat(watermark.current(null)).isEqualTo(42);
+    }
+
+    @Test
+    void current_WhenALaterAppendCommitsFirst_ShouldHoldBackUntilTheEarlierCompletes() throws Exception {
+        // Given
+        ChangeSequenceWatermark watermark = new ChangeSequenceWatermark(() -> 9);
+        watermark.current(null);
+        long[] first = new long[1];
+        Thread writer = new Thread(() -> {
+            first[0] = watermark.begin();
+            watermark.assigned(first[0], 10);
+        });
+        writer.start();
+        writer.join();
+        long second = watermark.begin();
+        watermark.assigned(second, 11);
+
+        // When - 11 commits while 10 is still in flight
+        watermark.finished(second);
+
+        // Then
+        assertThat(watermark.current(null)).isEqualTo(10);
+        watermark.finished(first[0]);
+        assertThat(watermark.current(null)).isEqualTo(12);
+    }
+
+    @Test
+    void current_BeforeTheSequenceIsKnown_ShouldStayBelowIt() {
+        // Given
+        ChangeSequenceWatermark watermark = new ChangeSequenceWatermark(() -> 5);
+        watermark.current(null);
+
+        // When - registered, not inserted yet
+        long token = watermark.begin();
+
+        // Then
+        assertThat(watermark.current(null)).isEqualTo(6);
+        watermark.assigned(token, 8);
+        assertThat(watermark.current(null)).isEqualTo(8);
+    }
+
+    @Test
+    void current_ForTheWritingThread_ShouldIncludeItsOwnAppends() {
+        // Given
+        ChangeSequenceWatermark watermark = new ChangeSequenceWatermark(() -> 0);
+        long token = watermark.begin();
+
+        // When
+        watermark.assigned(token, 1);
+
+        // Then
+        assertThat(watermark.current(Thread.currentThread())).isEqualTo(2);
+        assertThat(watermark.current(null)).isEqualTo(1);
+    }
+
+    @Test
+    void finished_ShouldNotifyListeners() {
+        // Given
+        ChangeSequenceWatermark watermark = new ChangeSequenceWatermark(() -> 0);
+        AtomicInteger releases = new AtomicInteger();
+        watermark.onRelease(releases::incrementAndGet);
+
+        // When
+        watermark.finished(watermark.begin());
+
+        // Then
+        assertThat(releases).hasValue(1);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.crud_api.student;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MissingStudentCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MissingStudentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MissingStudentCache(100, meterRegistry);
+    }
+
+    @Test
+    void markMissing_ShouldBeRememberedAndCounted() {
+        // When
+        cache.markMissing(999L, cache.generation());
+
+        // Then
+        assertThat(cache.isKnownMissing(999L)).isTrue();
+        assertThat(cache.isKnownMissing(998L)).isFalse();
+        assertThat(lookups("hit")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void createdStudent_ShouldNoLongerBeMissing() {
+        // Given
+        cache.markMissing(10004L, cache.generation());
+        Student student = new Student("New Student", "N1234567", 20, null, LocalDateTime.now(), 2027);
+        student.setId(10004L);
+
+        // When
+        cache.onStudentChange(new StudentChangeEvent(StudentChangeType.CREATED, student, null, null));
+
+        // Then
+        assertThat(cache.isKnownMissing(10004L)).isFalse();
+    }
+
+    @Test
+    void markMissing_AfterConcurrentCreation_ShouldBeIgnored() {
+        // Given - a lookup starts, then a student is created before the miss is recorded
+        long generation = cache.generation();
+        cache.invalidate(10004L);
+
+        // When
+        cache.markMissing(10004L, generation);
+
+        // Then
+        assertThat(cache.isKnownMissing(10004L)).isFalse();
+    }
+
+    @Test
+    void cache_ShouldStayBounded() {
+        // When
+        for (long id = 1; id <= 10_000; id++) {
+            cache.markMissing(id, cache.generation());
+        }
+
+        // Then
+        assertThat(cache.capacity()).isEqualTo(128);
+        long remembered = 0;
+        for (long id = 1; id <= 10_000; id++) {
+            remembered += cache.isKnownMissing(id) ? 1 : 0;
+        }
+        assertThat(remembered).isPositive().isLessThanOrEqualTo(128);
+        assertThat(cache.isKnownMissing(10_000L)).isTrue();
+    }
+
+    @Test
+    void clear_ShouldForgetEverything() {
+        // Given
+        cache.markMissing(999L, cache.generation());
+
+        // When
+        cache.clear();
+
+        // Then
+        assertThat(cache.isKnownMissing(999L)).isFalse();
+        assertThat(cache.isKnownMissing(0L)).isFalse();
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("student.missing.cache.lookups").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.crud_api.student;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class StudentArchiveRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentArchiveRepository studentArchiveRepository;
+
+    private Student activeStudent;
+    private Student graduatedStudent;
+    private Student withdrawnStudent;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository.deleteAll();
+
+        activeStudent = new Student("Alice Active", "A7000001", 21, "alice.active@example.com",
+                LocalDateTime.now().minusYears(1), 2027);
+
+        graduatedStudent = new Student("Gary Graduated", "G7000002", 24, "gary.graduated@example.com",
+                LocalDateTime.now().minusYears(4), 2024);
+        graduatedStudent.setStatus(StudentStatus.GRADUATED);
+
+        withdrawnStudent = new Student("Wendy Withdrawn", "W7000003", 22, "wendy.withdrawn@example.com",
+                LocalDateTime.now().minusYears(2), 2026);
+        withdrawnStudent.setStatus(StudentStatus.WITHDRAWN);
+
+        entityManager.persistAndFlush(activeStudent);
+        entityManager.persistAndFlush(graduatedStudent);
+        entityManager.persistAndFlush(withdrawnStudent);
+        entityManager.clear();
+    }
+
+    @Test
+    void lockArchivableIds_ShouldReturnOnlyTerminalStatuses() {
+        // When
+        List<Long> ids = studentArchiveRepository.lockArchivableIds(StudentArchiveService.ARCHIVABLE_STATUSES, 10);
+
+        // Then
+        assertThat(ids).containsExactly(graduatedStudent.getId(), withdrawnStudent.getId());
+    }
+
+    @Test
+    void lockArchivableIds_ShouldRespectLimit() {
+        // When
+        List<Long> ids = studentArchiveRepository.lockArchivableIds(StudentArchiveService.ARCHIVABLE_STATUSES, 1);
+
+        // Then
+        assertThat(ids).containsExactly(graduatedStudent.getId());
+    }
+
+    @Test
+    void copyAndDelete_ShouldMoveStudentToArchive() {
+        // Given
+        List<Long> ids = List.of(graduatedStudent.getId());
+
+        // When
+        int copied = studentArchiveRepository.copyToArchive(ids);
+        int deleted = studentArchiveRepository.deleteFromHotTable(ids);
+        entityManager.clear();
+
+        // Then
+        assertThat(copied).isEqualTo(1);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(studentRepository.findById(graduatedStudent.getId())).isEmpty();
+
+        Optional<ArchivedStudent> archived = studentArchiveRepository.findById(graduatedStudent.getId());
+        assertThat(archived).isPresent();
+        assertThat(archived.get().getArchivedAt()).isNotNull();
+
+        Student restored = archived.get().toStudent();
+        assertThat(restored.getName()).isEqualTo("Gary Graduated");
+        assertThat(restored.getPassportNumber()).isEqualTo("G7000002");
+        assertThat(restored.getStatus()).isEqualTo(StudentStatus.GRADUATED);
+        assertThat(restored.getVersion()).isEqualTo(graduatedStudent.getVersion());
+    }
+
+    @Test
+    void lockArchivableIds_ShouldSkipStudentsClashingWithArchive() {
+        // Given - a new student reuses the passport number of an archived one
+        List<Long> ids = List.of(graduatedStudent.getId());
+        studentArchiveRepository.copyToArchive(ids);
+        studentArchiveRepository.deleteFromHotTable(ids);
+        Student clashing = new Student("Gary Again", "G7000002", 25, "gary.again@example.com",
+                LocalDateTime.now().minusYears(4), 2024);
+        clashing.setStatus(StudentStatus.GRADUATED);
+        entityManager.persistAndFlush(clashing);
+        entityManager.clear();
+
+        // When
+        List<Long> lockedIds = studentArchiveRepository.lockArchivableIds(StudentArchiveService.ARCHIVABLE_STATUSES, 10);
+
+        // Then
+        assertThat(lockedIds).containsExactly(withdrawnStudent.getId());
+        assertThat(studentArchiveRepository.countArchiveConflicts(StudentArchiveService.ARCHIVABLE_STATUSES)).isEqualTo(1);
+        assertThat(studentArchiveRepository.existsByPassportNumber("G7000002")).isTrue();
+        assertThat(studentArchiveRepository.existsByEmail("gary.graduated@example.com")).isTrue();
+        assertThat(studentArchiveRepository.findByStatus(StudentStatus.GRADUATED))
+                .extracting(ArchivedStudent::getId).containsExactly(graduatedStudent.getId());
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.crud_api.student;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudentChangeBroadcasterTest {
+
+    private final AtomicLong watermark = new AtomicLong(Long.MAX_VALUE);
+    private StudentChangeLog studentChangeLog;
+    private Runnable watermarkListener;
+    private StudentChangeBroadcaster broadcaster;
+    private RecordingEmitter emitter;
+    // Subscriber of every event sent, in send order
+    private final List<RecordingEmitter> sent = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        studentChangeLog = mock(StudentChangeLog.class);
+        when(studentChangeLog.committedWatermark()).thenAnswer(invocation -> watermark.get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (emitter != null) {
+            emitter.gate.countDown();
+        }
+        broadcaster.destroy();
+    }
+
+    @Test
+    void onChangeRecorded_ShouldSendCommittedChangeToSubscribers() throws Exception {
+        // Given
+        broadcaster = broadcaster(256, Duration.ofSeconds(10));
+        broadcaster.subscribe(null, null);
+
+        // When
+        broadcaster.onChangeRecorded(recorded(5, 1L, StudentChangeType.CREATED, StudentStatus.ACTIVE, null));
+
+        // Then
+        assertThat(emitter.awaitEvents(1)).containsExactly("id:5 event:CREATED");
+    }
+
+    @Test
+    void onChangeRecorded_WhenAnEarlierSequenceIsStillInFlight_ShouldHoldBackUntilItCompletes() throws Exception {
+        // Given - sequence 5 is written but not committed yet
+        broadcaster = broadcaster(256, Duration.ofSeconds(10));
+        broadcaster.subscribe(null, null);
+        watermark.set(5);
+
+        // When - 6 commits first
+        broadcaster.onChangeRecorded(recorded(6, 2L, StudentChangeType.CREATED, StudentStatus.ACTIVE, null));
+        broadcaster.onChangeRecorded(recorded(5, 1L, StudentChangeType.CREATED, StudentStatus.ACTIVE, null));
+        watermark.set(7);
+        watermarkListener.run();
+
+        // Then
+        assertThat(emitter.awaitEvents(2)).containsExactly("id:5 event:CREATED", "id:6 event:CREATED");
+    }
+
+    @Test
+    void onChangeRecorded_ForSlowSubscriber_ShouldKeepOnlyLatestChangePerStudent() throws Exception {
+        // Given - the subscriber is stuck sending the first change
+        broadcaster = broadcaster(256, Duration.ofSeconds(10));
+        broadcaster.subscribe(null, null);
+        emitter.block();
+        broadcaster.onChangeRecorded(recorded(1, 1L, StudentChangeType.CREATED, StudentStatus.ACTIVE, null));
+        emitter.awaitBlocked();
+
+        // When
+        broadcaster.onChangeRecorded(recorded(2, 2L, StudentChangeType.UPDATED, StudentStatus.ACTIVE, StudentStatus.ACTIVE));
+        broadcaster.onChangeRecorded(recorded(3, 2L, StudentChangeType.UPDATED, StudentStatus.ACTIVE, StudentStatus.ACTIVE));
+        emitter.gate.countDown();
+
+        // Then
+        assertThat(emitter.awaitEvents(2)).containsExactly("id:1 event:CREATED", "id:3 event:UPDATED");
+    }
+
+    @Test
+    void onChangeRecorded_WhenBufferIsFull_ShouldDropOldestAndSendOverflow() throws Exception {
+        // Given
+        broadcaster = broadcaster(2, Duration.ofSeconds(10));
+        broadcaster.subscribe(null, null);
+        emitter.block();
+        broadcaster.onChangeRecorded(recorded(1, 1L, StudentChangeType.CREATED, StudentStatus.ACTIVE, null));
+        emitter.awaitBlocked();
+
+        // When
+        for (long sequence = 2; sequence <= 4; sequence++) {
+            broadcaster.onChangeRecorded(recorded(sequence, sequence, StudentChangeType.CREATED, StudentStatus.ACTIVE, null));
+        }
+        emitter.gate.countDown();
+
+        // Then
+        assertThat(emitter.awaitEvents(4)).containsExactly(
+                "id:1 event:CREATED", "event:overflow data:1", "id:3 event:CREATED", "id:4 event:CREATED");
+    }
+
+    @Test
+    void onChangeRecorded_WhenStudentLeavesFilteredStatus_ShouldSendTheTransition() throws Exception {
+        // Given
+        broadcaster = broadcaster(256, Duration.ofSeconds(10));
+        broadcaster.subscribe(StudentStatus.ACTIVE, null);
+        emitter.block();
+        broadcaster.onChangeRecorded(recorded(1, 1L, StudentChangeType.CREATED, StudentStatus.ACTIVE, null));
+        emitter.awaitBlocked();
+
+        // When - the pending update is superseded by the suspension
+        broadcaster.onChangeRecorded(recorded(2, 2L, StudentChangeType.UPDATED, StudentStatus.ACTIVE, StudentStatus.ACTIVE));
+        broadcaster.onChangeRecorded(recorded(3, 2L, StudentChangeType.STATUS_CHANGED, StudentStatus.SUSPENDED, StudentStatus.ACTIVE));
+        broadcaster.onChangeRecorded(recorded(4, 3L, StudentChangeType.STATUS_CHANGED, StudentStatus.GRADUATED, StudentStatus.SUSPENDED));
+        emitter.gate.countDown();
+
+        // Then
+        assertThat(emitter.awaitEvents(2)).containsExactly("id:1 event:CREATED", "id:3 event:STATUS_CHANGED");
+        Thread.sleep(100);
+        assertThat(emitter.events).hasSize(2);
+    }
+
+    @Test
+    void dropStalledSubscribers_ShouldDropSubscriberBlockedInSend() throws Exception {
+        // Given
+        broadcaster = broadcaster(256, Duration.ZERO);
+        broadcaster.subscribe(null, null);
+        emitter.block();
+        broadcaster.onChangeRecorded(recorded(1, 1L, StudentChangeType.CREATED, StudentStatus.ACTIVE, null));
+        emitter.awaitBlocked();
+
+        // When
+        broadcaster.dropStalledSubscribers();
+
+        // Then
+        assertThat(broadcaster.subscriberCount()).isZero();
+        assertThat(emitter.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void subscribe_WithLongReplay_ShouldNotStarveOtherSubscribers() throws Exception {
+        // Given - one dispatch thread, and a reconnect with many replay pages ahead of it
+        broadcaster = broadcaster(256, Duration.ofSeconds(10), 1);
+        int pages = 20;
+        when(studentChangeLog.readSince(anyLong(), eq(StudentChangeBroadcaster.REPLAY_PAGE_SIZE)))
+                .thenAnswer(invocation -> replayPage(invocation.getArgument(0), pages * 100L));
+        broadcaster.subscribe(null, null);
+        RecordingEmitter live = emitter;
+
+        // When
+        broadcaster.subscribe(null, 0L);
+        RecordingEmitter replaying = emitter;
+        broadcaster.onChangeRecorded(recorded(5_000, 1L, StudentChangeType.CREATED, StudentStatus.ACTIVE, null));
+
+        // Then - the live subscriber got its turn while the replay was still going
+        assertThat(live.awaitEvents(1)).containsExactly("id:5000 event:CREATED");
+        replaying.awaitEvents(pages * 100 + 1);
+        assertThat(sent.indexOf(live)).isLessThan(sent.lastIndexOf(replaying));
+    }
+
+    @Test
+    void sendHeartbeats_ShouldOnlyPingSubscribersIdleSinceTheLastTick() throws Exception {
+        // Given
+        broadcaster = broadcaster(256, Duration.ofSeconds(10));
+        broadcaster.subscribe(null, null);
+        broadcaster.onChangeRecorded(recorded(1, 1L, StudentChangeType.CREATED, StudentStatus.ACTIVE, null));
+        emitter.awaitEvents(1);
+
+        // When
+        broadcaster.sendHeartbeats();
+        Thread.sleep(100);
+        List<String> afterBusyTick = List.copyOf(emitter.events);
+        broadcaster.sendHeartbeats();
+
+        // Then
+        assertThat(afterBusyTick).containsExactly("id:1 event:CREATED");
+        assertThat(emitter.awaitEvents(2)).containsExactly("id:1 event:CREATED", ":heartbeat");
+    }
+
+    private StudentChangeFeed replayPage(long since, long last) {
+        List<StudentChange> changes = new ArrayList<>();
+        for (long sequence = since + 1; sequence <= last && changes.size() < StudentChangeBroadcaster.REPLAY_PAGE_SIZE;
+             sequence++) {
+            changes.add(recorded(sequence, sequence, StudentChangeType.CREATED, StudentStatus.ACTIVE, null).change());
+        }
+        return new StudentChangeFeed(changes, changes.isEmpty() ? since : last, 1L);
+    }
+
+    private StudentChangeBroadcaster broadcaster(int bufferSize, Duration sendTimeout) {
+        return broadcaster(bufferSize, sendTimeout, 2);
+    }
+
+    private StudentChangeBroadcaster broadcaster(int bufferSize, Duration sendTimeout, int dispatchThreads) {
+        StudentChangeBroadcaster created = new StudentChangeBroadcaster(studentChangeLog,
+                new ObjectMapper().findAndRegisterModules(), bufferSize, Duration.ofMinutes(1), sendTimeout,
+                dispatchThreads) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                emitter = new RecordingEmitter(sent);
+                return emitter;
+            }
+        };
+        ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        verify(studentChangeLog).onWatermarkAdvance(listener.capture());
+        watermarkListener = listener.getValue();
+        return created;
+    }
+
+    private StudentChangeRecordedEvent recorded(long sequence, Long studentId, StudentChangeType type,
+                                                StudentStatus status, StudentStatus previousStatus) {
+        StudentChange change = new StudentChange(studentId, type, status, previousStatus,
+                "{\"id\":" + studentId + "}", LocalDateTime.of(2026, 1, 1, 0, 0));
+        ReflectionTestUtils.setField(change, "sequence", sequence);
+        return new StudentChangeRecordedEvent(change);
+    }
+
+    /**
+     * Records each event as its SSE fields without the JSON payload, optionally blocking in the first send.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<RecordingEmitter> sent;
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private volatile boolean blocking;
+
+        RecordingEmitter(List<RecordingEmitter> sent) {
+            this.sent = sent;
+        }
+
+        void block() {
+            blocking = true;
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (blocking) {
+                blocking = false;
+                blocked.countDown();
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new IOException("Interrupted while sending", e);
+                }
+            }
+            String event = builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .map(Object::toString)
+                    .collect(Collectors.joining());
+            events.add(event.lines()
+                    .filter(line -> line.startsWith("id:") || line.startsWith("event:") || line.startsWith(":")
+                            || line.startsWith("data:") && !line.startsWith("data:{"))
+                    .collect(Collectors.joining(" ")));
+            sent.add(this);
+        }
+
+        List<String> awaitEvents(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (events.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            return events;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.crud_api.student;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+class StudentChangeFeedIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentChangeLog studentChangeLog;
+
+    @Autowired
+    private StudentChangeRepository studentChangeRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        studentChangeRepository.deleteAll();
+    }
+
+    @Test
+    void changes_ShouldReturnWritesInOrderIncludingTombstones() throws Exception {
+        // Given
+        Student student = studentService.createStudent(new Student(
+                "Feed Student", "F1234567", 21, "feed@example.com", LocalDateTime.now(), 2026));
+        studentService.suspendStudent(student.getId());
+        studentService.deleteStudent(student.getId());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/students/changes").param("since", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(3)))
+                .andExpect(jsonPath("$.changes[0].type", is("CREATED")))
+                .andExpect(jsonPath("$.changes[0].student.passportNumber", is("F1234567")))
+                .andExpect(jsonPath("$.changes[1].type", is("STATUS_CHANGED")))
+                .andExpect(jsonPath("$.changes[1].status", is("SUSPENDED")))
+                .andExpect(jsonPath("$.changes[1].student.version", is(1)))
+                .andExpect(jsonPath("$.changes[2].type", is("DELETED")))
+                .andExpect(jsonPath("$.changes[2].studentId", is(student.getId().intValue())))
+                .andExpect(jsonPath("$.changes[2].student").doesNotExist());
+    }
+
+    @Test
+    void changes_WithSince_ShouldReturnOnlyNewerChanges() throws Exception {
+        // Given
+        Student student = studentService.createStudent(new Student(
+                "Feed Student", "F7654321", 21, "feed2@example.com", LocalDateTime.now(), 2026));
+        long since = studentChangeLog.readSince(0, 10).nextSince();
+        studentService.graduateStudent(student.getId());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/students/changes")
+                        .param("since", String.valueOf(since))
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.changes[0].status", is("GRADUATED")))
+                .andExpect(jsonPath("$.nextSince", greaterThan((int) since)));
+    }
+
+    @Test
+    void changes_WithInvalidLimit_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/students/changes").param("limit", "5000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("limit")));
+    }
+}
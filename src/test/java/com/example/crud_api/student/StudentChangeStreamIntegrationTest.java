@@ -0,0 +1,100 @@
+package com.example.crud_api.student;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class StudentChangeStreamIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentChangeLog studentChangeLog;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private MockMvc mockMvc;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (student != null && studentRepository.existsById(student.getId())) {
+            studentService.deleteStudent(student.getId());
+        }
+    }
+
+    @Test
+    void stream_WithLastEventId_ShouldReplayMissedChangesMatchingFilter() throws Exception {
+        // Given
+        long lastEventId = latestSequence();
+        student = studentService.createStudent(new Student(
+                "Stream Student", "S1234567", 21, "stream@example.com", LocalDateTime.now(), 2026));
+        studentService.suspendStudent(student.getId());
+        long suspendedSequence = studentChangeLog.readSince(lastEventId, StudentChangeLog.MAX_PAGE_SIZE).changes().stream()
+                .filter(change -> change.getStudentId().equals(student.getId())
+                        && change.getType() == StudentChangeType.STATUS_CHANGED)
+                .findFirst().orElseThrow().getSequence();
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/students/stream")
+                        .param("status", "SUSPENDED")
+                        .header("Last-Event-ID", lastEventId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = awaitContent(result, "event:STATUS_CHANGED");
+        assertThat(body).contains("id:" + suspendedSequence);
+        assertThat(body).contains("\"passportNumber\":\"S1234567\"");
+        assertThat(body).doesNotContain("event:CREATED");
+    }
+
+    private long latestSequence() {
+        long since = 0;
+        StudentChangeFeed feed;
+        do {
+            feed = studentChangeLog.readSince(since, StudentChangeLog.MAX_PAGE_SIZE);
+            since = feed.nextSince();
+        } while (!feed.changes().isEmpty());
+        return since;
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.crud_api.student;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class StudentDuplicateIndexTest {
+
+    private StudentDuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StudentDuplicateIndex();
+        index.upsert(student(1L, "Johnathan Smith", "john.smith@example.com", 20));
+        index.upsert(student(2L, "Jonathan Smith", "jonathan.smith@example.com", 20));
+        index.upsert(student(3L, "Jonathan Smith", "jonathansmith99@example.com", 21));
+        index.upsert(student(4L, "Maria Garcia", "maria@example.com", 20));
+        index.upsert(student(5L, "Jonathan Smith", "jsmith@example.com", 40));
+    }
+
+    @Test
+    void findCandidates_ShouldRankByNameEmailAndAgeAndSkipOtherBlocks() {
+        // When
+        List<DuplicateCandidate> candidates = index.findCandidates(
+                student(6L, "Jonathan Smith", "jonathan.smith@example.com", 20),
+                StudentDuplicateIndex.DEFAULT_MIN_SCORE);
+
+        // Then
+        assertThat(candidates)
+                .extracting(DuplicateCandidate::id, DuplicateCandidate::score)
+                .containsExactly(tuple(2L, 1.0), tuple(3L, 0.95), tuple(1L, 0.8));
+    }
+
+    @Test
+    void findCandidates_ShouldNeverIncludeTheStudentItself() {
+        assertThat(index.findCandidates(student(2L, "Jonathan Smith", "jonathan.smith@example.com", 20), 0.5))
+                .extracting(DuplicateCandidate::id)
+                .containsExactly(3L, 1L);
+    }
+
+    @Test
+    void findPairs_ShouldReportEachPairOnceBestFirst() {
+        // When
+        List<DuplicatePair> pairs = index.findPairs(StudentDuplicateIndex.DEFAULT_MIN_SCORE, 2);
+
+        // Then
+        assertThat(pairs)
+                .extracting(DuplicatePair::firstId, DuplicatePair::secondId, DuplicatePair::score)
+                .containsExactly(tuple(2L, 3L, 0.95), tuple(1L, 2L, 0.8));
+        assertThat(index.findPairs(StudentDuplicateIndex.DEFAULT_MIN_SCORE, 10)).hasSize(3);
+    }
+
+    @Test
+    void findPairs_WhenOnlyTheHigherIdFindsThePair_ShouldStillReportIt() {
+        // Given - "john" is too common for student 100 to look up, but student 101 has no rarer token
+        for (int i = 0; i < StudentDuplicateIndex.MAX_BUCKET_SIZE; i++) {
+            index.upsert(student(1_000L + i, "John " + filler(i), "filler" + i + "@example.com", 30));
+        }
+        index.upsert(student(100L, "John Quixote", "john@example.com", 30));
+        index.upsert(student(101L, "John", "john@example.org", 30));
+
+        // When
+        List<DuplicatePair> pairs = index.findPairs(StudentDuplicateIndex.DEFAULT_MIN_SCORE, 10);
+
+        // Then
+        assertThat(pairs)
+                .extracting(DuplicatePair::firstId, DuplicatePair::secondId, DuplicatePair::score)
+                .contains(tuple(100L, 101L, 0.767));
+    }
+
+    @Test
+    void findPairs_WhenEveryTokenIsCommon_ShouldOnlyCompareWithinSubBlocks() {
+        // Given - more identical names than a bucket may hold, so they are not compared with each other
+        for (int i = 0; i <= StudentDuplicateIndex.MAX_BUCKET_SIZE; i++) {
+            index.upsert(student(1_000L + i, "Mary Jones", filler(i) + "@example.com", 30));
+        }
+        index.upsert(student(100L, "Mary Jones", "mary.jones@example.com", 30));
+        index.upsert(student(101L, "Mary Jones", "maryjones@example.org", 30));
+
+        // When
+        List<DuplicatePair> pairs = index.findPairs(StudentDuplicateIndex.DEFAULT_MIN_SCORE, 10);
+
+        // Then - the email key still brings the likely pair together
+        assertThat(pairs)
+                .extracting(DuplicatePair::firstId, DuplicatePair::secondId, DuplicatePair::score)
+                .containsExactly(tuple(100L, 101L, 1.0), tuple(2L, 3L, 0.95), tuple(1L, 2L, 0.8), tuple(1L, 3L, 0.75));
+    }
+
+    @Test
+    void upsertAndRemove_ShouldKeepIndexCurrent() {
+        // When
+        index.upsert(student(4L, "Mary Garcia", "mary.garcia@example.com", 40));
+        index.remove(2L);
+
+        // Then
+        assertThat(index.findCandidates(student(6L, "Jonathan Smith", "jonathan.smith@example.com", 20), 0.75))
+                .extracting(DuplicateCandidate::id)
+                .containsExactly(3L, 1L);
+        assertThat(index.findCandidates(student(7L, "Maria Garcia", "maria@example.com", 20), 0.5)).isEmpty();
+    }
+
+    @Test
+    void withinOneEdit_ShouldAllowSingleTyposInLongerTokens() {
+        assertThat(StudentDuplicateIndex.withinOneEdit("jonathan", "johnathan")).isTrue();
+        assertThat(StudentDuplicateIndex.withinOneEdit("smith", "smyth")).isTrue();
+        assertThat(StudentDuplicateIndex.withinOneEdit("garcia", "garica")).isFalse();
+        assertThat(StudentDuplicateIndex.withinOneEdit("jon", "jan")).isFalse();
+    }
+
+    @Test
+    void tokens_ShouldNormalizeCaseAccentsAndPunctuation() {
+        assertThat(StudentDuplicateIndex.tokens("Jos\u00e9  \u00c1lvarez-Ruiz J.")).containsExactly("jose", "alvarez", "ruiz");
+    }
+
+    // Distinct letters-only token, since digits are not part of name tokens
+    private static String filler(int i) {
+        StringBuilder token = new StringBuilder("zz");
+        for (int n = i; n > 0; n /= 26) {
+            token.append((char) ('a' + n % 26));
+        }
+        return token.toString();
+    }
+
+    private static Student student(Long id, String name, String email, int age) {
+        Student student = new Student(name, "P" + id, age, email, LocalDateTime.now(), 2026);
+        student.setId(id);
+        return student;
+    }
+}
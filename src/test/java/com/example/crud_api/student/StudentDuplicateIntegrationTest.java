@@ -0,0 +1,114 @@
+package com.example.crud_api.student;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Not @Transactional: the duplicate index follows committed writes only
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class StudentDuplicateIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private final List<Long> created = new ArrayList<>();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        created.stream().filter(studentRepository::existsById).forEach(studentService::deleteStudent);
+    }
+
+    @Test
+    void createStudent_WithLikelyDuplicate_ShouldListItInHeader() throws Exception {
+        // Given
+        Long existingId = create("Bartholomew Featherstone", "D1111111", "bart.featherstone@example.com");
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json("Bartholomew Featherston", "D2222222", "bartfeatherstone@example.org")))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(StudentResource.DUPLICATE_CANDIDATES_HEADER, existingId.toString()))
+                .andDo(result -> created.add(
+                        Long.valueOf(result.getResponse().getHeader("Location").replaceAll(".*/", ""))));
+    }
+
+    @Test
+    void createStudent_WithoutDuplicates_ShouldOmitHeader() throws Exception {
+        mockMvc.perform(post("/api/v1/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json("Zebulon Quartermaine", "D3333333", "zebulon@example.com")))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(StudentResource.DUPLICATE_CANDIDATES_HEADER))
+                .andDo(result -> created.add(
+                        Long.valueOf(result.getResponse().getHeader("Location").replaceAll(".*/", ""))));
+    }
+
+    @Test
+    void retrieveDuplicates_ShouldReturnPairs() throws Exception {
+        // Given
+        Long firstId = create("Ignatius Wolverhampton", "D4444444", "ignatius.wolverhampton@example.com");
+        Long secondId = create("Ignatius Wolverhamton", "D5555555", "ignatiuswolverhampton@example.org");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/students/duplicates")
+                        .param("minScore", "0.9")
+                        .param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.firstId == %d && @.secondId == %d)].score".formatted(firstId, secondId),
+                        contains(1.0)));
+    }
+
+    @Test
+    void retrieveDuplicates_WithInvalidLimit_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/students/duplicates")
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("limit must be between 1 and 1000")));
+    }
+
+    private Long create(String name, String passportNumber, String email) {
+        Long id = studentService.createStudent(
+                new Student(name, passportNumber, 24, email, LocalDateTime.now(), 2027)).getId();
+        created.add(id);
+        return id;
+    }
+
+    private static String json(String name, String passportNumber, String email) {
+        return """
+                {"name": "%s", "passportNumber": "%s", "age": 24, "email": "%s",
+                 "enrollmentDate": "2026-09-01T09:00:00", "graduationYear": 2027}
+                """.formatted(name, passportNumber, email);
+    }
+}
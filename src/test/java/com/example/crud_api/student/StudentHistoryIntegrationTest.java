@@ -0,0 +1,132 @@
+package com.example.crud_api.student;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+class StudentHistoryIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentHistoryService studentHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void history_ShouldListEveryVersionOldestFirst() throws Exception {
+        // Given
+        Student student = studentService.createStudent(new Student(
+                "History Student", "H1234567", 21, "history@example.com", LocalDateTime.now(), 2026));
+        studentService.suspendStudent(student.getId());
+        studentService.deleteStudent(student.getId());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/students/{id}/history", student.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].version", is(0)))
+                .andExpect(jsonPath("$[0].status", is("ACTIVE")))
+                .andExpect(jsonPath("$[1].version", is(1)))
+                .andExpect(jsonPath("$[1].status", is("SUSPENDED")))
+                .andExpect(jsonPath("$[2].deleted", is(true)))
+                .andExpect(jsonPath("$[0].historyId").doesNotExist());
+    }
+
+    @Test
+    void asOf_ShouldReturnVersionCurrentAtThatTime() throws Exception {
+        // Given
+        LocalDateTime beforeCreation = LocalDateTime.now().minusMinutes(1);
+        Student student = studentService.createStudent(new Student(
+                "History Student", "H7654321", 21, "history2@example.com", LocalDateTime.now(), 2026));
+        studentService.graduateStudent(student.getId());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/students/{id}/history", student.getId())
+                        .param("asOf", LocalDateTime.now().plusMinutes(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("GRADUATED")))
+                .andExpect(jsonPath("$.version", is(1)));
+
+        mockMvc.perform(get("/api/v1/students/{id}/history", student.getId())
+                        .param("asOf", beforeCreation.toString()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void recordBaselines_OnDatabaseFromBeforeHistory_ShouldMakeExistingStudentsHistoryAvailable() throws Exception {
+        // Given - a student written before history was kept, and no baseline marker yet
+        jdbcTemplate.update("delete from student_history_baseline");
+        jdbcTemplate.update("insert into student (id, name, passport_number, age, email, enrollment_date, graduation_year,"
+                + " status, created_at, updated_at, version) values (90001, 'Loaded Student', 'L1234567', 20,"
+                + " 'loaded@example.com', timestamp '2024-09-01 09:00:00', 2027, 'ACTIVE',"
+                + " timestamp '2024-09-01 09:00:00', timestamp '2024-09-01 09:00:00', 0)");
+
+        // When
+        studentHistoryService.recordBaselines();
+        studentService.suspendStudent(90001L);
+
+        // Then
+        mockMvc.perform(get("/api/v1/students/{id}/history", 90001))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status", is("ACTIVE")))
+                .andExpect(jsonPath("$[1].status", is("SUSPENDED")));
+        mockMvc.perform(get("/api/v1/students/{id}/history", 90001).param("asOf", "2025-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("ACTIVE")))
+                .andExpect(jsonPath("$.version", is(0)));
+    }
+
+    @Test
+    void recordBaselines_OnceRecorded_ShouldNotScanAgain() throws Exception {
+        // Given
+        jdbcTemplate.update("insert into student (id, name, passport_number, age, email, enrollment_date, graduation_year,"
+                + " status, created_at, updated_at, version) values (90002, 'Direct Student', 'L7654321', 20,"
+                + " 'direct@example.com', timestamp '2024-09-01 09:00:00', 2027, 'ACTIVE',"
+                + " timestamp '2024-09-01 09:00:00', timestamp '2024-09-01 09:00:00', 0)");
+
+        // When
+        studentHistoryService.recordBaselines();
+
+        // Then - the marker written with the schema skips the backfill
+        assertThat(studentHistoryService.findHistory(90002L)).isEmpty();
+    }
+
+    @Test
+    void history_WithUnknownStudent_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/students/{id}/history", 999999))
+                .andExpect(status().isNotFound());
+    }
+}
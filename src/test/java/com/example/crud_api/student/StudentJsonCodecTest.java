@@ -0,0 +1,144 @@
+package com.example.crud_api.student;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The codec must be indistinguishable from Jackson's reflective bean codec.
+ */
+class StudentJsonCodecTest {
+
+    private final ObjectMapper reflective = mapper(false, false);
+    private final ObjectMapper codec = mapper(true, false);
+
+    @Test
+    void serialize_ShouldMatchReflectiveOutput() throws Exception {
+        for (Student student : students()) {
+            assertThat(codec.writeValueAsString(student)).isEqualTo(reflective.writeValueAsString(student));
+        }
+        assertThat(codec.writeValueAsString(students())).isEqualTo(reflective.writeValueAsString(students()));
+    }
+
+    @Test
+    void serialize_WithTimestampsAsArrays_ShouldMatchReflectiveOutput() throws Exception {
+        ObjectMapper reflectiveArrays = mapper(false, true);
+        ObjectMapper codecArrays = mapper(true, true);
+
+        for (Student student : students()) {
+            assertThat(codecArrays.writeValueAsString(student)).isEqualTo(reflectiveArrays.writeValueAsString(student));
+        }
+    }
+
+    @Test
+    void deserialize_ShouldRoundTripEverySerializedStudent() throws Exception {
+        for (Student student : students()) {
+            String json = reflective.writeValueAsString(student);
+            assertThat(reflective.writeValueAsString(codec.readValue(json, Student.class))).isEqualTo(json);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{}",
+            "{\"name\":\"Ann Lee\",\"passportNumber\":\"A1234567\",\"age\":30,\"email\":\"ann@example.com\",\"enrollmentDate\":\"2024-09-01T09:00\",\"graduationYear\":2027}",
+            "{\"id\":\"7\",\"age\":\"30\",\"graduationYear\":2027.0,\"version\":null,\"status\":\"SUSPENDED\"}",
+            "{\"enrollmentDate\":[2024,9,1,9,0,5,120000000],\"createdAt\":\" 2024-09-01T09:00:00 \",\"updatedAt\":\"2024-09-01T09:00:00.000001\"}",
+            "{\"enrollmentDate\":\"2024-09-01T09:00:00Z\",\"createdAt\":\"\",\"updatedAt\":\"2024-09-01T09:00:00.5\"}",
+            "{\"status\":null,\"active\":false,\"unknown\":{\"nested\":[1,2,3]},\"name\":\"Last\",\"name\":\"Wins\"}"
+    })
+    void deserialize_ShouldMatchReflectiveResult(String json) throws Exception {
+        assertThat(reflective.writeValueAsString(codec.readValue(json, Student.class)))
+                .isEqualTo(reflective.writeValueAsString(reflective.readValue(json, Student.class)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"status\":\"ENROLLED\"}",
+            "{\"age\":[1]}",
+            "{\"enrollmentDate\":\"2024-02-30T09:00:00\"}",
+            "{\"enrollmentDate\":\"yesterday\"}",
+            "[]"
+    })
+    void deserialize_WithInvalidInput_ShouldFailLikeReflective(String json) {
+        assertThatThrownBy(() -> reflective.readValue(json, Student.class)).isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> codec.readValue(json, Student.class)).isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    void deserialize_WithUnknownPropertiesRejected_ShouldFailLikeReflective() {
+        ObjectMapper strict = codec.copy().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        ObjectMapper reflectiveStrict = reflective.copy().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        assertThatThrownBy(() -> reflectiveStrict.readValue("{\"unknown\":1}", Student.class))
+                .isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> strict.readValue("{\"unknown\":1}", Student.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    void formatTimestamp_ShouldMatchIsoLocalDateTime() {
+        char[] buffer = new char[StudentJsonCodec.MAX_TIMESTAMP_LENGTH];
+        for (int nano : new int[]{0, 1, 10, 100_000_000, 120_000_000, 123_456_000, 123_456_789, 999_999_999}) {
+            LocalDateTime value = LocalDateTime.of(2024, 1, 2, 3, 4, 0, nano);
+            int length = StudentJsonCodec.formatTimestamp(value, buffer);
+
+            assertThat(new String(buffer, 0, length))
+                    .isEqualTo(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            assertThat(StudentJsonCodec.parseTimestamp(new String(buffer, 0, length))).isEqualTo(value);
+        }
+        assertThat(StudentJsonCodec.formatTimestamp(LocalDateTime.of(10000, 1, 1, 0, 0), buffer)).isEqualTo(-1);
+    }
+
+    private static List<Student> students() {
+        List<Student> students = new ArrayList<>();
+
+        Student complete = new Student("Ranga Karanam", "A1234567", 28, "ranga@example.com",
+                LocalDateTime.of(2023, 9, 1, 9, 0), 2026);
+        complete.setId(10001L);
+        complete.setCreatedAt(LocalDateTime.of(2023, 9, 1, 9, 0, 0, 123_456_000));
+        complete.setUpdatedAt(LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_999));
+        complete.setVersion(3L);
+        students.add(complete);
+
+        Student sparse = new Student("Jos\u00e9 \"Pepe\" \u00c1lvarez\n", "B7654321", null, null, null, null);
+        sparse.setStatus(null);
+        students.add(sparse);
+
+        for (StudentStatus status : StudentStatus.values()) {
+            Student student = new Student("Student " + status, "C000000" + status.ordinal(), 20, null,
+                    LocalDateTime.of(2025, 2, 28, 0, 0, 1, 1), 2028);
+            student.setStatus(status);
+            students.add(student);
+        }
+        return students;
+    }
+
+    private static ObjectMapper mapper(boolean withCodec, boolean timestampsAsArrays) {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, timestampsAsArrays)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (withCodec) {
+            builder.addModule(new SimpleModule()
+                    .addSerializer(Student.class, new StudentJsonCodec.Serializer())
+                    .addDeserializer(Student.class, new StudentJsonCodec.Deserializer()));
+        }
+        return builder.build();
+    }
+}
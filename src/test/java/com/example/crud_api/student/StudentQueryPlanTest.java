@@ -0,0 +1,114 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.sql.RecordedStatements;
+import com.example.crud_api.sql.StatementRecorder;
+import com.example.crud_api.sql.StatementRecordingConfig;
+import com.example.crud_api.student.dataset.StudentDatasetLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static com.example.crud_api.sql.SqlStatementType.SELECT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL Hibernate actually generates for the student finders, against
+ * a table large enough that H2 prefers an index over a scan whenever one applies. A finder whose
+ * plan falls back to {@code tableScan} has lost its index.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:query-plans")
+@ActiveProfiles("test")
+@Import(StatementRecordingConfig.class)
+class StudentQueryPlanTest {
+
+    private static final long DATASET_SIZE = 20_000;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MissingStudentCache missingStudentCache;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        if (new StudentDatasetLoader(dataSource).load(DATASET_SIZE, 42) > 0) {
+            missingStudentCache.clear();
+        }
+    }
+
+    @Test
+    void findByStatus_ShouldUseTheStatusIndex() throws Exception {
+        // When
+        String plan = explain(() -> studentRepository.findByStatus(StudentStatus.SUSPENDED), "SUSPENDED");
+
+        // Then
+        assertThat(plan).doesNotContain("tableScan").contains("IDX_STUDENT_STATUS");
+    }
+
+    @Test
+    void findActiveStudents_ShouldUseTheStatusIndex() throws Exception {
+        // When
+        String plan = explain(() -> studentRepository.findActiveStudents());
+
+        // Then
+        assertThat(plan).doesNotContain("tableScan").contains("IDX_STUDENT_STATUS");
+    }
+
+    @Test
+    void findByGraduationYear_ShouldUseTheGraduationYearIndex() throws Exception {
+        // When
+        String plan = explain(() -> studentRepository.findByGraduationYear(2027), 2027);
+
+        // Then
+        assertThat(plan).doesNotContain("tableScan").contains("IDX_STUDENT_GRADUATION_YEAR");
+    }
+
+    @Test
+    void findByEmail_ShouldUseTheUniqueEmailIndex() throws Exception {
+        // Given
+        String email = "ranga@example.com";
+
+        // When
+        String plan = explain(() -> studentRepository.findByEmail(email), email);
+
+        // Then
+        assertThat(plan).doesNotContain("tableScan").containsPattern("/\\* PUBLIC\\.\\w+: \"?EMAIL\"? = ");
+    }
+
+    @Test
+    void findByPassportNumber_ShouldUseTheUniquePassportIndex() throws Exception {
+        // Given
+        String passportNumber = "E1234567";
+
+        // When
+        String plan = explain(() -> studentRepository.findByPassportNumber(passportNumber), passportNumber);
+
+        // Then
+        assertThat(plan).doesNotContain("tableScan").containsPattern("/\\* PUBLIC\\.\\w+: \"?PASSPORT_NUMBER\"? = ");
+    }
+
+    /**
+     * Records the single query {@code finder} runs and explains it with the same parameters.
+     */
+    private String explain(StatementRecorder.Action finder, Object... parameters) throws Exception {
+        RecordedStatements statements = StatementRecorder.record(finder);
+        assertThat(statements.counts()).as(statements.toString()).isEqualTo(Map.of(SELECT, 1L));
+
+        String plan = jdbcTemplate.queryForObject("explain " + statements.sql(SELECT).get(0), String.class, parameters);
+        assertThat(plan).isNotNull();
+        return plan;
+    }
+}
@@ -305,4 +305,4 @@ class StudentResourceTest {
 
         verify(studentService, never()).deleteStudent(any());
     }
-}
\ No newline at end of file
+}
@@ -3,9 +3,12 @@ package com.example.crud_api.student;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -24,6 +27,18 @@ class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private StudentArchiveRepository studentArchiveRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StudentDuplicateIndex studentDuplicateIndex;
+
+    @Mock
+    private MissingStudentCache missingStudentCache;
+
     @InjectMocks
     private StudentService studentService;
 
@@ -95,6 +110,66 @@ class StudentServiceTest {
         verify(studentRepository).findById(999L);
     }
 
+    @Test
+    void findStudentById_WithMissingId_ShouldRememberIt() {
+        // Given
+        when(missingStudentCache.generation()).thenReturn(7L);
+        when(studentRepository.findById(999L)).thenReturn(Optional.empty());
+        when(studentArchiveRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When
+        studentService.findStudentById(999L);
+
+        // Then
+        verify(missingStudentCache).markMissing(999L, 7L);
+    }
+
+    @Test
+    void findStudentById_WithKnownMissingId_ShouldSkipRepositories() {
+        // Given
+        when(missingStudentCache.isKnownMissing(999L)).thenReturn(true);
+
+        // When
+        Optional<Student> result = studentService.findStudentById(999L);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(studentRepository, studentArchiveRepository);
+    }
+
+    @Test
+    void findStudentById_WithArchivedId_ShouldFallBackToArchive() {
+        // Given
+        ArchivedStudent archivedStudent = mock(ArchivedStudent.class);
+        existingStudent.setStatus(StudentStatus.GRADUATED);
+        when(archivedStudent.toStudent()).thenReturn(existingStudent);
+        when(studentRepository.findById(2L)).thenReturn(Optional.empty());
+        when(studentArchiveRepository.findById(2L)).thenReturn(Optional.of(archivedStudent));
+
+        // When
+        Optional<Student> result = studentService.findStudentById(2L);
+
+        // Then
+        assertThat(result).contains(existingStudent);
+        verify(studentRepository).findById(2L);
+        verify(studentArchiveRepository).findById(2L);
+    }
+
+    @Test
+    void findAllStudentsIncludingArchived_ShouldMergeHotAndArchivedStudents() {
+        // Given
+        ArchivedStudent archivedStudent = mock(ArchivedStudent.class);
+        when(archivedStudent.toStudent()).thenReturn(existingStudent);
+        when(studentRepository.findAll()).thenReturn(List.of(testStudent));
+        when(studentArchiveRepository.findAll()).thenReturn(List.of(archivedStudent));
+
+        // When
+        List<Student> result = studentService.findAllStudentsIncludingArchived();
+
+        // Then
+        assertThat(result).containsExactly(testStudent, existingStudent);
+    }
+
     @Test
     void createStudent_ShouldSaveAndReturnStudent() {
         // Given
@@ -188,6 +263,45 @@ class StudentServiceTest {
         verify(studentRepository).save(testStudent);
     }
 
+    @Test
+    void createStudent_WithPassportOfArchivedStudent_ShouldThrowException() {
+        // Given
+        Student newStudent = new Student("Alice Brown", "C9876543", 20, "alice@example.com", null, 2027);
+        when(studentArchiveRepository.existsByPassportNumberOrEmail("C9876543", "alice@example.com")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> studentService.createStudent(newStudent))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(studentRepository, never()).save(any());
+    }
+
+    @Test
+    void updateStudent_WithEmailOfArchivedStudent_ShouldThrowException() {
+        // Given
+        Student updateData = new Student("John Doe", "A1234567", 25, "taken@example.com", LocalDateTime.now(), 2025);
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+        when(studentArchiveRepository.existsByEmail("taken@example.com")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> studentService.updateStudent(1L, updateData))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(studentRepository, never()).save(any());
+    }
+
+    @Test
+    void updateStudent_WithUnchangedEmail_ShouldNotCheckArchive() {
+        // Given
+        Student updateData = new Student("John Renamed", "A1234567", 25, "john@example.com", LocalDateTime.now(), 2025);
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+        when(studentRepository.save(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        studentService.updateStudent(1L, updateData);
+
+        // Then
+        verify(studentArchiveRepository, never()).existsByEmail(any());
+    }
+
     @Test
     void updateStudent_WithInvalidId_ShouldThrowException() {
         // Given
@@ -206,28 +320,47 @@ class StudentServiceTest {
     @Test
     void deleteStudent_WithValidId_ShouldDeleteStudent() {
         // Given
-        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
 
         // When
         studentService.deleteStudent(1L);
 
         // Then
-        verify(studentRepository).existsById(1L);
-        verify(studentRepository).deleteById(1L);
+        verify(studentRepository).findById(1L);
+        verify(studentRepository).delete(testStudent);
     }
 
     @Test
     void deleteStudent_WithInvalidId_ShouldThrowException() {
         // Given
-        when(studentRepository.existsById(999L)).thenReturn(false);
+        when(studentRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> studentService.deleteStudent(999L))
                 .isInstanceOf(StudentNotFoundException.class)
                 .hasMessage("Student not found with id: 999");
 
-        verify(studentRepository).existsById(999L);
+        verify(studentRepository).findById(999L);
+        verify(studentRepository, never()).delete(any());
         verify(studentRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void deleteStudent_ShouldPublishTombstoneWithLastState() {
+        // Given
+        testStudent.setStatus(StudentStatus.SUSPENDED);
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+
+        // When
+        studentService.deleteStudent(1L);
+
+        // Then
+        ArgumentCaptor<StudentChangeEvent> event = ArgumentCaptor.forClass(StudentChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(StudentChangeType.DELETED);
+        assertThat(event.getValue().studentId()).isEqualTo(1L);
+        assertThat(event.getValue().previousStatus()).isEqualTo(StudentStatus.SUSPENDED);
     }
 
     @Test
@@ -276,6 +409,23 @@ class StudentServiceTest {
         verify(studentRepository).save(testStudent);
     }
 
+    @Test
+    void suspendStudent_ShouldPublishStatusChangeWithPreviousStatus() {
+        // Given
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+        when(studentRepository.save(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        studentService.suspendStudent(1L);
+
+        // Then
+        ArgumentCaptor<StudentChangeEvent> event = ArgumentCaptor.forClass(StudentChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(StudentChangeType.STATUS_CHANGED);
+        assertThat(event.getValue().previousStatus()).isEqualTo(StudentStatus.ACTIVE);
+        assertThat(event.getValue().student().getStatus()).isEqualTo(StudentStatus.SUSPENDED);
+    }
+
     @Test
     void graduateStudent_WithInvalidId_ShouldThrowException() {
         // Given
@@ -301,4 +451,43 @@ class StudentServiceTest {
         assertThat(result.get(0).getStatus()).isEqualTo(StudentStatus.ACTIVE);
         verify(studentRepository).findByStatus(StudentStatus.ACTIVE);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findStudentsByStatus_IncludingArchived_ShouldMergeArchivedStudentsInThatStatus() {
+        // Given
+        existingStudent.setStatus(StudentStatus.GRADUATED);
+        ArchivedStudent archivedStudent = mock(ArchivedStudent.class);
+        when(archivedStudent.toStudent()).thenReturn(existingStudent);
+        when(studentRepository.findByStatus(StudentStatus.GRADUATED)).thenReturn(List.of(testStudent));
+        when(studentArchiveRepository.findByStatus(StudentStatus.GRADUATED)).thenReturn(List.of(archivedStudent));
+
+        // When
+        List<Student> result = studentService.findStudentsByStatus(StudentStatus.GRADUATED, true);
+
+        // Then
+        assertThat(result).containsExactly(testStudent, existingStudent);
+    }
+
+    @Test
+    void findStudentsByStatus_ForStatusNeverArchived_ShouldSkipArchive() {
+        // Given
+        when(studentRepository.findByStatus(StudentStatus.ACTIVE)).thenReturn(List.of(testStudent));
+
+        // When
+        List<Student> result = studentService.findStudentsByStatus(StudentStatus.ACTIVE, true);
+
+        // Then
+        assertThat(result).containsExactly(testStudent);
+        verifyNoInteractions(studentArchiveRepository);
+    }
+
+    @Test
+    void findDuplicatePairs_WithInvalidLimit_ShouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> studentService.findDuplicatePairs(0.75, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> studentService.findDuplicatePairs(1.5, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(studentDuplicateIndex);
+    }
+}
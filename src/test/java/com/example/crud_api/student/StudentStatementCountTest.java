@@ -0,0 +1,195 @@
+package com.example.crud_api.student;
+
+import com.example.crud_api.sql.RecordedStatements;
+import com.example.crud_api.sql.StatementRecorder;
+import com.example.crud_api.sql.StatementRecordingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.crud_api.sql.SqlStatementType.DELETE;
+import static com.example.crud_api.sql.SqlStatementType.INSERT;
+import static com.example.crud_api.sql.SqlStatementType.SELECT;
+import static com.example.crud_api.sql.SqlStatementType.UPDATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the exact statements each student operation costs, so an added query, a lost batch or an
+ * N+1 shows up as a failing test rather than as a slower endpoint.
+ * <p>
+ * Every write pays for its change log entry ({@code student_change}, an identity insert) and its
+ * history row ({@code student_history}, inserted on commit). Sequence reads for the history IDs
+ * are left out of the counts, see {@link RecordedStatements#counts()}.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:statement-counts")
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Import(StatementRecordingConfig.class)
+class StudentStatementCountTest {
+
+    private static final AtomicInteger PASSPORTS = new AtomicInteger();
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private StudentService studentService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void findStudentById_ShouldSelectOnce() throws Exception {
+        // Given
+        Long id = createStudent().getId();
+
+        // When
+        RecordedStatements statements = StatementRecorder.record(() -> studentService.findStudentById(id));
+
+        // Then
+        assertThat(statements.counts()).as(statements.toString()).isEqualTo(Map.of(SELECT, 1L));
+    }
+
+    @Test
+    void findStudentById_WhenMissing_ShouldCheckTheArchiveOnlyOnce() throws Exception {
+        // Given
+        long id = 987_654_321L;
+
+        // When
+        RecordedStatements first = StatementRecorder.record(() -> studentService.findStudentById(id));
+        RecordedStatements second = StatementRecorder.record(() -> studentService.findStudentById(id));
+
+        // Then - student and archive lookups, then the missing-ID cache answers
+        assertThat(first.counts()).as(first.toString()).isEqualTo(Map.of(SELECT, 2L));
+        assertThat(second.sql()).as(second.toString()).isEmpty();
+    }
+
+    @Test
+    void createStudent_ShouldInsertStudentChangeAndHistory() throws Exception {
+        // Given
+        Student student = newStudent();
+
+        // When
+        RecordedStatements statements = StatementRecorder.record(() -> studentService.createStudent(student));
+
+        // Then - one archive lookup for passport and email clashes
+        assertThat(statements.counts()).as(statements.toString()).isEqualTo(Map.of(SELECT, 1L, INSERT, 3L));
+    }
+
+    @Test
+    void updateStudent_ShouldSelectUpdateAndRecordTheChange() throws Exception {
+        // Given
+        Student existing = createStudent();
+        Student changes = new Student(existing.getName() + " Jr", existing.getPassportNumber(), existing.getAge() + 1,
+                existing.getEmail(), existing.getEnrollmentDate(), existing.getGraduationYear());
+
+        // When
+        RecordedStatements statements = StatementRecorder.record(
+                () -> studentService.updateStudent(existing.getId(), changes));
+
+        // Then
+        assertThat(statements.counts()).as(statements.toString())
+                .isEqualTo(Map.of(SELECT, 1L, UPDATE, 1L, INSERT, 2L));
+    }
+
+    @Test
+    void suspendStudent_ShouldSelectUpdateAndRecordTheChange() throws Exception {
+        // Given
+        Long id = createStudent().getId();
+
+        // When
+        RecordedStatements statements = StatementRecorder.record(() -> studentService.suspendStudent(id));
+
+        // Then
+        assertThat(statements.counts()).as(statements.toString())
+                .isEqualTo(Map.of(SELECT, 1L, UPDATE, 1L, INSERT, 2L));
+    }
+
+    @Test
+    void deleteStudent_ShouldSelectDeleteAndRecordTheTombstone() throws Exception {
+        // Given
+        Long id = createStudent().getId();
+
+        // When
+        RecordedStatements statements = StatementRecorder.record(() -> studentService.deleteStudent(id));
+
+        // Then
+        assertThat(statements.counts()).as(statements.toString())
+                .isEqualTo(Map.of(SELECT, 1L, DELETE, 1L, INSERT, 2L));
+    }
+
+    @Test
+    void findActiveStudents_ShouldSelectOnceWhateverTheRosterSize() throws Exception {
+        // Given
+        createStudent();
+        createStudent();
+
+        // When
+        RecordedStatements statements = StatementRecorder.record(() -> studentService.findActiveStudents());
+
+        // Then
+        assertThat(statements.counts()).as(statements.toString()).isEqualTo(Map.of(SELECT, 1L));
+    }
+
+    @Test
+    void getStudent_ShouldCostTheSameAsTheServiceCall() throws Exception {
+        // Given
+        Long id = createStudent().getId();
+
+        // When
+        RecordedStatements statements = StatementRecorder.record(() -> mockMvc.perform(get("/api/v1/students/{id}", id))
+                .andExpect(status().isOk()));
+
+        // Then
+        assertThat(statements.counts()).as(statements.toString()).isEqualTo(Map.of(SELECT, 1L));
+    }
+
+    @Test
+    void postStudent_ShouldCostTheSameAsTheServiceCall() throws Exception {
+        // Given
+        Student student = newStudent();
+        String json = """
+                {"name": "%s", "passportNumber": "%s", "age": %d, "email": "%s",
+                 "enrollmentDate": "2026-09-01T09:00:00", "graduationYear": %d}
+                """.formatted(student.getName(), student.getPassportNumber(), student.getAge(), student.getEmail(),
+                student.getGraduationYear());
+
+        // When
+        RecordedStatements statements = StatementRecorder.record(() -> mockMvc.perform(post("/api/v1/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated()));
+
+        // Then - duplicate candidates come from the in-memory index, only archive clashes hit the database
+        assertThat(statements.counts()).as(statements.toString()).isEqualTo(Map.of(SELECT, 1L, INSERT, 3L));
+    }
+
+    private Student createStudent() {
+        return studentService.createStudent(newStudent());
+    }
+
+    private static Student newStudent() {
+        int n = PASSPORTS.incrementAndGet();
+        return new Student("Statement Count " + n, String.format("Q%07d", n), 21,
+                "statements-" + n + "@example.com", LocalDateTime.now(), 2028);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.crud_api.student;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link StudentValidator} must report exactly what Bean Validation reports for the annotations on {@link Student}.
+ */
+class StudentValidatorTest {
+
+    private static Validator beanValidator;
+
+    private final StudentValidator studentValidator = new StudentValidator();
+
+    @BeforeAll
+    static void setUpBeanValidator() {
+        beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @Test
+    void validStudent_ShouldHaveNoErrors() {
+        assertThat(studentValidatorErrors(student(s -> { }))).isEmpty();
+    }
+
+    @Test
+    void invalidStudent_ShouldReportEveryViolatedRule() {
+        // Given
+        Student student = student(s -> {
+            s.setName("");
+            s.setPassportNumber(null);
+            s.setAge(null);
+            s.setEmail("not-an-email");
+            s.setEnrollmentDate(null);
+            s.setGraduationYear(2031);
+            s.setStatus(null);
+        });
+
+        // When
+        List<String> errors = studentValidatorErrors(student);
+
+        // Then
+        assertThat(errors).containsExactlyInAnyOrder(
+                "name: Name is required",
+                "name: Name must be between 2 and 100 characters",
+                "passportNumber: Passport number is required",
+                "age: Age is required",
+                "email: Please provide a valid email address",
+                "enrollmentDate: Enrollment date is required",
+                "graduationYear: Graduation year cannot exceed 2030",
+                "status: Status is required");
+        assertThat(errors).isEqualTo(beanValidationErrors(student));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" ", "\t\n", "A", "Al", "Jos\u00e9 \u00c1lvarez", " x "})
+    void name_ShouldMatchBeanValidation(String name) {
+        assertParity(student(s -> s.setName(name)));
+    }
+
+    @Test
+    void nameLengthBounds_ShouldMatchBeanValidation() {
+        assertParity(student(s -> s.setName("a".repeat(100))));
+        assertParity(student(s -> s.setName("a".repeat(101))));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" ", "A1234567", "Z0000000", "a1234567", "A123456", "A12345678", "AB234567",
+            "A1234567\n", " A1234567", "\uff211234567", "A123456\u0661", "INVALID"})
+    void passportNumber_ShouldMatchBeanValidation(String passportNumber) {
+        assertParity(student(s -> s.setPassportNumber(passportNumber)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, 0, 15, 16, 17, 99, 100, 101, Integer.MAX_VALUE})
+    void age_ShouldMatchBeanValidation(int age) {
+        assertParity(student(s -> s.setAge(age)));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {
+            "john@example.com",
+            "John.Doe+tag@mail.example.co.uk",
+            "o'brien_{x}@example-school.edu",
+            "a@b",
+            "user@123.45",
+            "not-an-email",
+            "@example.com",
+            "john@",
+            "john@@example.com",
+            "john..doe@example.com",
+            ".john@example.com",
+            "john.@example.com",
+            "john@example..com",
+            "john@.example.com",
+            "john@example.com.",
+            "john@-example.com",
+            "john@example-.com",
+            "john@ex--ample.com",
+            "john@ex_ample.com",
+            "john doe@example.com",
+            "\"john doe\"@example.com",
+            "john@[192.168.0.1]",
+            "jos\u00e9@example.com",
+            "john@b\u00fccher.example",
+            "john@xn--bcher-kva.example",
+            "john@example.com\n"
+    })
+    void email_ShouldMatchBeanValidation(String email) {
+        assertParity(student(s -> s.setEmail(email)));
+    }
+
+    @Test
+    void emailLengthBounds_ShouldMatchBeanValidation() {
+        assertParity(student(s -> s.setEmail("a".repeat(64) + "@example.com")));
+        assertParity(student(s -> s.setEmail("a".repeat(65) + "@example.com")));
+        assertParity(student(s -> s.setEmail("john@" + "a".repeat(63) + ".com")));
+        assertParity(student(s -> s.setEmail("john@" + "a".repeat(64) + ".com")));
+        assertParity(student(s -> s.setEmail("john@" + ("a".repeat(62) + ".").repeat(4) + "com")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("graduationYears")
+    void graduationYear_ShouldMatchBeanValidation(Integer graduationYear) {
+        assertParity(student(s -> s.setGraduationYear(graduationYear)));
+    }
+
+    @Test
+    void missingEnrollmentDateOrStatus_ShouldMatchBeanValidation() {
+        assertParity(student(s -> s.setEnrollmentDate(null)));
+        assertParity(student(s -> s.setStatus(null)));
+    }
+
+    @Test
+    void commonEmails_ShouldBeDecidedWithoutBeanValidation() {
+        assertThat(StudentValidator.isCommonEmail("john.doe@example.com")).isTrue();
+        assertThat(StudentValidator.isCommonEmail("\"john doe\"@example.com")).isFalse();
+        assertThat(StudentValidator.isCommonEmail("john@[192.168.0.1]")).isFalse();
+    }
+
+    static Stream<Integer> graduationYears() {
+        return Stream.of(null, 2019, 2020, 2025, 2030, 2031);
+    }
+
+    private void assertParity(Student student) {
+        assertThat(studentValidatorErrors(student)).isEqualTo(beanValidationErrors(student));
+    }
+
+    private List<String> studentValidatorErrors(Student student) {
+        Errors errors = new BeanPropertyBindingResult(student, "student");
+        studentValidator.validate(student, errors);
+        return errors.getFieldErrors().stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .sorted()
+                .toList();
+    }
+
+    private static List<String> beanValidationErrors(Student student) {
+        return beanValidator.validate(student).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    private static Student student(Consumer<Student> change) {
+        Student student = new Student("John Doe", "A1234567", 25, "john@example.com", LocalDateTime.now(), 2025);
+        change.accept(student);
+        return student;
+    }
+}
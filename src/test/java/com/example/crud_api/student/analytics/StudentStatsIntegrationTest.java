@@ -0,0 +1,55 @@
+package com.example.crud_api.student.analytics;
+
+import com.example.crud_api.student.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class StudentStatsIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private StudentService studentService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void stats_ShouldCoverEveryStudentLoadedAtStartup() throws Exception {
+        // Given
+        int students = studentService.findAllStudentsIncludingArchived().size();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/students/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(students)))
+                .andExpect(jsonPath("$.byStatus.ACTIVE", greaterThanOrEqualTo(0)))
+                .andExpect(jsonPath("$.ageHistogram", not(empty())))
+                .andExpect(jsonPath("$.enrollmentsByMonth", aMapWithSize(greaterThan(0))));
+    }
+
+    @Test
+    void stats_WithInvalidBucketWidth_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/students/stats").param("ageBucketWidth", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.crud_api.student.analytics;
+
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StudentStatsProjectionTest {
+
+    private StudentStatsProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        projection = new StudentStatsProjection();
+        projection.upsert(student(1L, 21, 2025, StudentStatus.ACTIVE, LocalDateTime.of(2023, 9, 1, 9, 0)));
+        projection.upsert(student(2L, 23, 2025, StudentStatus.SUSPENDED, LocalDateTime.of(2023, 9, 15, 9, 0)));
+        projection.upsert(student(3L, 27, 2026, StudentStatus.ACTIVE, LocalDateTime.of(2023, 11, 1, 9, 0)));
+        projection.upsert(student(4L, 30, null, StudentStatus.GRADUATED, LocalDateTime.of(2024, 1, 10, 9, 0)));
+    }
+
+    @Test
+    void compute_ShouldGroupByStatusAndGraduationYear() {
+        // When
+        StudentStats stats = projection.compute(null, null, 5);
+
+        // Then
+        assertThat(stats.total()).isEqualTo(4);
+        assertThat(stats.byStatus())
+                .containsEntry(StudentStatus.ACTIVE, 2L)
+                .containsEntry(StudentStatus.SUSPENDED, 1L)
+                .containsEntry(StudentStatus.GRADUATED, 1L)
+                .containsEntry(StudentStatus.WITHDRAWN, 0L);
+        assertThat(stats.byStatusAndGraduationYear().get(StudentStatus.ACTIVE))
+                .containsExactly(entry("2025", 1L), entry("2026", 1L));
+        assertThat(stats.byStatusAndGraduationYear().get(StudentStatus.GRADUATED))
+                .containsExactly(entry("none", 1L));
+    }
+
+    @Test
+    void compute_ShouldBuildContiguousHistograms() {
+        // When
+        StudentStats stats = projection.compute(null, null, 5);
+
+        // Then
+        assertThat(stats.ageHistogram()).containsExactly(
+                new StudentStats.AgeBucket(20, 24, 2),
+                new StudentStats.AgeBucket(25, 29, 1),
+                new StudentStats.AgeBucket(30, 34, 1));
+        assertThat(stats.enrollmentsByMonth()).containsExactly(
+                entry("2023-09", 2L),
+                entry("2023-10", 0L),
+                entry("2023-11", 1L),
+                entry("2023-12", 0L),
+                entry("2024-01", 1L));
+    }
+
+    @Test
+    void compute_WithFilters_ShouldOnlyCountMatchingStudents() {
+        // When
+        StudentStats stats = projection.compute(StudentStatus.ACTIVE, 2025, 1);
+
+        // Then
+        assertThat(stats.total()).isEqualTo(1);
+        assertThat(stats.ageHistogram()).containsExactly(new StudentStats.AgeBucket(21, 21, 1));
+    }
+
+    @Test
+    void upsertAndRemove_ShouldKeepRowsCurrent() {
+        // When
+        projection.upsert(student(1L, 22, 2025, StudentStatus.GRADUATED, LocalDateTime.of(2023, 9, 1, 9, 0)));
+        projection.remove(2L);
+        projection.remove(99L);
+
+        // Then
+        StudentStats stats = projection.compute(null, null, 5);
+        assertThat(projection.size()).isEqualTo(3);
+        assertThat(stats.byStatus())
+                .containsEntry(StudentStatus.ACTIVE, 1L)
+                .containsEntry(StudentStatus.SUSPENDED, 0L)
+                .containsEntry(StudentStatus.GRADUATED, 2L);
+    }
+
+    @Test
+    void compute_WithInvalidBucketWidth_ShouldThrow() {
+        assertThatThrownBy(() -> projection.compute(null, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Student student(Long id, Integer age, Integer graduationYear, StudentStatus status,
+                                   LocalDateTime enrollmentDate) {
+        Student student = new Student("Student " + id, "P" + id, age, id + "@example.com", enrollmentDate, graduationYear);
+        student.setId(id);
+        student.setStatus(status);
+        return student;
+    }
+}
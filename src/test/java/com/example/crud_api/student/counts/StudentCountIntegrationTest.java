@@ -0,0 +1,146 @@
+package com.example.crud_api.student.counts;
+
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentService;
+import com.example.crud_api.student.StudentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Not @Transactional: counts follow committed writes only
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class StudentCountIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentCountService studentCountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        studentCountService.reconcile();
+    }
+
+    @Test
+    void counts_ShouldMatchRoster() throws Exception {
+        // Given
+        int students = studentService.findAllStudentsIncludingArchived().size();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/students/counts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(students)))
+                .andExpect(jsonPath("$.byStatus.WITHDRAWN", greaterThanOrEqualTo(0)));
+    }
+
+    @Test
+    void counts_ShouldFollowCommittedWritesAndFlushToTable() {
+        // Given
+        long activeBefore = studentCountService.currentCounts().byStatus().get(StudentStatus.ACTIVE);
+        Student student = studentService.createStudent(new Student(
+                "Count Student", "K1234567", 21, "count@example.com", LocalDateTime.now(), 2029));
+
+        try {
+            // When
+            studentService.suspendStudent(student.getId());
+            studentCountService.flush();
+
+            // Then
+            StudentCounts counts = studentCountService.currentCounts();
+            assertThat(counts.byStatus().get(StudentStatus.ACTIVE)).isEqualTo(activeBefore);
+            assertThat(counts.byStatusAndGraduationYear().get(StudentStatus.SUSPENDED)).containsKey("2029");
+            assertThat(jdbcTemplate.queryForObject(
+                    "select student_count from student_counts where status = 'SUSPENDED' and graduation_year = 2029",
+                    Long.class)).isEqualTo(counts.byStatusAndGraduationYear().get(StudentStatus.SUSPENDED).get("2029"));
+            assertThat(studentCountService.reconcile()).isZero();
+        } finally {
+            studentService.deleteStudent(student.getId());
+        }
+    }
+
+    @Test
+    void reconcile_WhileAWriteIsCommitting_ShouldCountItOnce() throws Exception {
+        // Given - a create that has committed but whose delta is not applied yet
+        long totalBefore = studentCountService.currentCounts().total();
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        CompletableFuture<Student> writer = CompletableFuture.supplyAsync(() ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    Student created = studentService.createStudent(new Student(
+                            "Racing Student", "K7654321", 22, "racing@example.com", LocalDateTime.now(), 2029));
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public int getOrder() {
+                            return Ordered.HIGHEST_PRECEDENCE;
+                        }
+
+                        @Override
+                        public void afterCommit() {
+                            committed.countDown();
+                            try {
+                                proceed.await(5, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    });
+                    return created;
+                }));
+        assertThat(committed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // When
+            CompletableFuture<Long> reconciled = CompletableFuture.supplyAsync(studentCountService::reconcile);
+            Thread.sleep(200);
+            assertThat(reconciled).isNotDone();
+            proceed.countDown();
+
+            // Then
+            assertThat(reconciled.get(5, TimeUnit.SECONDS)).isZero();
+            studentCountService.flush();
+            assertThat(studentCountService.currentCounts().total()).isEqualTo(totalBefore + 1);
+            assertThat(jdbcTemplate.queryForObject("select sum(student_count) from student_counts", Long.class))
+                    .isEqualTo(totalBefore + 1);
+        } finally {
+            proceed.countDown();
+            studentService.deleteStudent(writer.get(5, TimeUnit.SECONDS).getId());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.crud_api.student.dataset;
+
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentStatus;
+import com.example.crud_api.student.StudentValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentDatasetGeneratorTest {
+
+    @Test
+    void generate_ShouldProduceValidUniqueStudents() {
+        // Given
+        StudentValidator validator = new StudentValidator();
+        Set<String> passportNumbers = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Map<StudentStatus, Integer> statuses = new EnumMap<>(StudentStatus.class);
+
+        // When
+        new StudentDatasetGenerator(42, Set.of()).generate(20_000, generated -> {
+            Student student = new Student(generated.name(), generated.passportNumber(), generated.age(),
+                    generated.email(), generated.enrollmentDate(), generated.graduationYear());
+            Errors errors = new BeanPropertyBindingResult(student, "student");
+            validator.validate(student, errors);
+
+            // Then
+            assertThat(errors.getAllErrors()).as(generated.toString()).isEmpty();
+            assertThat(passportNumbers.add(generated.passportNumber())).as(generated.passportNumber()).isTrue();
+            assertThat(emails.add(generated.email())).as(generated.email()).isTrue();
+            statuses.merge(generated.status(), 1, Integer::sum);
+        });
+
+        // Then - every status occurs, and most students are active or graduated
+        assertThat(statuses).containsOnlyKeys(StudentStatus.values());
+        assertThat(statuses.get(StudentStatus.ACTIVE) + statuses.get(StudentStatus.GRADUATED))
+                .isGreaterThan(16_000);
+    }
+
+    @Test
+    void generate_WithSameSeed_ShouldBeDeterministic() throws IOException {
+        // Given
+        StringWriter first = new StringWriter();
+        StringWriter second = new StringWriter();
+        StringWriter otherSeed = new StringWriter();
+
+        // When
+        new StudentDatasetGenerator(7, Set.of()).writeCsv(500, first);
+        new StudentDatasetGenerator(7, Set.of()).writeCsv(500, second);
+        new StudentDatasetGenerator(8, Set.of()).writeCsv(500, otherSeed);
+
+        // Then
+        assertThat(first.toString()).isEqualTo(second.toString()).isNotEqualTo(otherSeed.toString());
+        assertThat(first.toString().lines())
+                .hasSize(501)
+                .first().isEqualTo(StudentDatasetGenerator.CSV_COLUMNS);
+    }
+
+    @Test
+    void generate_ShouldSkipReservedPassportNumbers() {
+        // Given
+        List<String> unrestricted = passportNumbers(new StudentDatasetGenerator(42, Set.of()), 10);
+        Set<String> reserved = Set.of(unrestricted.get(0), unrestricted.get(3));
+
+        // When
+        List<String> restricted = passportNumbers(new StudentDatasetGenerator(42, reserved), 10);
+
+        // Then
+        assertThat(restricted).doesNotContainAnyElementsOf(reserved).hasSize(10);
+        assertThat(restricted).containsAll(unrestricted.stream().filter(p -> !reserved.contains(p)).toList());
+    }
+
+    @Test
+    void passportNumber_ShouldCoverTheWholeRange() {
+        assertThat(StudentDatasetGenerator.passportNumber(0)).isEqualTo("A0000000");
+        assertThat(StudentDatasetGenerator.passportNumber(12_345_678)).isEqualTo("B2345678");
+        assertThat(StudentDatasetGenerator.passportNumber(259_999_999)).isEqualTo("Z9999999");
+    }
+
+    private static List<String> passportNumbers(StudentDatasetGenerator generator, int count) {
+        List<String> passportNumbers = new ArrayList<>();
+        generator.generate(count, student -> passportNumbers.add(student.passportNumber()));
+        return passportNumbers;
+    }
+}
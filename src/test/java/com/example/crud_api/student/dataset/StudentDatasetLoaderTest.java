@@ -0,0 +1,83 @@
+package com.example.crud_api.student.dataset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentDatasetLoaderTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:dataset-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql"), new ClassPathResource("data.sql"))
+                .execute(dataSource);
+    }
+
+    @Test
+    void load_ShouldFillTableUpToSize() {
+        // When
+        long loaded = new StudentDatasetLoader(dataSource).load(2_000, 42);
+
+        // Then - the three seed students count towards the size
+        assertThat(loaded).isEqualTo(1_997);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from student", Long.class)).isEqualTo(2_000);
+        assertThat(jdbcTemplate.queryForObject("select count(distinct status) from student", Integer.class))
+                .isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from student where email is null or created_at is null", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from student s where not exists"
+                        + " (select 1 from student_history h where h.student_id = s.id)", Long.class)).isZero();
+    }
+
+    @Test
+    void load_PastTheSeedIds_ShouldNotCollideWithThem() {
+        // When - the seed students have explicit IDs 10001 to 10003, ahead of the identity
+        long loaded = new StudentDatasetLoader(dataSource).load(10_010, 42);
+
+        // Then
+        assertThat(loaded).isEqualTo(10_007);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from student where id > 10003", Long.class))
+                .isEqualTo(10_007);
+    }
+
+    @Test
+    void load_WhenAlreadyLoaded_ShouldInsertNothing() {
+        // Given
+        new StudentDatasetLoader(dataSource).load(1_000, 42);
+
+        // When
+        long loaded = new StudentDatasetLoader(dataSource).load(1_000, 42);
+
+        // Then
+        assertThat(loaded).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from student", Long.class)).isEqualTo(1_000);
+    }
+
+    @Test
+    void load_ToLargerSize_ShouldAddStudentsWithoutCollisions() {
+        // Given
+        new StudentDatasetLoader(dataSource).load(1_000, 42);
+
+        // When
+        long loaded = new StudentDatasetLoader(dataSource).load(1_500, 42);
+
+        // Then - existing students keep their single history row
+        assertThat(loaded).isEqualTo(500);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from student_history", Long.class)).isEqualTo(1_500);
+        assertThat(jdbcTemplate.queryForObject("select count(distinct passport_number) from student", Long.class))
+                .isEqualTo(1_500);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.crud_api.student.memory;
+
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileStudentMutationLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recovery_ShouldReplayLoggedMutations() {
+        // Given
+        StudentMutationLog log = open(WalDurability.FSYNC_PER_COMMIT);
+        InMemoryStudentRepository repository = new InMemoryStudentRepository(16, log);
+        Student john = repository.save(student("John Doe", "A1234567", "john@example.com"));
+        Student jane = repository.save(student("Jane Doe", "B1234567", "jane@example.com"));
+        john.suspend();
+        repository.save(john);
+        repository.deleteById(jane.getId());
+        log.close();
+
+        // When
+        InMemoryStudentRepository recovered = new InMemoryStudentRepository(16, open(WalDurability.FSYNC_PER_COMMIT));
+
+        // Then
+        assertThat(recovered.count()).isEqualTo(1);
+        assertThat(recovered.findById(john.getId())).get()
+                .extracting(Student::getStatus, Student::getVersion, Student::getUpdatedAt)
+                .containsExactly(StudentStatus.SUSPENDED, 1L, john.getUpdatedAt());
+        assertThat(recovered.existsByPassportNumber("B1234567")).isFalse();
+        assertThat(recovered.save(student("New Student", "C1234567", "new@example.com")).getId())
+                .isEqualTo(jane.getId() + 1);
+    }
+
+    @Test
+    void snapshot_ShouldReplaceOlderSegmentsAndRecoverWithTail() throws IOException {
+        // Given
+        StudentMutationLog log = open(WalDurability.OS);
+        InMemoryStudentRepository repository = new InMemoryStudentRepository(16, log);
+        repository.save(student("John Doe", "A1234567", "john@example.com"));
+        repository.snapshot();
+        repository.save(student("Jane Doe", "B1234567", "jane@example.com"));
+        log.close();
+
+        // When
+        InMemoryStudentRepository recovered = new InMemoryStudentRepository(16, open(WalDurability.OS));
+
+        // Then
+        assertThat(recovered.findAll()).extracting(Student::getName).containsExactly("John Doe", "Jane Doe");
+        assertThat(files("wal-")).hasSize(2);
+        assertThat(files("snapshot-")).hasSize(1);
+        assertThat(recovered.mutationsSinceSnapshot()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshot_ShouldKeepIdsOfDeletedStudentsRetired() {
+        // Given - the student with the highest id is deleted before the snapshot
+        StudentMutationLog log = open(WalDurability.OS);
+        InMemoryStudentRepository repository = new InMemoryStudentRepository(16, log);
+        repository.save(student("John Doe", "A1234567", "john@example.com"));
+        Student jane = repository.save(student("Jane Doe", "B1234567", "jane@example.com"));
+        repository.deleteById(jane.getId());
+        repository.snapshot();
+        log.close();
+
+        // When
+        InMemoryStudentRepository recovered = new InMemoryStudentRepository(16, open(WalDurability.OS));
+
+        // Then
+        assertThat(recovered.save(student("New Student", "C1234567", "new@example.com")).getId())
+                .isEqualTo(jane.getId() + 1);
+    }
+
+    @Test
+    void recovery_ShouldTruncateTornTail() throws IOException {
+        // Given
+        StudentMutationLog log = open(WalDurability.FSYNC_PER_COMMIT);
+        InMemoryStudentRepository repository = new InMemoryStudentRepository(16, log);
+        repository.save(student("John Doe", "A1234567", "john@example.com"));
+        log.close();
+        Path segment = files("wal-").get(0);
+        long intactSize = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // When
+        InMemoryStudentRepository recovered = new InMemoryStudentRepository(16, open(WalDurability.FSYNC_PER_COMMIT));
+
+        // Then
+        assertThat(recovered.count()).isEqualTo(1);
+        assertThat(Files.size(segment)).isEqualTo(intactSize);
+    }
+
+    @Test
+    void concurrentWriters_ShouldAllBeDurable() throws Exception {
+        // Given
+        StudentMutationLog log = open(WalDurability.FSYNC_PER_COMMIT);
+        InMemoryStudentRepository repository = new InMemoryStudentRepository(16, log);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<Student>> saves = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String suffix = String.format("%07d", i);
+            saves.add(executor.submit(() -> repository.save(
+                    student("Student " + suffix, "P" + suffix, suffix + "@example.com"))));
+        }
+        for (Future<Student> save : saves) {
+            save.get();
+        }
+        executor.shutdown();
+        log.close();
+
+        // Then
+        InMemoryStudentRepository recovered = new InMemoryStudentRepository(16, open(WalDurability.FSYNC_PER_COMMIT));
+        assertThat(recovered.count()).isEqualTo(200);
+    }
+
+    private StudentMutationLog open(WalDurability durability) {
+        return new FileStudentMutationLog(directory, durability, Duration.ofMillis(10));
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+
+    private static Student student(String name, String passportNumber, String email) {
+        return new Student(name, passportNumber, 21, email, LocalDateTime.now().withNano(0), 2026);
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.crud_api.student.memory;
+
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryStudentRepositoryTest {
+
+    // Transactions with nothing to commit but the repository's own synchronization
+    private final TransactionTemplate transactions = new TransactionTemplate(new AbstractPlatformTransactionManager() {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    });
+
+    private InMemoryStudentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryStudentRepository(4);
+    }
+
+    @Test
+    void save_ShouldAssignIdVersionAndAuditFields() {
+        // Given
+        Student student = student("John Doe", "A1234567", "john@example.com", 2025);
+
+        // When
+        Student saved = repository.save(student);
+
+        // Then
+        assertThat(saved.getId()).isEqualTo(1L);
+        assertThat(saved.getVersion()).isZero();
+        assertThat(saved.getCreatedAt()).isNotNull();
+        assertThat(saved.getUpdatedAt()).isEqualTo(saved.getCreatedAt());
+        assertThat(repository.findById(1L)).get()
+                .extracting(Student::getName, Student::getStatus)
+                .containsExactly("John Doe", StudentStatus.ACTIVE);
+    }
+
+    @Test
+    void save_ShouldOnlyBumpVersionWhenContentChanges() {
+        // Given
+        Student saved = repository.save(student("John Doe", "A1234567", "john@example.com", 2025));
+        Student copy = repository.findById(saved.getId()).orElseThrow();
+
+        // When - save returns the entity it was given, so read the version before saving it again
+        long unchangedVersion = repository.save(copy).getVersion();
+        copy.suspend();
+        Student changed = repository.save(copy);
+
+        // Then
+        assertThat(unchangedVersion).isZero();
+        assertThat(changed.getVersion()).isEqualTo(1L);
+        assertThat(repository.findByStatus(StudentStatus.SUSPENDED)).extracting(Student::getId)
+                .containsExactly(saved.getId());
+        assertThat(repository.findActiveStudents()).isEmpty();
+    }
+
+    @Test
+    void save_WithStaleVersion_ShouldThrowOptimisticLockingFailure() {
+        // Given
+        Student saved = repository.save(student("John Doe", "A1234567", "john@example.com", 2025));
+        Student stale = repository.findById(saved.getId()).orElseThrow();
+        saved.setName("John Updated");
+        repository.save(saved);
+
+        // When & Then
+        stale.setName("Someone Else");
+        assertThatThrownBy(() -> repository.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void save_WithDuplicatePassportOrEmail_ShouldThrowDataIntegrityViolation() {
+        // Given
+        repository.save(student("John Doe", "A1234567", "john@example.com", 2025));
+
+        // When & Then
+        assertThatThrownBy(() -> repository.save(student("Jane Doe", "A1234567", "jane@example.com", 2025)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> repository.save(student("Jane Doe", "B1234567", "john@example.com", 2025)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void secondaryIndexes_ShouldFollowUpdatesAndDeletes() {
+        // Given
+        Student saved = repository.save(student("John Doe", "A1234567", "john@example.com", 2025));
+        repository.save(student("Jane Doe", "B1234567", "jane@example.com", 2026));
+
+        // When
+        saved.setEmail("john.doe@example.com");
+        saved.setGraduationYear(2026);
+        repository.save(saved);
+
+        // Then
+        assertThat(repository.existsByEmail("john@example.com")).isFalse();
+        assertThat(repository.findByEmail("john.doe@example.com")).map(Student::getId).contains(saved.getId());
+        assertThat(repository.findByGraduationYear(2025)).isEmpty();
+        assertThat(repository.findByGraduationYear(2026)).hasSize(2);
+
+        // When
+        repository.deleteById(saved.getId());
+
+        // Then
+        assertThat(repository.findById(saved.getId())).isEmpty();
+        assertThat(repository.existsByPassportNumber("A1234567")).isFalse();
+        assertThat(repository.findByGraduationYear(2026)).extracting(Student::getName).containsExactly("Jane Doe");
+    }
+
+    @Test
+    void deleteById_WithUnknownId_ShouldDoNothing() {
+        // When
+        repository.deleteById(999L);
+
+        // Then
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    void findAll_ShouldSupportSortingAndPaging() {
+        // Given
+        repository.save(student("Charlie", "C1234567", "charlie@example.com", 2025));
+        repository.save(student("Alice", "A1234567", "alice@example.com", 2026));
+        repository.save(student("Bob", "B1234567", "bob@example.com", 2024));
+
+        // When
+        List<Student> byName = repository.findAll(Sort.by("name"));
+        Page<Student> page = repository.findAll(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "graduationYear")));
+
+        // Then
+        assertThat(byName).extracting(Student::getName).containsExactly("Alice", "Bob", "Charlie");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(Student::getName).containsExactly("Bob");
+    }
+
+    @Test
+    void findById_ShouldReturnDetachedCopy() {
+        // Given
+        Student saved = repository.save(student("John Doe", "A1234567", "john@example.com", 2025));
+
+        // When
+        Optional<Student> found = repository.findById(saved.getId());
+        found.orElseThrow().setName("Changed Without Save");
+
+        // Then
+        assertThat(repository.findById(saved.getId())).map(Student::getName).contains("John Doe");
+    }
+
+    @Test
+    void save_InTransaction_ShouldBeAppliedOnCommit() {
+        // When
+        Long id = transactions.execute(status -> {
+            Student saved = repository.save(student("John Doe", "A1234567", "john@example.com", 2025));
+            saved.suspend();
+            repository.save(saved);
+
+            // Then - the writing transaction sees its own write by id only
+            assertThat(repository.findById(saved.getId())).map(Student::getStatus).contains(StudentStatus.SUSPENDED);
+            assertThat(repository.count()).isZero();
+            return saved.getId();
+        });
+
+        // Then
+        assertThat(repository.findById(id)).get()
+                .extracting(Student::getStatus, Student::getVersion)
+                .containsExactly(StudentStatus.SUSPENDED, 1L);
+        assertThat(repository.findByStatus(StudentStatus.SUSPENDED)).hasSize(1);
+    }
+
+    @Test
+    void save_InRolledBackTransaction_ShouldLeaveStoreUntouched() {
+        // Given
+        Student existing = repository.save(student("John Doe", "A1234567", "john@example.com", 2025));
+
+        // When
+        transactions.executeWithoutResult(status -> {
+            Student changed = repository.findById(existing.getId()).orElseThrow();
+            changed.setName("John Updated");
+            repository.save(changed);
+            repository.save(student("Jane Doe", "B1234567", "jane@example.com", 2026));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(repository.findAll()).extracting(Student::getName).containsExactly("John Doe");
+        assertThat(repository.save(student("Jane Again", "B1234567", "jane@example.com", 2026)).getId()).isNotNull();
+    }
+
+    @Test
+    void save_WhileAnotherTransactionHoldsPassportOrStudent_ShouldFail() throws Exception {
+        // Given - an open transaction has created one student and updated another
+        Student existing = repository.save(student("John Doe", "A1234567", "john@example.com", 2025));
+        CountDownLatch staged = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Void> open = CompletableFuture.runAsync(() -> transactions.executeWithoutResult(status -> {
+            repository.save(student("Jane Doe", "B1234567", "jane@example.com", 2026));
+            Student changed = repository.findById(existing.getId()).orElseThrow();
+            changed.setName("John Updated");
+            repository.save(changed);
+            staged.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        staged.await();
+
+        // When & Then
+        assertThatThrownBy(() -> repository.save(student("Jane Twin", "B1234567", "twin@example.com", 2026)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        Student stale = repository.findById(existing.getId()).orElseThrow();
+        stale.setAge(30);
+        assertThatThrownBy(() -> repository.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        finish.countDown();
+        open.get();
+        assertThat(repository.findAll()).extracting(Student::getName).containsExactly("John Updated", "Jane Doe");
+    }
+
+    private static Student student(String name, String passportNumber, String email, Integer graduationYear) {
+        return new Student(name, passportNumber, 21, email, LocalDateTime.now().withNano(0), graduationYear);
+    }
+}
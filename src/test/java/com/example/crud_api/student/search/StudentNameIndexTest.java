@@ -0,0 +1,140 @@
+package com.example.crud_api.student.search;
+
+import com.example.crud_api.student.Student;
+import com.example.crud_api.student.StudentStatus;
+import com.example.crud_api.student.dataset.StudentDatasetGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentNameIndexTest {
+
+    private StudentNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StudentNameIndex();
+        index.upsert(student(1L, "Katherine Johnson", "kjohnson@example.com"));
+        index.upsert(student(2L, "Catherine Jones", "cat.jones@example.com"));
+        index.upsert(student(3L, "Katherine Johnson-Smythe", "kjs@example.com"));
+        index.upsert(student(4L, "Ranga Karanam", "ranga@example.com"));
+        index.upsert(student(5L, "Jos\u00e9 \u00c1lvarez", "jalvarez@example.com"));
+    }
+
+    @Test
+    void search_ShouldRankExactNameAboveLongerNames() {
+        // When
+        List<StudentNameMatch> matches = index.search("katherine johnson", 10, 0.3);
+
+        // Then
+        assertThat(matches).extracting(StudentNameMatch::id).startsWith(1L, 3L);
+        assertThat(matches.get(0).similarity()).isEqualTo(1.0);
+        assertThat(matches.get(0).status()).isEqualTo(StudentStatus.ACTIVE);
+    }
+
+    @Test
+    void search_ShouldTolerateMisspellingsAndPartialInput() {
+        assertThat(index.search("Katherin Jonson", 1, 0.3)).extracting(StudentNameMatch::id).containsExactly(1L);
+        assertThat(index.search("catherine", 1, 0.3)).extracting(StudentNameMatch::id).containsExactly(2L);
+        assertThat(index.search("kara", 5, 0.3)).extracting(StudentNameMatch::id).contains(4L);
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndAccentsAndMatchEmailLocalPart() {
+        assertThat(index.search("jose alvarez", 1, 0.5)).extracting(StudentNameMatch::id).containsExactly(5L);
+        assertThat(index.search("jalvarez", 1, 0.5)).extracting(StudentNameMatch::id).containsExactly(5L);
+    }
+
+    @Test
+    void search_ShouldReturnAtMostLimitBestFirst() {
+        // When
+        List<StudentNameMatch> matches = index.search("katherine", 2, 0.1);
+
+        // Then
+        assertThat(matches).hasSize(2);
+        assertThat(matches.get(0).similarity()).isGreaterThanOrEqualTo(matches.get(1).similarity());
+    }
+
+    @Test
+    void search_OverManySharedTrigrams_ShouldCountHitsPerQuery() {
+        // Given - far more students than the initial capacity, all sharing the query's trigrams
+        for (long id = 100; id < 3_100; id++) {
+            index.upsert(student(id, "Katherine Student", "student" + id + "@example.com"));
+        }
+
+        // When
+        List<StudentNameMatch> first = index.search("katherine johnson", 3, 0.3);
+        List<StudentNameMatch> second = index.search("katherine johnson", 3, 0.3);
+
+        // Then - no hits carried over from the first query
+        assertThat(first).extracting(StudentNameMatch::id).containsExactly(1L, 3L, 100L);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void search_ShouldRankLikeScoringEveryStudent() {
+        // Given - common names, so the walk stops before the longest posting lists
+        Map<Long, long[]> documents = new HashMap<>();
+        long[] nextId = {100};
+        new StudentDatasetGenerator(7, Set.of()).generate(5_000, generated -> {
+            Student student = student(nextId[0]++, generated.name(), generated.email());
+            index.upsert(student);
+            documents.put(student.getId(), Trigrams.of(student.getName(), Trigrams.localPart(student.getEmail())));
+        });
+
+        for (String query : List.of("james smith", "Patricia Jonson", "wei", "kowalsky anna", "m. garcia")) {
+            // When
+            List<StudentNameMatch> matches = index.search(query, 5, 0.3);
+
+            // Then
+            long[] queryTrigrams = Trigrams.of(query);
+            List<Long> expected = documents.entrySet().stream()
+                    .map(document -> Scored.of(document.getKey(), queryTrigrams, document.getValue()))
+                    .filter(scored -> scored.hits() >= Math.ceil(0.3 * queryTrigrams.length))
+                    .sorted(Comparator.comparingInt(Scored::hits).thenComparingDouble(Scored::jaccard).reversed()
+                            .thenComparingLong(Scored::id))
+                    .limit(5)
+                    .map(Scored::id)
+                    .toList();
+            assertThat(matches).as(query).extracting(StudentNameMatch::id).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void upsertAndRemove_ShouldKeepIndexCurrent() {
+        // When
+        index.upsert(student(4L, "Ranga Krishnan", "ranga@example.com"));
+        index.remove(1L);
+
+        // Then
+        assertThat(index.search("krishnan", 5, 0.5)).extracting(StudentNameMatch::id).containsExactly(4L);
+        assertThat(index.search("karanam", 5, 0.5)).isEmpty();
+        assertThat(index.search("kjohnson", 5, 0.5)).extracting(StudentNameMatch::id).doesNotContain(1L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    private record Scored(long id, int hits, double jaccard) {
+
+        static Scored of(long id, long[] queryTrigrams, long[] documentTrigrams) {
+            int hits = (int) Arrays.stream(queryTrigrams)
+                    .filter(trigram -> Arrays.binarySearch(documentTrigrams, trigram) >= 0)
+                    .count();
+            return new Scored(id, hits, (double) hits / (queryTrigrams.length + documentTrigrams.length - hits));
+        }
+    }
+
+    private static Student student(Long id, String name, String email) {
+        Student student = new Student(name, "P" + id, 21, email, LocalDateTime.now(), 2026);
+        student.setId(id);
+        return student;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.crud_api.student.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class StudentSearchIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void searchByName_ShouldFindSeededStudentDespiteTypo() throws Exception {
+        mockMvc.perform(get("/api/v1/students/search/name").param("q", "Ranga Karanm"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(10001)))
+                .andExpect(jsonPath("$[0].name", is("Ranga Karanam")))
+                .andExpect(jsonPath("$[0].similarity", greaterThan(0.5)));
+    }
+
+    @Test
+    void searchByName_WithInvalidLimit_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/students/search/name").param("q", "ranga").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchByName_WithBlankQuery_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/students/search/name").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+}